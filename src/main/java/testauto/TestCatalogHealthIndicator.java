@@ -0,0 +1,49 @@
+package testauto;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+import testauto.repository.TestCatalogCache;
+import testauto.repository.TestCatalogSnapshot;
+import testauto.service.TestCatalogRefreshMonitor;
+
+/**
+ * /actuator/health 의 testCatalog 항목
+ * - 활성 세대를 읽을 수 있으면 UP (새로고침이 진행 중이거나 실패해도 직전 세대로 응답 가능)
+ * - 새로고침 상태/단계는 details 로 노출
+ */
+@Component("testCatalog")
+@RequiredArgsConstructor
+public class TestCatalogHealthIndicator implements HealthIndicator {
+
+    private final TestCatalogCache catalogCache;
+    private final TestCatalogRefreshMonitor refreshMonitor;
+
+    @Override
+    public Health health() {
+        Health.Builder builder;
+        try {
+            TestCatalogSnapshot snapshot = catalogCache.snapshot();
+            builder = Health.up()
+                    .withDetail("generation", snapshot.getGeneration())
+                    .withDetail("nodes", snapshot.size());
+        } catch (Exception e) {
+            builder = Health.down(e);
+        }
+
+        Health.Builder details = builder;
+        refreshMonitor.current().ifPresent(job -> {
+            details.withDetail("refreshJobId", job.jobId())
+                    .withDetail("refreshState", job.state())
+                    .withDetail("refreshPhase", job.phase() != null ? job.phase() : "-");
+            if (job.startedAt() != null) {
+                details.withDetail("refreshStartedAt", job.startedAt().toString());
+            }
+            if (job.error() != null) {
+                details.withDetail("refreshError", job.error());
+            }
+        });
+        return builder.build();
+    }
+}
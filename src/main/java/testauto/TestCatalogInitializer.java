@@ -5,23 +5,33 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.stereotype.Component;
+import testauto.repository.TestCatalogCache;
+import testauto.repository.TestCatalogSnapshot;
 import testauto.service.TestCatalogService;
 
+/**
+ * 기동 시 카탈로그 준비
+ * - 마지막으로 활성화된 세대를 DB 에서 바로 읽어 즉시 응답 가능 상태로 만든다
+ * - git pull / 컴파일 / 디스커버리는 백그라운드에서 수행하고, 끝나면 새 세대로 교체된다
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class TestCatalogInitializer implements ApplicationRunner {
 
     private final TestCatalogService testCatalogService;
+    private final TestCatalogCache catalogCache;
 
     @Override
     public void run(ApplicationArguments args) {
         try {
-            testCatalogService.refreshTestCatalog();
+            TestCatalogSnapshot snapshot = catalogCache.snapshot();
+            log.info("Serving last persisted test catalog: generation {}, {} nodes",
+                    snapshot.getGeneration(), snapshot.size());
         } catch (Exception e) {
-            log.warn("Failed to refresh test catalog on startup: {}. " +
-                    "Make sure testcode project exists at configured path. " +
-                    "You can manually refresh via API.", e.getMessage());
+            log.warn("Failed to load persisted test catalog on startup: {}", e.getMessage());
         }
+
+        testCatalogService.refreshTestCatalogInBackground("STARTUP");
     }
-}
\ No newline at end of file
+}
@@ -4,23 +4,50 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import testauto.domain.ExecutionClass;
 import testauto.domain.TestExecution;
 import testauto.domain.TestResult;
 import testauto.domain.TestSummary;
-import testauto.dto.ClassDetailDto;
+import testauto.dto.ClassExecutionPageDto;
+import testauto.dto.DurationEstimateDto;
+import testauto.dto.ExecutionPageDto;
 import testauto.dto.TestExecutionRequest;
 import testauto.dto.TestExecutionResponse;
+import testauto.dto.TestHistoryDto;
+import testauto.dto.TestResultDetailDto;
+import testauto.dto.TestResultNodeDto;
+import testauto.dto.TestSearchHitDto;
+import testauto.dto.TestStatsDto;
 import testauto.dto.TreeNodeDto;
+import testauto.dto.TreePageDto;
+import testauto.repository.TestExecutionFilter;
 import testauto.repository.TestExecutionRepository;
+import testauto.service.DashboardSnapshotService;
+import testauto.service.Payload;
+import testauto.service.TestCatalogPayloadService;
+import testauto.service.TestCatalogRefreshMonitor;
 import testauto.service.TestCatalogService;
+import testauto.service.TestEventStream;
 import testauto.service.TestExecutionService;
+import testauto.service.TestHistoryService;
+import testauto.service.TestRetentionService;
+import testauto.service.TestSearchService;
 import testauto.service.TestTreeService;
 import testauto.service.SourceCodeService;
 
+import java.io.IOException;
+import java.net.URI;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -34,26 +61,142 @@ public class TestApiController {
     private final TestExecutionService testExecutionService;
     private final SourceCodeService sourceCodeService;
     private final TestExecutionRepository testExecutionRepository;
+    private final TestCatalogPayloadService testCatalogPayloadService;
+    private final TestSearchService testSearchService;
+    private final TestCatalogRefreshMonitor testCatalogRefreshMonitor;
+    private final DashboardSnapshotService dashboardSnapshotService;
+    private final TestEventStream testEventStream;
+    private final TestHistoryService testHistoryService;
+    private final TestRetentionService testRetentionService;
 
     @GetMapping("/tree")
-    public ResponseEntity<TreeNodeDto> getTestTree() {
-        TreeNodeDto tree = testTreeService.buildTree();
-        return ResponseEntity.ok(tree);
+    public ResponseEntity<byte[]> getTestTree(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return payloadResponse(testCatalogPayloadService.getTreePayload(), ifNoneMatch, acceptEncoding);
+    }
+
+    @GetMapping("/tree/children")
+    public ResponseEntity<TreePageDto> getTreeChildren(
+            @RequestParam(required = false) String path,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "200") int limit) {
+        return ResponseEntity.ok(testTreeService.getChildren(path, offset, limit));
     }
 
     @PostMapping("/refresh")
-    public ResponseEntity<RefreshResponse> refreshTestCatalog() {
-        testCatalogService.refreshTestCatalog();
-        TreeNodeDto tree = testTreeService.buildTree();
-        return ResponseEntity.ok(new RefreshResponse("SUCCESS", "Test catalog refreshed", tree));
+    public ResponseEntity<RefreshJobResponse> refreshTestCatalog() {
+        TestCatalogRefreshMonitor.Submission submission = testCatalogService.submitRefresh("MANUAL");
+        String jobId = submission.job().jobId();
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/tests/refresh/jobs/" + jobId))
+                .body(new RefreshJobResponse(jobId, submission.created(), submission.job()));
     }
 
+    /**
+     * @param created false 면 이미 진행 중인 job 에 합류한 것
+     */
+    public record RefreshJobResponse(String jobId, boolean created, TestCatalogRefreshMonitor.RefreshJobStatus job) {}
+
     public record RefreshResponse(String status, String message, TreeNodeDto tree) {}
 
+    @GetMapping("/refresh/status")
+    public ResponseEntity<TestCatalogRefreshMonitor.RefreshJobStatus> getRefreshStatus() {
+        return testCatalogRefreshMonitor.current()
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.noContent().build());
+    }
+
+    @GetMapping("/refresh/jobs/{jobId}")
+    public ResponseEntity<TestCatalogRefreshMonitor.RefreshJobStatus> getRefreshJob(@PathVariable String jobId) {
+        return testCatalogRefreshMonitor.find(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/refresh/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamRefreshJob(@PathVariable String jobId) {
+        return testCatalogRefreshMonitor.subscribe(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/refresh/rollback")
+    public ResponseEntity<RefreshResponse> rollbackTestCatalog() {
+        long generation = testCatalogService.rollbackTestCatalog();
+        TreeNodeDto tree = testTreeService.buildTree();
+        return ResponseEntity.ok(new RefreshResponse("SUCCESS", "Test catalog rolled back to generation " + generation, tree));
+    }
+
     @GetMapping("/class/{className}")
-    public ResponseEntity<ClassDetailDto> getClassDetail(@PathVariable @NotBlank(message = "Class name cannot be blank") String className) {
-        ClassDetailDto detail = testCatalogService.getClassDetail(className);
-        return ResponseEntity.ok(detail);
+    public ResponseEntity<byte[]> getClassDetail(
+            @PathVariable @NotBlank(message = "Class name cannot be blank") String className,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return payloadResponse(testCatalogPayloadService.getClassDetailPayload(className), ifNoneMatch, acceptEncoding);
+    }
+
+    /**
+     * 클래스 하나의 실행 이력 - 최신순 키셋 페이지 (클래스별 상태 / 테스트 수 / 소요 시간)
+     */
+    @GetMapping("/class/{className}/executions")
+    public ResponseEntity<ClassExecutionPageDto> getClassExecutions(
+            @PathVariable @NotBlank(message = "Class name cannot be blank") String className,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String cursor) {
+        return ResponseEntity.ok(testExecutionService.getClassExecutionPage(className, cursor, limit));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<SearchResponse> searchTests(
+            @RequestParam @NotBlank(message = "Search query cannot be blank") String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        long start = System.nanoTime();
+        List<TestSearchHitDto> hits = testSearchService.search(q, Math.max(1, Math.min(limit, 100)));
+        long tookMicros = (System.nanoTime() - start) / 1_000;
+        return ResponseEntity.ok(new SearchResponse(q, tookMicros, hits));
+    }
+
+    public record SearchResponse(String query, long tookMicros, List<TestSearchHitDto> hits) {}
+
+    /**
+     * 미리 직렬화된 본문 응답 - ETag 일치 시 304, gzip 수용 시 압축본 전송 (압축본은 별도 ETag)
+     */
+    private ResponseEntity<byte[]> payloadResponse(Payload payload, String ifNoneMatch, String acceptEncoding) {
+        return payloadResponse(payload, ifNoneMatch, acceptEncoding, HttpHeaders.EMPTY);
+    }
+
+    private ResponseEntity<byte[]> payloadResponse(Payload payload, String ifNoneMatch, String acceptEncoding,
+                                                   HttpHeaders headers) {
+        boolean gzipped = payload.useGzip(acceptEncoding);
+        if (payload.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .headers(headers)
+                    .eTag(payload.etag(gzipped))
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .headers(headers)
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(payload.etag(gzipped))
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (gzipped) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.gzip());
+        }
+        return builder.body(payload.json());
+    }
+
+    /**
+     * 실행 전 클래스 묶음의 예상 실행 시간 (실행 요청과 같은 본문)
+     */
+    @PostMapping("/estimate")
+    public ResponseEntity<DurationEstimateDto> estimateTests(@Valid @RequestBody TestExecutionRequest request) {
+        return ResponseEntity.ok(testHistoryService.estimate(request.getClassNames()));
     }
 
     @PostMapping("/run")
@@ -72,6 +215,22 @@ public class TestApiController {
                 .build());
     }
 
+    /**
+     * 실행 하나와 같은 클래스 묶음으로 재실행
+     */
+    @PostMapping("/executions/{executionId}/rerun")
+    public ResponseEntity<TestExecutionResponse> rerunExecution(
+            @PathVariable String executionId,
+            HttpServletRequest httpRequest) {
+        return testExecutionService.rerun(executionId, getClientIp(httpRequest))
+                .map(newExecutionId -> ResponseEntity.ok(TestExecutionResponse.builder()
+                        .executionId(newExecutionId)
+                        .status("RUNNING")
+                        .message("Test execution started")
+                        .build()))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     private String getClientIp(HttpServletRequest request) {
         String ip = request.getHeader("X-Forwarded-For");
         if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
@@ -98,7 +257,8 @@ public class TestApiController {
         return ResponseEntity.ok(new MethodCodeResponse(code));
     }
 
-    public record TestResultsResponse(TestSummary summary, List<TestResult> results) {}
+    public record TestResultsResponse(TestSummary summary, List<TestResult> results, boolean compacted) {}
+    public record TestResultOutlineResponse(TestSummary summary, List<TestResultNodeDto> results, boolean compacted) {}
     public record MethodCodeResponse(String code) {}
     public record ServerTimeResponse(String today) {}
     public record AuthCheckResponse(boolean authorized, String message) {}
@@ -117,10 +277,63 @@ public class TestApiController {
         return ResponseEntity.ok(new ServerTimeResponse(today));
     }
 
+    /**
+     * 대시보드 - 변경 이벤트마다 한 번 만든 스냅샷을 모든 요청이 공유 (ETag 일치 시 304)
+     * X-Dashboard-Version 은 변경 이벤트마다 증가하는 스냅샷 버전
+     *
+     * @param days 일별 추이 기간 (기본 7일, 최대 90일) - 일별 집계 테이블을 읽으므로 기간과 이력 크기에 비용이 거의 무관
+     */
     @GetMapping("/dashboard")
-    public ResponseEntity<DashboardResponse> getDashboard() {
-        DashboardResponse dashboard = testExecutionService.getDashboardStats();
-        return ResponseEntity.ok(dashboard);
+    public ResponseEntity<byte[]> getDashboard(
+            @RequestParam(defaultValue = "7") int days,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Dashboard-Version", String.valueOf(dashboardSnapshotService.version()));
+        return payloadResponse(dashboardSnapshotService.getDashboardPayload(days), ifNoneMatch, acceptEncoding, headers);
+    }
+
+    /**
+     * 실행 / 테스트 진행 / 대시보드 변경 SSE - 재연결 시 Last-Event-ID 이후 이벤트를 다시 받는다
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return testEventStream.subscribe(lastEventId);
+    }
+
+    @GetMapping("/dashboard/classes")
+    public ResponseEntity<List<ClassStats>> getDashboardClasses(
+            @RequestParam(defaultValue = "30") int days,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(testExecutionService.getClassStats(days, limit));
+    }
+
+    /**
+     * 테스트 하나의 누적 요약 + 최신순 실행 이력 (집계된 적 없는 테스트면 404)
+     *
+     * @param before            이전 응답의 nextBefore (다음 페이지)
+     * @param beforeExecutionId 이전 응답의 nextBeforeExecutionId
+     */
+    @GetMapping("/history")
+    public ResponseEntity<TestHistoryDto> getTestHistory(
+            @RequestParam String uniqueId,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime before,
+            @RequestParam(required = false) String beforeExecutionId) {
+        return testHistoryService.getHistory(uniqueId, before, beforeExecutionId, limit)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 최근 days 일 안에 실행된 테스트 중 결과가 자주 바뀐 (불안정한) 순
+     */
+    @GetMapping("/flaky")
+    public ResponseEntity<List<TestStatsDto>> getFlakyTests(
+            @RequestParam(defaultValue = "30") int days,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(testHistoryService.getFlakiestTests(days, limit));
     }
 
     public record DashboardResponse(
@@ -142,7 +355,8 @@ public class TestApiController {
             long totalDurationMillis,
             String requesterName,
             String requesterIp,
-            String classNames
+            String classNames,
+            List<ExecutionClass> classes
     ) {}
 
     public record TodayStats(
@@ -161,6 +375,17 @@ public class TestApiController {
             int failedCount
     ) {}
 
+    public record ClassStats(
+            String className,
+            int executions,
+            int totalTests,
+            int successCount,
+            int failedCount,
+            int skippedCount,
+            long totalDurationMillis,
+            double successRate
+    ) {}
+
     public record RecentFailure(
             String displayName,
             String errorMessage,
@@ -168,11 +393,20 @@ public class TestApiController {
             String executionId
     ) {}
 
+    /**
+     * 실행 이력 - 최신순 키셋 페이지 (응답의 nextCursor 를 cursor 로 넘기면 다음 페이지)
+     */
     @GetMapping("/executions")
-    public ResponseEntity<List<TestExecution>> getRecentExecutions(
-            @RequestParam(defaultValue = "20") int limit) {
-        List<TestExecution> executions = testExecutionService.getRecentExecutions(limit);
-        return ResponseEntity.ok(executions);
+    public ResponseEntity<ExecutionPageDto> getExecutions(
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String requester,
+            @RequestParam(required = false) String className,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        TestExecutionFilter filter = new TestExecutionFilter(status, requester, className, from, to);
+        return ResponseEntity.ok(testExecutionService.getExecutionPage(filter, cursor, limit));
     }
 
     @GetMapping("/executions/{executionId}")
@@ -182,16 +416,51 @@ public class TestApiController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * 실행 결과 트리 - 기본은 id / 이름 / 상태 / 소요 시간만 (본문은 /results/{resultId} 로 따로 조회)
+     * details=true 면 예전처럼 에러 메시지 / 스택 트레이스 / stdout 까지 포함
+     */
     @GetMapping("/executions/{executionId}/results")
-    public ResponseEntity<TestResultsResponse> getExecutionResults(
-            @PathVariable String executionId) {
-        List<TestResult> results = testExecutionService.getExecutionResultTree(executionId);
+    public ResponseEntity<?> getExecutionResults(
+            @PathVariable String executionId,
+            @RequestParam(defaultValue = "false") boolean details) {
+        // 보관 정리된 실행은 실패 결과만 남아 있으므로 요약은 실행 행 카운터로
+        TestExecution compacted = testExecutionService.getExecution(executionId)
+                .filter(TestExecution::isCompacted)
+                .orElse(null);
+        TestSummary summary = compacted != null ? TestSummary.of(compacted) : new TestSummary();
+        if (details) {
+            List<TestResult> results = testExecutionService.getExecutionResultTree(executionId);
+            if (compacted == null) {
+                calculateSummary(results, summary);
+            }
+            return ResponseEntity.ok(new TestResultsResponse(summary, results, compacted != null));
+        }
+
+        List<TestResultNodeDto> results = testExecutionService.getExecutionResultOutline(executionId);
+        if (compacted == null) {
+            calculateOutlineSummary(results, summary);
+        }
+        return ResponseEntity.ok(new TestResultOutlineResponse(summary, results, compacted != null));
+    }
 
-        // Summary 계산
-        TestSummary summary = new TestSummary();
-        calculateSummary(results, summary);
+    /**
+     * 보관 정리된 (또는 삭제된) 실행의 전체 결과를 보관 파일에서 복원
+     */
+    @PostMapping("/executions/{executionId}/restore")
+    public ResponseEntity<Void> restoreExecution(@PathVariable String executionId) throws IOException {
+        return testRetentionService.restore(executionId)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
 
-        return ResponseEntity.ok(new TestResultsResponse(summary, results));
+    @GetMapping("/executions/{executionId}/results/{resultId}")
+    public ResponseEntity<TestResultDetailDto> getExecutionResultDetail(
+            @PathVariable String executionId,
+            @PathVariable long resultId) {
+        return testExecutionService.getExecutionResultDetail(executionId, resultId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
     }
 
     private void calculateSummary(List<TestResult> results, TestSummary summary) {
@@ -208,4 +477,19 @@ public class TestApiController {
             calculateSummary(result.getChildren(), summary);
         }
     }
+
+    private void calculateOutlineSummary(List<TestResultNodeDto> results, TestSummary summary) {
+        for (TestResultNodeDto result : results) {
+            if (result.getChildren().isEmpty()) {
+                summary.incTotal();
+                summary.addDuration(result.getDurationMillis());
+                switch (result.getStatus()) {
+                    case "SUCCESS" -> summary.incSuccess();
+                    case "FAILED" -> summary.incFailed();
+                    case "SKIPPED" -> summary.incSkipped();
+                }
+            }
+            calculateOutlineSummary(result.getChildren(), summary);
+        }
+    }
 }
@@ -4,7 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
-import testauto.dto.TreeNodeDto;
+import testauto.dto.TreePageDto;
 import testauto.service.TestCatalogService;
 import testauto.service.TestTreeService;
 
@@ -16,9 +16,9 @@ public class TestPlatformMainController {
 
     @GetMapping("/")
     public String root(Model model) {
-        TreeNodeDto root = testTreeService.buildTree();
+        // 트리 본문은 사이드바에서 /api/tests/tree/children 로 단계별 조회
+        TreePageDto root = testTreeService.getChildren(null, 0, 0);
         model.addAttribute("rootPackageName", root.getName());
-        model.addAttribute("testTree", root.getChildren());
         return "index"; // templates 기준이면 이름 맞춰서
     }
 //    @GetMapping("/refresh/catalog")
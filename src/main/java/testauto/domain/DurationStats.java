@@ -0,0 +1,55 @@
+package testauto.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 최근 소요 시간 표본 통계 (밀리초)
+ * 표본은 c_test_stats / c_test_class_duration 의 recent_durations 컬럼 - 쉼표 구분, 최신이 맨 앞, 최대 WINDOW 개
+ *
+ * @param recentMillis 최근 표본 (최신이 맨 앞)
+ */
+public record DurationStats(int samples, long meanMillis, long p50Millis, long p95Millis, List<Long> recentMillis) {
+
+    public static final int WINDOW = 20;
+
+    public static final DurationStats EMPTY = new DurationStats(0, 0, 0, 0, List.of());
+
+    public static DurationStats of(String recentDurations) {
+        if (recentDurations == null || recentDurations.isEmpty()) {
+            return EMPTY;
+        }
+        String[] parts = recentDurations.split(",");
+        List<Long> recent = new ArrayList<>(parts.length);
+        for (String part : parts) {
+            recent.add(Long.parseLong(part));
+        }
+        long[] sorted = recent.stream().mapToLong(Long::longValue).sorted().toArray();
+        long sum = Arrays.stream(sorted).sum();
+        return new DurationStats(sorted.length, Math.round((double) sum / sorted.length),
+                percentile(sorted, 50), percentile(sorted, 95), List.copyOf(recent));
+    }
+
+    /**
+     * 표본 문자열 맨 앞에 추가하고 WINDOW 개로 자른다
+     */
+    public static String append(String recentDurations, long millis) {
+        StringBuilder sb = new StringBuilder().append(Math.max(millis, 0));
+        if (recentDurations != null && !recentDurations.isEmpty()) {
+            String[] parts = recentDurations.split(",");
+            for (int i = 0; i < Math.min(parts.length, WINDOW - 1); i++) {
+                sb.append(',').append(parts[i]);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * nearest-rank 백분위
+     */
+    private static long percentile(long[] sorted, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+}
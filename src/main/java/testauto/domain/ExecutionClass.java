@@ -0,0 +1,29 @@
+package testauto.domain;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 실행 하나에서 요청한 클래스 하나 (c_test_execution_class)
+ * 실행 요청 시 RUNNING 으로 추가하고, 실행이 끝나면 클래스별 결과로 갱신
+ *
+ * @param status RUNNING / SUCCESS / FAILED / SKIPPED (테스트가 없거나 전부 건너뜀)
+ */
+public record ExecutionClass(String executionId, String className, LocalDateTime startedAt, String status,
+                             int totalTests, int failedCount, long durationMillis) {
+
+    /**
+     * 실행 요청 시 쉼표로 이어 붙인 클래스명 (c_test_execution.class_names) 을 나눈다 - 행을 만들 때 / 기존 이력 백필에서만
+     */
+    public static List<String> split(String classNames) {
+        if (classNames == null || classNames.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(classNames.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .distinct()
+                .toList();
+    }
+}
@@ -0,0 +1,12 @@
+package testauto.domain;
+
+import testauto.repository.TestCatalogSnapshot;
+
+/**
+ * 카탈로그 스냅샷이 교체되었을 때 발행되는 이벤트
+ *
+ * @param previous 교체 전 스냅샷 (최초 적재 시 null)
+ * @param current  교체 후 스냅샷
+ */
+public record TestCatalogChangedEvent(TestCatalogSnapshot previous, TestCatalogSnapshot current) {
+}
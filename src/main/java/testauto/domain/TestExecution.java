@@ -4,7 +4,9 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @Setter
@@ -21,5 +23,32 @@ public class TestExecution {
     private String requesterIp;
     private String requesterName;
     private String classNames;
+    private List<ExecutionClass> classes; // 요청 클래스별 상태 / 결과 (c_test_execution_class)
     private String status; // RUNNING, COMPLETED
+    private Long estimatedDurationMillis; // 요청 시점 예상 소요 시간 (이력이 없으면 null)
+    private boolean compacted; // 보관 기간이 지나 요약 + 실패 결과만 남은 실행 (전체는 보관 파일에서 복원)
+
+    /**
+     * 예상 종료 시각 (수행중이고 예상 시간이 있을 때만)
+     */
+    public LocalDateTime getEstimatedFinishAt() {
+        if (!"RUNNING".equals(status) || estimatedDurationMillis == null || startedAt == null) {
+            return null;
+        }
+        return startedAt.plus(Duration.ofMillis(estimatedDurationMillis));
+    }
+
+    /**
+     * 경과 시간 / 예상 시간 (%) - 예상보다 오래 걸리면 끝날 때까지 99, 끝났으면 100
+     */
+    public Integer getPercentComplete() {
+        if (status != null && !"RUNNING".equals(status)) {
+            return 100;
+        }
+        if (estimatedDurationMillis == null || estimatedDurationMillis <= 0 || startedAt == null) {
+            return null;
+        }
+        long elapsed = Duration.between(startedAt, LocalDateTime.now()).toMillis();
+        return (int) Math.min(99, Math.max(0, elapsed * 100 / estimatedDurationMillis));
+    }
 }
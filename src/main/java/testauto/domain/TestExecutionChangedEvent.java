@@ -0,0 +1,16 @@
+package testauto.domain;
+
+/**
+ * 실행 상태가 바뀌었을 때 발행되는 이벤트
+ *
+ * @param executionId 실행 ID
+ * @param type        SUBMITTED (실행 요청), PROGRESSED (중간 결과 저장), FINISHED (COMPLETED / FAILED 확정)
+ */
+public record TestExecutionChangedEvent(String executionId, Type type) {
+
+    public enum Type {
+        SUBMITTED,
+        PROGRESSED,
+        FINISHED
+    }
+}
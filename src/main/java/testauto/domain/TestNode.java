@@ -12,4 +12,41 @@ public class TestNode {
     private final String displayName;
     private final String className;
     private final String type;
+    private final String tags; // 콤마 구분 @Tag 목록
+
+    /**
+     * uniqueId 의 최상위 [class:...] 구간 (static 중첩 클래스면 Outer$Inner 그대로), 클래스 아래 노드가 아니면 null
+     * 예: [engine:junit-jupiter]/[class:com.example.Test]/[method:test()] -> com.example.Test
+     */
+    public static String extractTopLevelClass(String uniqueId) {
+        int classStart = uniqueId.indexOf("[class:");
+        if (classStart == -1) {
+            return null;
+        }
+        int classEnd = uniqueId.indexOf("]", classStart);
+        return classEnd == -1 ? null : uniqueId.substring(classStart + 7, classEnd);
+    }
+
+    /**
+     * uniqueId 가 속한 (중첩) 클래스 - 최상위 [class:...] 뒤에 [nested-class:...] 마다 $ 로 이어 붙인다, 클래스 아래 노드가 아니면 null
+     * 예: [class:com.example.Test]/[nested-class:Inner]/[method:test()] -> com.example.Test$Inner
+     */
+    public static String extractTestClass(String uniqueId) {
+        String topLevel = extractTopLevelClass(uniqueId);
+        if (topLevel == null) {
+            return null;
+        }
+        StringBuilder testClass = new StringBuilder(topLevel);
+        int from = 0;
+        int nestedStart;
+        while ((nestedStart = uniqueId.indexOf("[nested-class:", from)) != -1) {
+            int nestedEnd = uniqueId.indexOf("]", nestedStart);
+            if (nestedEnd == -1) {
+                break;
+            }
+            testClass.append('$').append(uniqueId, nestedStart + 14, nestedEnd);
+            from = nestedEnd;
+        }
+        return testClass.toString();
+    }
 }
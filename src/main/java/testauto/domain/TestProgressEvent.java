@@ -0,0 +1,16 @@
+package testauto.domain;
+
+/**
+ * 실행 중 테스트 하나가 끝났을 때 발행되는 이벤트 (러너 이벤트 기준, 컨테이너 제외)
+ *
+ * @param status SUCCESS / FAILED / SKIPPED
+ */
+public record TestProgressEvent(
+        String executionId,
+        String testId,
+        String parentId,
+        String displayName,
+        String status,
+        long durationMillis
+) {
+}
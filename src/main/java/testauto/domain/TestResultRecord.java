@@ -18,4 +18,10 @@ public class TestResultRecord {
     private String errorMessage;
     private String stackTrace;
     private String stdout;
+    // c_test_blob 에 저장된 본문의 해시 (본문 컬럼 대신 사용, 조회 시 본문으로 채워짐)
+    private String errorMessageHash;
+    private String stackTraceHash;
+    private String stdoutHash;
+    // 경량 조회에서 본문 컬럼 대신 채우는 값 (본문이 하나라도 있는지)
+    private boolean hasDetails;
 }
@@ -0,0 +1,139 @@
+package testauto.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 테스트별 실행 요약 (c_test_stats)
+ * 상태 코드는 c_test_history 와 같은 한 글자 (S / F / K)
+ */
+@Getter
+@Setter
+@Builder
+public class TestStats {
+    public static final int RECENT_WINDOW = 20;
+
+    private String testId;
+    private String displayName;
+    private String className;
+    private int runs;
+    private int passes;
+    private int failures;
+    private int skips;
+    private int flips;
+    private String recentStatuses; // 최신이 맨 앞
+    private int recentFlips;
+    private char lastStatus;
+    private LocalDateTime lastRunAt;
+    private LocalDateTime lastFailureAt;
+    private String lastFailureExecutionId;
+    private String recentDurations; // 건너뜀 제외 최근 소요 시간 (DurationStats 형식)
+
+    public static char code(TestStatus status) {
+        return switch (status) {
+            case SUCCESS -> 'S';
+            case FAILED -> 'F';
+            default -> 'K';
+        };
+    }
+
+    public static TestStatus status(char code) {
+        return switch (code) {
+            case 'S' -> TestStatus.SUCCESS;
+            case 'F' -> TestStatus.FAILED;
+            default -> TestStatus.SKIPPED;
+        };
+    }
+
+    /**
+     * 실행 한 번의 결과 반영 (보통 실행 시작 순서대로 호출)
+     * 마지막 반영보다 먼저 시작한 실행이 늦게 끝나 뒤늦게 들어오면 누적 횟수만 더한다
+     * (최근 결과 / 전환 횟수 / 소요 시간은 순서가 어긋나므로 건드리지 않는다)
+     */
+    public void record(char status, long durationMillis, LocalDateTime runAt, String executionId) {
+        runs++;
+        switch (status) {
+            case 'S' -> passes++;
+            case 'F' -> failures++;
+            default -> skips++;
+        }
+        if (status == 'F' && (lastFailureAt == null || !runAt.isBefore(lastFailureAt))) {
+            lastFailureAt = runAt;
+            lastFailureExecutionId = executionId;
+        }
+        if (lastRunAt != null && runAt.isBefore(lastRunAt)) {
+            return;
+        }
+
+        Character previous = lastDecided(recentStatuses);
+        if (status != 'K' && previous != null && previous != status) {
+            flips++;
+        }
+        String recent = status + (recentStatuses != null ? recentStatuses : "");
+        recentStatuses = recent.length() > RECENT_WINDOW ? recent.substring(0, RECENT_WINDOW) : recent;
+        recentFlips = countFlips(recentStatuses);
+        if (status != 'K') {
+            recentDurations = DurationStats.append(recentDurations, durationMillis);
+        }
+        lastStatus = status;
+        lastRunAt = runAt;
+    }
+
+    public DurationStats durationStats() {
+        return DurationStats.of(recentDurations);
+    }
+
+    /**
+     * 최근 결과 중 성공 비율 (건너뜀 제외, 결과가 없으면 0)
+     */
+    public double recentPassRate() {
+        int decided = 0, passed = 0;
+        for (char c : recentStatuses.toCharArray()) {
+            if (c != 'K') {
+                decided++;
+                if (c == 'S') {
+                    passed++;
+                }
+            }
+        }
+        return decided > 0 ? passed * 100.0 / decided : 0;
+    }
+
+    /**
+     * 불안정 지수 0~1 - 최근 결과에서 성공/실패가 바뀔 수 있는 기회 대비 실제로 바뀐 비율
+     */
+    public double flakiness() {
+        int decided = (int) recentStatuses.chars().filter(c -> c != 'K').count();
+        return decided > 1 ? (double) recentFlips / (decided - 1) : 0;
+    }
+
+    private static Character lastDecided(String statuses) {
+        if (statuses == null) {
+            return null;
+        }
+        for (char c : statuses.toCharArray()) {
+            if (c != 'K') {
+                return c;
+            }
+        }
+        return null;
+    }
+
+    private static int countFlips(String statuses) {
+        int count = 0;
+        char previous = 0;
+        for (char c : statuses.toCharArray()) {
+            if (c == 'K') {
+                continue;
+            }
+            if (previous != 0 && previous != c) {
+                count++;
+            }
+            previous = c;
+        }
+        return count;
+    }
+}
@@ -10,6 +10,19 @@ public class TestSummary {
     private int skipped;
     private long totalDurationMillis;
 
+    /**
+     * 실행 행 카운터로 요약 (결과 일부만 남은 실행 - 보관 정리 후)
+     */
+    public static TestSummary of(TestExecution execution) {
+        TestSummary summary = new TestSummary();
+        summary.total = execution.getTotalTests();
+        summary.success = execution.getSuccessCount();
+        summary.failed = execution.getFailedCount();
+        summary.skipped = execution.getSkippedCount();
+        summary.totalDurationMillis = execution.getTotalDurationMillis();
+        return summary;
+    }
+
     public void incTotal() {
         this.total++;
     }
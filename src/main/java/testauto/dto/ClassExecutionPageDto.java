@@ -0,0 +1,17 @@
+package testauto.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import testauto.domain.ExecutionClass;
+
+import java.util.List;
+
+/**
+ * 클래스 하나의 실행 이력 한 페이지 (키셋 페이지네이션)
+ */
+@Getter
+@Builder
+public class ClassExecutionPageDto {
+    private List<ExecutionClass> items;
+    private String nextCursor;      // 다음 페이지 조회용 커서, 마지막 페이지면 null
+}
@@ -0,0 +1,25 @@
+package testauto.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import testauto.domain.DurationStats;
+
+import java.util.List;
+
+/**
+ * 클래스 묶음의 예상 실행 시간
+ */
+@Getter
+@Builder
+public class DurationEstimateDto {
+    private long estimatedDurationMillis;   // 고정 비용 + 클래스별 최근 평균 합
+    private long pessimisticDurationMillis; // 고정 비용 + 클래스별 최근 p95 합
+    private long overheadMillis;            // 컴파일 / JVM 기동 등 테스트 밖 시간 (최근 실행 중앙값)
+    private List<ClassEstimate> classes;
+    private List<String> unknownClasses;    // 끝까지 실행된 이력이 없는 클래스 - 아는 클래스 평균으로 채움
+
+    /**
+     * @param lastTests 마지막 실행의 테스트 수
+     */
+    public record ClassEstimate(String className, int runs, int lastTests, DurationStats duration) {}
+}
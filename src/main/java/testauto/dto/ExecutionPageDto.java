@@ -0,0 +1,17 @@
+package testauto.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import testauto.domain.TestExecution;
+
+import java.util.List;
+
+/**
+ * 실행 이력 한 페이지 (키셋 페이지네이션)
+ */
+@Getter
+@Builder
+public class ExecutionPageDto {
+    private List<TestExecution> items;
+    private String nextCursor;      // 다음 페이지 조회용 커서, 마지막 페이지면 null
+}
@@ -0,0 +1,22 @@
+package testauto.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import testauto.domain.TestStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 테스트 하나의 실행 이력 (최신순)
+ */
+@Getter
+@Builder
+public class TestHistoryDto {
+    private TestStatsDto stats;
+    private List<Run> runs;
+    private LocalDateTime nextBefore; // 다음 페이지 조회용 before (마지막 페이지면 null)
+    private String nextBeforeExecutionId; // 다음 페이지 조회용 beforeExecutionId (같은 시각에 시작한 실행 구분)
+
+    public record Run(String executionId, LocalDateTime runAt, TestStatus status, int durationMillis) {}
+}
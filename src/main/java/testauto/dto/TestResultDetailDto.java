@@ -0,0 +1,20 @@
+package testauto.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 실행 결과 한 건의 상세 (펼칠 때만 조회)
+ */
+@Getter
+@Builder
+public class TestResultDetailDto {
+    private long resultId;
+    private String id;              // JUnit UniqueId
+    private String displayName;
+    private String status;
+    private long durationMillis;
+    private String errorMessage;
+    private String stackTrace;
+    private String stdout;
+}
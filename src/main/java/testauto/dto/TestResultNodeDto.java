@@ -0,0 +1,24 @@
+package testauto.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 실행 결과 트리 노드 (목록용 경량 버전)
+ * 에러 메시지 / 스택 트레이스 / stdout 은 빠져 있고, hasDetails 인 노드만 resultId 로 상세 조회
+ */
+@Getter
+@Builder
+public class TestResultNodeDto {
+    private String id;              // JUnit UniqueId
+    private long resultId;          // c_test_result.id (상세 조회 키)
+    private String displayName;
+    private String status;
+    private long durationMillis;
+    private boolean hasDetails;     // 에러 메시지 / 스택 트레이스 / stdout 중 하나라도 있는지
+    @Builder.Default
+    private List<TestResultNodeDto> children = new ArrayList<>();
+}
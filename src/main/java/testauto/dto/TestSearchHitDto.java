@@ -0,0 +1,14 @@
+package testauto.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TestSearchHitDto {
+    private String uniqueId;
+    private String className;   // 최상위 클래스 풀 네임 (사이드바에서 클래스 상세를 열 때 사용)
+    private String displayName;
+    private String type;
+    private double score;
+}
@@ -0,0 +1,35 @@
+package testauto.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import testauto.domain.DurationStats;
+import testauto.domain.TestStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 테스트 하나의 누적 실행 요약
+ */
+@Getter
+@Builder
+public class TestStatsDto {
+    private String id;                      // JUnit UniqueId
+    private String displayName;
+    private String className;
+    private int runs;
+    private int passes;
+    private int failures;
+    private int skips;
+    private double passRate;                // 건너뜀 제외 성공률 (%)
+    private int flips;                      // 전체 이력에서 성공/실패가 바뀐 횟수
+    private List<TestStatus> recentStatuses; // 최근 20회 (최신이 맨 앞)
+    private int recentFlips;
+    private double recentPassRate;
+    private double flakiness;               // 0~1 - 최근 결과에서 바뀔 수 있는 기회 대비 실제로 바뀐 비율
+    private TestStatus lastStatus;
+    private LocalDateTime lastRunAt;
+    private LocalDateTime lastFailureAt;
+    private String lastFailureExecutionId;
+    private DurationStats duration;         // 건너뜀 제외 최근 20회 소요 시간
+}
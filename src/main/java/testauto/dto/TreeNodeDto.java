@@ -17,27 +17,42 @@ public class TreeNodeDto {
     }
 
     private String name;
+    private String path;        // 패키지 풀 네임 (PACKAGE 타입인 경우, 하위 목록 조회 키)
     private String uniqueId;
     private String parentUniqueId;
     private String className;
     private String type;
+    private int testCount;      // 하위 테스트 메서드 수
+    private int passedCount;    // 마지막 실행 결과가 성공인 테스트 수
+    private int failedCount;    // 마지막 실행 결과가 실패인 테스트 수
+    private int childCount;     // 직속 자식 수 (단계별 조회 시 children 은 비어 있음)
     private List<TreeNodeDto> children ;
 
     @Builder
     private TreeNodeDto(
             String name,
+            String path,
             String uniqueId,
             String parentUniqueId,
             String className,
             NodeType type,
+            int testCount,
+            int passedCount,
+            int failedCount,
+            int childCount,
             List<TreeNodeDto> children
     ) {
         this.name = name;
+        this.path = path;
         this.uniqueId = uniqueId;
         this.parentUniqueId = parentUniqueId;
         this.className = className;
         this.type = (type != null) ? type.name() : null;
+        this.testCount = testCount;
+        this.passedCount = passedCount;
+        this.failedCount = failedCount;
         this.children = (children != null) ? children : new ArrayList<>();
+        this.childCount = Math.max(childCount, this.children.size());
     }
 
 }
@@ -0,0 +1,20 @@
+package testauto.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 트리 한 단계 (패키지 직속 자식) 페이지
+ */
+@Getter
+@Builder
+public class TreePageDto {
+    private String name;        // 조회한 패키지 이름
+    private String path;        // 조회한 패키지 풀 네임
+    private int offset;
+    private int limit;
+    private int total;          // 직속 자식 전체 수
+    private List<TreeNodeDto> children;
+}
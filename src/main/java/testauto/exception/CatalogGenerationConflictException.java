@@ -0,0 +1,11 @@
+package testauto.exception;
+
+/**
+ * 카탈로그 활성 세대 포인터를 바꿀 수 없는 경우 (다른 갱신이 먼저 세대를 바꿨거나 되돌릴 직전 세대가 없음) - 409
+ */
+public class CatalogGenerationConflictException extends RuntimeException {
+
+    public CatalogGenerationConflictException(String message) {
+        super(message);
+    }
+}
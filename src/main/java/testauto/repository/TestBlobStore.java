@@ -0,0 +1,242 @@
+package testauto.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 결과 본문 (에러 메시지 / 스택 트레이스 / stdout) 내용 주소 저장소 - c_test_blob
+ * - 키는 원문 UTF-8 바이트의 SHA-256, 값은 gzip 압축 바이트
+ * - 같은 실패 트레이스/로그가 매일 반복돼도 한 번만 저장 (MERGE 로 이미 있으면 건너뜀, 동시 INSERT 로 인한 중복 키는 저장된 것으로 처리)
+ * - min-chars 보다 짧은 값은 해시(64자)가 더 크므로 c_test_result 에 그대로 둔다
+ * - 최근 저장/조회한 해시는 메모리에 기억해서 같은 본문을 다시 보내지 않는다
+ * - 어떤 결과 행도 가리키지 않는 블롭은 보관 정리 (TestRetentionService) 가 나눠서 삭제 - 지우기 전에 메모리에서도 잊는다
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class TestBlobStore {
+
+    private static final int KNOWN_HASH_CAPACITY = 50_000;
+    private static final int LOAD_CHUNK_SIZE = 500;
+
+    private static final String MERGE_SQL = """
+            MERGE INTO bng000a.c_test_blob t
+            USING (VALUES (CAST(? AS VARCHAR(64)), CAST(? AS BLOB(100M)), CAST(? AS INTEGER), CAST(? AS INTEGER)))
+                AS s (hash, body, raw_length, stored_length)
+            ON t.hash = s.hash
+            WHEN NOT MATCHED THEN
+                INSERT (hash, body, raw_length, stored_length, created_at)
+                VALUES (s.hash, s.body, s.raw_length, s.stored_length, CURRENT TIMESTAMP)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${testcode.result-blob.min-chars:256}")
+    private int minChars;
+
+    // DB 에 있는 것으로 확인된 해시 (LRU)
+    private final Set<String> knownHashes = Collections.newSetFromMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > KNOWN_HASH_CAPACITY;
+        }
+    });
+
+    /**
+     * 블롭으로 뺄 대상인지 (null 이 아니고 min-chars 이상)
+     */
+    public boolean isExternalized(String value) {
+        return value != null && value.length() >= minChars;
+    }
+
+    /**
+     * 본문들을 저장하고 본문 -> 해시 매핑 반환 (블롭 대상이 아닌 값은 매핑에 없음)
+     */
+    public Map<String, String> storeAll(Collection<String> values) {
+        Map<String, String> hashes = new HashMap<>();
+        Map<String, String> pending = new LinkedHashMap<>(); // hash -> 본문
+        for (String value : values) {
+            if (!isExternalized(value) || hashes.containsKey(value)) {
+                continue;
+            }
+            String hash = hash(value);
+            hashes.put(value, hash);
+            if (!isKnown(hash)) {
+                pending.put(hash, value);
+            }
+        }
+        if (pending.isEmpty()) {
+            return hashes;
+        }
+
+        List<Map.Entry<String, String>> entries = new ArrayList<>(pending.entrySet());
+        try {
+            jdbcTemplate.batchUpdate(MERGE_SQL, entries, entries.size(), this::bindBlob);
+        } catch (DuplicateKeyException e) {
+            // 다른 실행이 같은 본문을 동시에 INSERT 해서 MERGE 가 SQL0803N 으로 실패 - 행마다 다시 보내고 중복은 이미 저장된 것으로 본다
+            log.debug("Concurrent blob insert detected, retrying {} blobs one by one", entries.size());
+            for (Map.Entry<String, String> entry : entries) {
+                try {
+                    jdbcTemplate.update(MERGE_SQL, ps -> bindBlob(ps, entry));
+                } catch (DuplicateKeyException alreadyStored) {
+                    log.debug("Blob {} already stored by another writer", entry.getKey());
+                }
+            }
+        }
+        rememberAfterCommit(pending.keySet());
+        log.debug("Stored {} result blobs ({} values referenced)", pending.size(), hashes.size());
+        return hashes;
+    }
+
+    private void bindBlob(PreparedStatement ps, Map.Entry<String, String> entry) throws SQLException {
+        byte[] raw = entry.getValue().getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = compress(raw);
+        ps.setString(1, entry.getKey());
+        ps.setBytes(2, compressed);
+        ps.setInt(3, raw.length);
+        ps.setInt(4, compressed.length);
+    }
+
+    /**
+     * 해시로 본문 조회 (없는 해시는 결과에 없음)
+     */
+    public Map<String, String> loadAll(Collection<String> hashes) {
+        List<String> distinct = hashes.stream().filter(h -> h != null).distinct().toList();
+        Map<String, String> bodies = new HashMap<>(distinct.size() * 2);
+        for (int from = 0; from < distinct.size(); from += LOAD_CHUNK_SIZE) {
+            List<String> chunk = distinct.subList(from, Math.min(from + LOAD_CHUNK_SIZE, distinct.size()));
+            String sql = "SELECT hash, body FROM bng000a.c_test_blob WHERE hash IN ("
+                    + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+            jdbcTemplate.query(sql, rs -> {
+                bodies.put(rs.getString("hash"), new String(decompress(rs.getBytes("body")), StandardCharsets.UTF_8));
+            }, chunk.toArray());
+        }
+        remember(bodies.keySet());
+        return bodies;
+    }
+
+    /**
+     * 어떤 결과 행도 가리키지 않는 블롭 해시 (hash 순 키셋) - 방금 저장돼 결과 행이 아직 커밋되지 않은 블롭은 제외
+     *
+     * @param afterHash 이전 묶음의 마지막 해시 (처음이면 null)
+     */
+    public List<String> findUnreferenced(String afterHash, int limit) {
+        return jdbcTemplate.queryForList("""
+                SELECT b.hash
+                FROM bng000a.c_test_blob b
+                WHERE b.hash > ?
+                  AND b.created_at < CURRENT TIMESTAMP - 1 DAY
+                  AND NOT EXISTS (SELECT 1 FROM bng000a.c_test_result r WHERE r.error_message_hash = b.hash)
+                  AND NOT EXISTS (SELECT 1 FROM bng000a.c_test_result r WHERE r.stack_trace_hash = b.hash)
+                  AND NOT EXISTS (SELECT 1 FROM bng000a.c_test_result r WHERE r.stdout_hash = b.hash)
+                ORDER BY b.hash
+                FETCH FIRST ? ROWS ONLY
+                """, String.class, afterHash != null ? afterHash : "", limit);
+    }
+
+    /**
+     * 블롭 삭제 - 먼저 기억한 해시에서 빼서 이후 저장은 다시 MERGE 하게 하고,
+     * 삭제 문장에서 참조 여부를 다시 확인한다 (그 사이 새 결과가 가리키게 된 블롭은 남긴다)
+     *
+     * @return 삭제한 행 수
+     */
+    public int deleteUnreferenced(List<String> hashes) {
+        if (hashes.isEmpty()) {
+            return 0;
+        }
+        synchronized (knownHashes) {
+            knownHashes.removeAll(hashes);
+        }
+        String placeholders = String.join(", ", Collections.nCopies(hashes.size(), "?"));
+        return jdbcTemplate.update("""
+                DELETE FROM bng000a.c_test_blob b
+                WHERE b.hash IN (%s)
+                  AND NOT EXISTS (SELECT 1 FROM bng000a.c_test_result r WHERE r.error_message_hash = b.hash)
+                  AND NOT EXISTS (SELECT 1 FROM bng000a.c_test_result r WHERE r.stack_trace_hash = b.hash)
+                  AND NOT EXISTS (SELECT 1 FROM bng000a.c_test_result r WHERE r.stdout_hash = b.hash)
+                """.formatted(placeholders), hashes.toArray());
+    }
+
+    private boolean isKnown(String hash) {
+        synchronized (knownHashes) {
+            return knownHashes.contains(hash);
+        }
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋된 뒤에만 기억 (롤백된 블롭을 있는 것으로 착각하지 않도록)
+     */
+    private void rememberAfterCommit(Collection<String> hashes) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remember(hashes);
+            return;
+        }
+        List<String> committed = List.copyOf(hashes);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                remember(committed);
+            }
+        });
+    }
+
+    private void remember(Collection<String> hashes) {
+        synchronized (knownHashes) {
+            knownHashes.addAll(hashes);
+        }
+    }
+
+    private static String hash(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] compress(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(raw.length / 4, 64));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] decompress(byte[] compressed) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
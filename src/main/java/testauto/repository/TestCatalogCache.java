@@ -0,0 +1,74 @@
+package testauto.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Repository;
+import testauto.domain.TestCatalogChangedEvent;
+import testauto.domain.TestNode;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * TestNodeDbRepository 앞단의 read-through 카탈로그 캐시
+ * - 최초 조회 시 DB 전체를 한 번 읽어 인덱스된 스냅샷을 만든다
+ * - 새로고침 시 새 스냅샷으로 원자적으로 교체하므로 조회 쪽은 락 없이 항상 완성된 스냅샷만 본다
+ * - 활성 세대와 같은 세대의 스냅샷 파일이 있으면 DB 전체 조회 대신 파일에서 읽는다 (TestCatalogSnapshotFile)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class TestCatalogCache {
+
+    private final TestNodeRepository testNodeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TestCatalogSnapshotFile snapshotFile;
+    private final AtomicReference<TestCatalogSnapshot> current = new AtomicReference<>();
+
+    public TestCatalogSnapshot snapshot() {
+        TestCatalogSnapshot snapshot = current.get();
+        return snapshot != null ? snapshot : load();
+    }
+
+    public void replace(long generation, Collection<TestNode> nodes) {
+        TestCatalogSnapshot snapshot = TestCatalogSnapshot.of(generation, nodes);
+        TestCatalogSnapshot previous = current.getAndSet(snapshot);
+        log.info("Test catalog cache replaced: generation {}, {} nodes", generation, snapshot.size());
+        writeSnapshotFile(snapshot);
+        eventPublisher.publishEvent(new TestCatalogChangedEvent(previous, snapshot));
+    }
+
+    public void invalidate() {
+        current.set(null);
+    }
+
+    private synchronized TestCatalogSnapshot load() {
+        TestCatalogSnapshot snapshot = current.get();
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        // 포인터를 먼저 읽고 해당 세대만 조회하므로 도중에 세대가 바뀌어도 섞이지 않는다
+        long generation = testNodeRepository.findActiveGeneration();
+        snapshot = snapshotFile.read(generation).orElse(null);
+        if (snapshot == null) {
+            List<TestNode> nodes = testNodeRepository.findAllByGeneration(generation);
+            snapshot = TestCatalogSnapshot.of(generation, nodes);
+            log.info("Test catalog cache loaded from DB: generation {}, {} nodes", generation, snapshot.size());
+            writeSnapshotFile(snapshot);
+        }
+        current.set(snapshot);
+        return snapshot;
+    }
+
+    private void writeSnapshotFile(TestCatalogSnapshot snapshot) {
+        try {
+            snapshotFile.write(snapshot);
+        } catch (Exception e) {
+            // 파일은 기동 가속용일 뿐이므로 실패해도 다음 기동에서 DB 로 읽으면 된다
+            log.warn("Failed to write catalog snapshot file: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package testauto.repository;
+
+import testauto.domain.TestNode;
+
+import java.util.*;
+
+/**
+ * 테스트 카탈로그 불변 스냅샷
+ * uniqueId / parentUniqueId / className 인덱스를 생성 시점에 한 번만 만들어 두고,
+ * 갱신 시에는 스냅샷을 통째로 새로 만들어 교체한다 (TestCatalogCache 참고)
+ * 하나의 스냅샷은 항상 하나의 카탈로그 세대(generation) 전체를 담는다
+ */
+public final class TestCatalogSnapshot {
+
+    private final long generation;
+    private final List<TestNode> nodes;
+    private final Map<String, TestNode> byUniqueId;
+    private final Map<String, List<TestNode>> byParentId;
+    private final Map<String, List<TestNode>> byClassName;
+
+    private TestCatalogSnapshot(long generation, Collection<TestNode> source) {
+        this.generation = generation;
+
+        Map<String, TestNode> uniqueIdIndex = new LinkedHashMap<>(source.size() * 2);
+        for (TestNode node : source) {
+            uniqueIdIndex.put(node.getUniqueId(), node);
+        }
+
+        Map<String, List<TestNode>> parentIndex = new HashMap<>();
+        Map<String, List<TestNode>> classNameIndex = new HashMap<>();
+        for (TestNode node : uniqueIdIndex.values()) {
+            if (node.getParentUniqueId() != null) {
+                parentIndex.computeIfAbsent(node.getParentUniqueId(), k -> new ArrayList<>()).add(node);
+            }
+            if (node.getClassName() != null) {
+                classNameIndex.computeIfAbsent(node.getClassName(), k -> new ArrayList<>()).add(node);
+            }
+        }
+
+        this.nodes = List.copyOf(uniqueIdIndex.values());
+        this.byUniqueId = Collections.unmodifiableMap(uniqueIdIndex);
+        this.byParentId = freeze(parentIndex);
+        this.byClassName = freeze(classNameIndex);
+    }
+
+    public static TestCatalogSnapshot of(long generation, Collection<TestNode> nodes) {
+        return new TestCatalogSnapshot(generation, nodes != null ? nodes : List.of());
+    }
+
+    /**
+     * 이 스냅샷이 반영하는 카탈로그 세대 번호
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    public Optional<TestNode> findByUniqueId(String uniqueId) {
+        return Optional.ofNullable(byUniqueId.get(uniqueId));
+    }
+
+    public List<TestNode> findByParentId(String parentUniqueId) {
+        return byParentId.getOrDefault(parentUniqueId, List.of());
+    }
+
+    public List<TestNode> findByClassName(String className) {
+        return byClassName.getOrDefault(className, List.of());
+    }
+
+    public List<TestNode> findAll() {
+        return nodes;
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    private static Map<String, List<TestNode>> freeze(Map<String, List<TestNode>> index) {
+        Map<String, List<TestNode>> frozen = new HashMap<>(index.size() * 2);
+        index.forEach((key, list) -> frozen.put(key, List.copyOf(list)));
+        return Collections.unmodifiableMap(frozen);
+    }
+}
@@ -0,0 +1,271 @@
+package testauto.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import testauto.domain.TestNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+/**
+ * 활성 카탈로그 세대의 바이너리 스냅샷 파일
+ * - 기동 시 DB 전체 조회 없이 파일 하나를 순서대로 읽어 스냅샷을 만든다 (세대가 DB 활성 세대와 같을 때만)
+ *   노드 / 문자열은 읽을 때 힙으로 복사한다 - 매핑은 읽기 버퍼일 뿐 스냅샷이 파일을 참조하지 않는다
+ * - 새로고침/롤백으로 세대가 바뀔 때마다 임시 파일에 쓴 뒤 원자적으로 교체
+ *
+ * 파일 구조 (little endian)
+ * <pre>
+ * header   magic(4) version(4) generation(8) nodeCount(4) stringCount(4) stringBytes(4) crc32(4)
+ * records  nodeCount x [uniqueId, parentIndex, parentUniqueId, displayName, className, type, tags] (int 7개)
+ *          - 문자열 필드는 문자열 테이블 인덱스 (null 은 -1)
+ *          - parentIndex 는 부모 레코드 인덱스, 부모가 카탈로그에 없으면 -1 이고 parentUniqueId 에 문자열 인덱스
+ * strings  (stringCount + 1) x 시작 오프셋(int) + UTF-8 바이트 (중복 문자열은 한 번만 저장)
+ * </pre>
+ * crc32 는 파일 전체 바이트 기준 (crc32 필드 4바이트는 0 으로 계산) - 헤더의 세대 / 개수 손상도 검출한다
+ */
+@Slf4j
+@Repository
+public class TestCatalogSnapshotFile {
+
+    private static final int MAGIC = 0x54434154; // "TCAT"
+    private static final int VERSION = 2; // 2: crc32 에 헤더 포함
+    private static final int HEADER_BYTES = 32;
+    private static final int CRC_OFFSET = 28;
+    private static final int RECORD_INTS = 7;
+    private static final int RECORD_BYTES = RECORD_INTS * Integer.BYTES;
+    private static final int NONE = -1;
+
+    @Value("${testcode.catalog.snapshot-file:}")
+    private String snapshotFile;
+
+    /**
+     * 파일에 기록된 세대가 expectedGeneration 과 같으면 스냅샷으로 읽는다
+     * 파일이 없거나, 세대가 다르거나, 손상되었으면 empty
+     */
+    public Optional<TestCatalogSnapshot> read(long expectedGeneration) {
+        Path path = path();
+        if (path == null || !Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+
+        long start = System.currentTimeMillis();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            if (buffer.remaining() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+                log.warn("Ignoring catalog snapshot file {}: not a snapshot file", path);
+                return Optional.empty();
+            }
+            if (buffer.getInt(4) != VERSION) {
+                log.info("Ignoring catalog snapshot file {}: format version {}", path, buffer.getInt(4));
+                return Optional.empty();
+            }
+            long generation = buffer.getLong(8);
+            if (generation != expectedGeneration) {
+                log.info("Catalog snapshot file is generation {}, active generation is {}", generation, expectedGeneration);
+                return Optional.empty();
+            }
+
+            int nodeCount = buffer.getInt(16);
+            int stringCount = buffer.getInt(20);
+            int stringBytes = buffer.getInt(24);
+            int expectedSize = HEADER_BYTES + nodeCount * RECORD_BYTES + (stringCount + 1) * Integer.BYTES + stringBytes;
+            if (nodeCount < 0 || stringCount < 0 || stringBytes < 0 || buffer.capacity() != expectedSize) {
+                log.warn("Ignoring catalog snapshot file {}: size mismatch", path);
+                return Optional.empty();
+            }
+            if (crc(buffer) != buffer.getInt(CRC_OFFSET)) {
+                log.warn("Ignoring catalog snapshot file {}: checksum mismatch", path);
+                return Optional.empty();
+            }
+
+            String[] strings = readStrings(buffer, HEADER_BYTES + nodeCount * RECORD_BYTES, stringCount, stringBytes);
+            List<TestNode> nodes = readNodes(buffer, nodeCount, strings);
+            log.info("Catalog snapshot file loaded: generation {}, {} nodes, {} bytes in {} ms",
+                    generation, nodeCount, expectedSize, System.currentTimeMillis() - start);
+            return Optional.of(TestCatalogSnapshot.of(generation, nodes));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to read catalog snapshot file {}: {}", path, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 스냅샷을 파일로 기록 - 같은 디렉터리의 임시 파일에 쓴 뒤 원자적 이동
+     */
+    public void write(TestCatalogSnapshot snapshot) {
+        Path path = path();
+        if (path == null) {
+            return;
+        }
+
+        List<TestNode> nodes = snapshot.findAll();
+        Map<String, Integer> recordIndex = new HashMap<>(nodes.size() * 2);
+        for (int i = 0; i < nodes.size(); i++) {
+            recordIndex.put(nodes.get(i).getUniqueId(), i);
+        }
+
+        StringTable strings = new StringTable();
+        int[] records = new int[nodes.size() * RECORD_INTS];
+        for (int i = 0; i < nodes.size(); i++) {
+            TestNode node = nodes.get(i);
+            Integer parentIndex = node.getParentUniqueId() != null ? recordIndex.get(node.getParentUniqueId()) : null;
+            int base = i * RECORD_INTS;
+            records[base] = strings.indexOf(node.getUniqueId());
+            records[base + 1] = parentIndex != null ? parentIndex : NONE;
+            records[base + 2] = parentIndex != null ? NONE : strings.indexOf(node.getParentUniqueId());
+            records[base + 3] = strings.indexOf(node.getDisplayName());
+            records[base + 4] = strings.indexOf(node.getClassName());
+            records[base + 5] = strings.indexOf(node.getType());
+            records[base + 6] = strings.indexOf(node.getTags());
+        }
+
+        int stringCount = strings.values.size();
+        int size = HEADER_BYTES + records.length * Integer.BYTES + (stringCount + 1) * Integer.BYTES + strings.byteLength;
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC)
+                .putInt(VERSION)
+                .putLong(snapshot.getGeneration())
+                .putInt(nodes.size())
+                .putInt(stringCount)
+                .putInt(strings.byteLength)
+                .putInt(0); // crc32 자리
+
+        for (int value : records) {
+            buffer.putInt(value);
+        }
+        int offset = 0;
+        for (byte[] value : strings.values) {
+            buffer.putInt(offset);
+            offset += value.length;
+        }
+        buffer.putInt(offset);
+        for (byte[] value : strings.values) {
+            buffer.put(value);
+        }
+        buffer.putInt(CRC_OFFSET, crc(buffer));
+        buffer.flip();
+
+        try {
+            Path dir = path.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            Path tmp = Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+            try {
+                try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    channel.force(true);
+                }
+                Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+            log.info("Catalog snapshot file written: generation {}, {} nodes, {} bytes",
+                    snapshot.getGeneration(), nodes.size(), size);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write catalog snapshot file: " + path, e);
+        }
+    }
+
+    private Path path() {
+        return snapshotFile == null || snapshotFile.isBlank() ? null : Path.of(snapshotFile);
+    }
+
+    private static String[] readStrings(ByteBuffer buffer, int tableStart, int stringCount, int stringBytes) {
+        int bytesStart = tableStart + (stringCount + 1) * Integer.BYTES;
+        byte[] bytes = new byte[stringBytes];
+        buffer.get(bytesStart, bytes);
+
+        String[] strings = new String[stringCount];
+        for (int i = 0; i < stringCount; i++) {
+            int from = buffer.getInt(tableStart + i * Integer.BYTES);
+            int to = buffer.getInt(tableStart + (i + 1) * Integer.BYTES);
+            strings[i] = new String(bytes, from, to - from, StandardCharsets.UTF_8);
+        }
+        return strings;
+    }
+
+    private static List<TestNode> readNodes(ByteBuffer buffer, int nodeCount, String[] strings) {
+        // 부모 uniqueId 는 부모 레코드 인덱스로 바로 찾는다 (같은 String 인스턴스 공유)
+        String[] uniqueIds = new String[nodeCount];
+        for (int i = 0; i < nodeCount; i++) {
+            uniqueIds[i] = string(strings, buffer.getInt(HEADER_BYTES + i * RECORD_BYTES));
+        }
+
+        List<TestNode> nodes = new ArrayList<>(nodeCount);
+        for (int i = 0; i < nodeCount; i++) {
+            int base = HEADER_BYTES + i * RECORD_BYTES;
+            int parentIndex = buffer.getInt(base + 4);
+            nodes.add(TestNode.builder()
+                    .uniqueId(uniqueIds[i])
+                    .parentUniqueId(parentIndex != NONE ? uniqueIds[parentIndex] : string(strings, buffer.getInt(base + 8)))
+                    .displayName(string(strings, buffer.getInt(base + 12)))
+                    .className(string(strings, buffer.getInt(base + 16)))
+                    .type(string(strings, buffer.getInt(base + 20)))
+                    .tags(string(strings, buffer.getInt(base + 24)))
+                    .build());
+        }
+        return nodes;
+    }
+
+    private static String string(String[] strings, int index) {
+        return index == NONE ? null : strings[index];
+    }
+
+    /**
+     * 헤더 (crc32 필드는 0 으로) + 본문 전체의 CRC32
+     */
+    private static int crc(ByteBuffer buffer) {
+        CRC32 crc = new CRC32();
+        ByteBuffer header = buffer.duplicate();
+        header.position(0).limit(CRC_OFFSET);
+        crc.update(header);
+        crc.update(new byte[Integer.BYTES]);
+        ByteBuffer body = buffer.duplicate();
+        body.position(HEADER_BYTES).limit(buffer.capacity());
+        crc.update(body);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * 중복 제거 문자열 테이블 (등장 순서대로 인덱스 부여)
+     */
+    private static final class StringTable {
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final List<byte[]> values = new ArrayList<>();
+        private int byteLength;
+
+        private int indexOf(String value) {
+            if (value == null) {
+                return NONE;
+            }
+            Integer index = indexes.get(value);
+            if (index == null) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                index = values.size();
+                values.add(bytes);
+                indexes.put(value, index);
+                byteLength += bytes.length;
+            }
+            return index;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package testauto.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import testauto.domain.TestNode;
+import testauto.domain.TestStats;
+import testauto.domain.TestStatus;
+import testauto.repository.TestExecutionClassRepository.ClassResult;
+import testauto.repository.TestHistoryRepository.ClassRun;
+import testauto.repository.TestHistoryRepository.TestRun;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 일별 집계 (c_test_daily_stats / c_test_daily_class_stats) 누적
+ * - 끝난 실행 하나를 한 번만 더한다 - c_test_execution.rolled_up 을 0 -> 1 로 바꾼 트랜잭션 안에서 MERGE
+ *   (동시 INSERT 로 MERGE 가 DuplicateKeyException 이면 트랜잭션이 통째로 롤백되므로 호출자가 그대로 다시 호출)
+ * - 클래스별 집계는 결과 행 중 자식이 없는 행(테스트)만 uniqueId 의 최상위 [class:...] 로 묶는다
+ * - 같은 테스트 행으로 테스트별 이력 / 요약, 클래스별 소요 시간 (TestHistoryRepository) 도 함께 누적
+ * - 실행의 요청 클래스 행 (c_test_execution_class) 상태 / 결과도 같은 트랜잭션에서 갱신
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class TestDailyStatsRollup {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UnboundedJdbcTemplateProvider unboundedJdbc;
+    private final TestHistoryRepository historyRepository;
+    private final TestExecutionClassRepository classRepository;
+
+    /**
+     * 실행 하나를 일별 집계 / 테스트별 이력에 반영
+     *
+     * @return 반영했으면 true, 수행중이거나 이미 반영된 실행이면 false
+     */
+    @Transactional
+    public boolean rollUp(String executionId) {
+        int claimed = jdbcTemplate.update("""
+                UPDATE bng000a.c_test_execution SET rolled_up = 1
+                WHERE execution_id = ? AND rolled_up = 0 AND status <> 'RUNNING'
+                """, executionId);
+        if (claimed == 0) {
+            return false;
+        }
+
+        jdbcTemplate.update("""
+                MERGE INTO bng000a.c_test_daily_stats t
+                USING (
+                    SELECT DATE(started_at) AS stat_date, total_tests, success_count, failed_count,
+                           skipped_count, total_duration_millis
+                    FROM bng000a.c_test_execution
+                    WHERE execution_id = ?
+                ) s
+                ON t.stat_date = s.stat_date
+                WHEN MATCHED THEN
+                    UPDATE SET executions = t.executions + 1,
+                               total_tests = t.total_tests + s.total_tests,
+                               success_count = t.success_count + s.success_count,
+                               failed_count = t.failed_count + s.failed_count,
+                               skipped_count = t.skipped_count + s.skipped_count,
+                               total_duration_millis = t.total_duration_millis + s.total_duration_millis,
+                               updated_at = CURRENT TIMESTAMP
+                WHEN NOT MATCHED THEN
+                    INSERT (stat_date, executions, total_tests, success_count, failed_count, skipped_count,
+                            total_duration_millis, updated_at)
+                    VALUES (s.stat_date, 1, s.total_tests, s.success_count, s.failed_count, s.skipped_count,
+                            s.total_duration_millis, CURRENT TIMESTAMP)
+                """, executionId);
+
+        List<ResultRow> tests = leafResults(executionId);
+        List<ClassTotals> classTotals = classTotals(tests);
+        if (!classTotals.isEmpty()) {
+            String sql = """
+                    MERGE INTO bng000a.c_test_daily_class_stats t
+                    USING (
+                        SELECT DATE(e.started_at), CAST(? AS VARCHAR(500)), CAST(? AS INTEGER), CAST(? AS INTEGER),
+                               CAST(? AS INTEGER), CAST(? AS INTEGER), CAST(? AS BIGINT)
+                        FROM bng000a.c_test_execution e
+                        WHERE e.execution_id = ?
+                    ) AS s (stat_date, class_name, total_tests, success_count, failed_count, skipped_count,
+                            total_duration_millis)
+                    ON t.stat_date = s.stat_date AND t.class_name = s.class_name
+                    WHEN MATCHED THEN
+                        UPDATE SET executions = t.executions + 1,
+                                   total_tests = t.total_tests + s.total_tests,
+                                   success_count = t.success_count + s.success_count,
+                                   failed_count = t.failed_count + s.failed_count,
+                                   skipped_count = t.skipped_count + s.skipped_count,
+                                   total_duration_millis = t.total_duration_millis + s.total_duration_millis,
+                                   updated_at = CURRENT TIMESTAMP
+                    WHEN NOT MATCHED THEN
+                        INSERT (stat_date, class_name, executions, total_tests, success_count, failed_count,
+                                skipped_count, total_duration_millis, updated_at)
+                        VALUES (s.stat_date, s.class_name, 1, s.total_tests, s.success_count, s.failed_count,
+                                s.skipped_count, s.total_duration_millis, CURRENT TIMESTAMP)
+                    """;
+            jdbcTemplate.batchUpdate(sql, classTotals, classTotals.size(), (ps, totals) -> {
+                ps.setString(1, totals.className);
+                ps.setInt(2, totals.total);
+                ps.setInt(3, totals.success);
+                ps.setInt(4, totals.failed);
+                ps.setInt(5, totals.skipped);
+                ps.setLong(6, totals.durationMillis);
+                ps.setString(7, executionId);
+            });
+        }
+
+        Map<String, Object> execution = jdbcTemplate.queryForMap(
+                "SELECT started_at, status FROM bng000a.c_test_execution WHERE execution_id = ?", executionId);
+        LocalDateTime startedAt = ((Timestamp) execution.get("started_at")).toLocalDateTime();
+        historyRepository.record(executionId, startedAt, tests.stream()
+                .map(row -> new TestRun(row.testId(), row.displayName(), TestNode.extractTopLevelClass(row.testId()),
+                        TestStats.code(TestStatus.valueOf(row.status())), row.durationMillis()))
+                .toList());
+        classRepository.finish(executionId, (String) execution.get("status"), classResults(tests));
+        // 클래스 소요 시간은 끝까지 실행된 경우만 (러너 중단 / 타임아웃이면 일부 테스트만 포함되므로 제외)
+        if ("COMPLETED".equals(execution.get("status"))) {
+            historyRepository.recordClassDurations(classTotals.stream()
+                    .map(totals -> new ClassRun(totals.className, totals.total, totals.durationMillis))
+                    .toList());
+        }
+
+        log.debug("Rolled up execution {} ({} classes, {} tests)", executionId, classTotals.size(), tests.size());
+        return true;
+    }
+
+    /**
+     * 요청 클래스 행만 결과로 갱신 - 이미 집계된 실행 (클래스 행 백필, 삭제된 실행 복원), 수행중이면 그대로 둔다
+     */
+    public void finishExecutionClasses(String executionId) {
+        String status = jdbcTemplate.queryForObject(
+                "SELECT status FROM bng000a.c_test_execution WHERE execution_id = ?", String.class, executionId);
+        if ("RUNNING".equals(status)) {
+            return;
+        }
+        classRepository.finish(executionId, status, classResults(leafResults(executionId)));
+    }
+
+    /**
+     * 일별 집계에 아직 반영되지 않은 끝난 실행 (오래된 순)
+     */
+    public List<String> findPendingExecutionIds(int limit) {
+        return jdbcTemplate.queryForList("""
+                SELECT execution_id
+                FROM bng000a.c_test_execution
+                WHERE rolled_up = 0 AND status <> 'RUNNING'
+                ORDER BY started_at
+                FETCH FIRST ? ROWS ONLY
+                """, String.class, limit);
+    }
+
+    /**
+     * 결과 행 (본문 컬럼 제외) 중 끝난 테스트 (자식이 없는 행) 만
+     */
+    private List<ResultRow> leafResults(String executionId) {
+        List<ResultRow> rows = unboundedJdbc.get().query("""
+                SELECT test_id, parent_test_id, display_name, status, duration_millis
+                FROM bng000a.c_test_result
+                WHERE execution_id = ?
+                """, (rs, rowNum) -> new ResultRow(
+                rs.getString("test_id"),
+                rs.getString("parent_test_id"),
+                rs.getString("display_name"),
+                rs.getString("status"),
+                rs.getLong("duration_millis")), executionId);
+
+        Set<String> parents = new HashSet<>(rows.size() * 2);
+        for (ResultRow row : rows) {
+            if (row.parentTestId() != null) {
+                parents.add(row.parentTestId());
+            }
+        }
+
+        List<ResultRow> leaves = new ArrayList<>(rows.size());
+        for (ResultRow row : rows) {
+            if (!parents.contains(row.testId()) && !"RUNNING".equals(row.status())
+                    && TestNode.extractTopLevelClass(row.testId()) != null) {
+                leaves.add(row);
+            }
+        }
+        return leaves;
+    }
+
+    /**
+     * 최상위 클래스별로 합산
+     */
+    private static List<ClassTotals> classTotals(List<ResultRow> tests) {
+        Map<String, ClassTotals> totals = new TreeMap<>();
+        for (ResultRow row : tests) {
+            ClassTotals classTotals =
+                    totals.computeIfAbsent(TestNode.extractTopLevelClass(row.testId()), ClassTotals::new);
+            classTotals.total++;
+            classTotals.durationMillis += row.durationMillis();
+            switch (row.status()) {
+                case "SUCCESS" -> classTotals.success++;
+                case "FAILED" -> classTotals.failed++;
+                case "SKIPPED" -> classTotals.skipped++;
+                default -> { }
+            }
+        }
+        return new ArrayList<>(totals.values());
+    }
+
+    /**
+     * 요청 클래스명 (Outer / Outer$Inner) 별 합계 - 테스트는 자기 중첩 클래스와 그 클래스를 감싸는 @Nested 바깥 클래스 모두에 더한다
+     * 예: [class:Outer]/[nested-class:Inner] 의 테스트는 Outer$Inner, Outer 결과에, [class:Outer$Static] 의 테스트는 Outer$Static 에만
+     */
+    static Map<String, ClassResult> classResults(List<ResultRow> tests) {
+        Map<String, ClassTotals> totals = new HashMap<>();
+        for (ResultRow row : tests) {
+            String testClass = TestNode.extractTestClass(row.testId());
+            int topLevelEnd = TestNode.extractTopLevelClass(row.testId()).length();
+            for (int end = testClass.length(); end >= topLevelEnd; end = testClass.lastIndexOf('$', end - 1)) {
+                ClassTotals classTotals = totals.computeIfAbsent(testClass.substring(0, end), ClassTotals::new);
+                classTotals.total++;
+                classTotals.durationMillis += row.durationMillis();
+                switch (row.status()) {
+                    case "FAILED" -> classTotals.failed++;
+                    case "SKIPPED" -> classTotals.skipped++;
+                    default -> { }
+                }
+            }
+        }
+        Map<String, ClassResult> results = new HashMap<>(totals.size() * 2);
+        for (ClassTotals classTotals : totals.values()) {
+            results.put(classTotals.className, new ClassResult(classTotals.total, classTotals.failed,
+                    classTotals.skipped, classTotals.durationMillis));
+        }
+        return results;
+    }
+
+    record ResultRow(String testId, String parentTestId, String displayName, String status,
+                     long durationMillis) {}
+
+    private static final class ClassTotals {
+        private final String className;
+        private int total;
+        private int success;
+        private int failed;
+        private int skipped;
+        private long durationMillis;
+
+        private ClassTotals(String className) {
+            this.className = className;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package testauto.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import testauto.domain.ExecutionClass;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * 실행별 요청 클래스 (c_test_execution_class)
+ * - 실행 행과 함께 추가 (RUNNING), 실행이 끝나면 클래스별 결과로 갱신
+ * - 클래스별 실행 이력은 (class_name, started_at DESC, execution_id DESC) INCLUDE 인덱스만 읽는다
+ * - 실행 행이 삭제되면 FK CASCADE 로 함께 삭제
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class TestExecutionClassRepository {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final RowMapper<ExecutionClass> rowMapper = (rs, rowNum) ->
+            new ExecutionClass(
+                    rs.getString("execution_id"),
+                    rs.getString("class_name"),
+                    rs.getTimestamp("started_at").toLocalDateTime(),
+                    rs.getString("status"),
+                    rs.getInt("total_tests"),
+                    rs.getInt("failed_count"),
+                    rs.getLong("duration_millis"));
+
+    /**
+     * 실행 요청 시 클래스 행 추가 (RUNNING, ordinal = 요청 순서)
+     */
+    public void insert(String executionId, LocalDateTime startedAt, List<String> classNames) {
+        if (classNames.isEmpty()) {
+            return;
+        }
+        Timestamp startedAtTs = Timestamp.valueOf(startedAt);
+        List<Integer> ordinals = IntStream.range(0, classNames.size()).boxed().toList();
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO bng000a.c_test_execution_class (execution_id, class_name, ordinal, started_at)
+                VALUES (?, ?, ?, ?)
+                """, ordinals, CHUNK_SIZE, (ps, ordinal) -> {
+            ps.setString(1, executionId);
+            ps.setString(2, classNames.get(ordinal));
+            ps.setInt(3, ordinal);
+            ps.setTimestamp(4, startedAtTs);
+        });
+    }
+
+    /**
+     * 끝난 실행의 클래스별 결과 반영 - 요청한 클래스명 그대로 찾는다 (Outer$Inner 로 요청했으면 그 중첩 클래스 결과만)
+     * 결과가 없는 클래스는 실행이 실패로 끝났으면 FAILED, 아니면 SKIPPED
+     *
+     * @param results 클래스명 (Outer / Outer$Inner) -> 결과, 바깥 클래스 결과는 @Nested 클래스 결과를 포함
+     */
+    public void finish(String executionId, String executionStatus, Map<String, ClassResult> results) {
+        List<String> classNames = findClassNames(executionId);
+        List<ExecutionClass> updates = new ArrayList<>(classNames.size());
+        for (String className : classNames) {
+            ClassResult result = results.get(className);
+            if (result == null || result.total() == 0) {
+                updates.add(new ExecutionClass(executionId, className, null,
+                        "FAILED".equals(executionStatus) ? "FAILED" : "SKIPPED", 0, 0, 0));
+            } else {
+                String status = result.failed() > 0 ? "FAILED"
+                        : result.skipped() == result.total() ? "SKIPPED" : "SUCCESS";
+                updates.add(new ExecutionClass(executionId, className, null, status, result.total(),
+                        result.failed(), result.durationMillis()));
+            }
+        }
+        jdbcTemplate.batchUpdate("""
+                UPDATE bng000a.c_test_execution_class
+                SET status = ?, total_tests = ?, failed_count = ?, duration_millis = ?
+                WHERE execution_id = ? AND class_name = ?
+                """, updates, CHUNK_SIZE, (ps, update) -> {
+            ps.setString(1, update.status());
+            ps.setInt(2, update.totalTests());
+            ps.setInt(3, update.failedCount());
+            ps.setLong(4, update.durationMillis());
+            ps.setString(5, executionId);
+            ps.setString(6, update.className());
+        });
+    }
+
+    /**
+     * 실행 하나의 요청 클래스 (요청 순서)
+     */
+    public List<String> findClassNames(String executionId) {
+        return jdbcTemplate.queryForList("""
+                SELECT class_name FROM bng000a.c_test_execution_class
+                WHERE execution_id = ?
+                ORDER BY ordinal, class_name
+                """, String.class, executionId);
+    }
+
+    /**
+     * 여러 실행의 클래스 행 (실행 이력 페이지 / 최근 실행 목록에 한 번에 채우기) - 실행마다 요청 순서
+     */
+    public Map<String, List<ExecutionClass>> findByExecutionIds(Collection<String> executionIds) {
+        List<String> ids = executionIds.stream().distinct().toList();
+        Map<String, List<ExecutionClass>> byExecution = new HashMap<>(ids.size() * 2);
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<String> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query("""
+                    SELECT execution_id, class_name, started_at, status, total_tests, failed_count, duration_millis
+                    FROM bng000a.c_test_execution_class
+                    WHERE execution_id IN (%s)
+                    ORDER BY execution_id, ordinal, class_name
+                    """.formatted(placeholders), rowMapper, chunk.toArray())
+                    .forEach(row -> byExecution.computeIfAbsent(row.executionId(), id -> new ArrayList<>()).add(row));
+        }
+        return byExecution;
+    }
+
+    /**
+     * 클래스 하나의 실행 이력 - 최신순 키셋 (이전 페이지 마지막 행의 started_at, execution_id 이후)
+     */
+    public List<ExecutionClass> findByClassName(String className, LocalDateTime beforeStartedAt,
+                                                String beforeExecutionId, int limit) {
+        if (beforeStartedAt == null || beforeExecutionId == null) {
+            return jdbcTemplate.query("""
+                    SELECT execution_id, class_name, started_at, status, total_tests, failed_count, duration_millis
+                    FROM bng000a.c_test_execution_class
+                    WHERE class_name = ?
+                    ORDER BY started_at DESC, execution_id DESC
+                    FETCH FIRST ? ROWS ONLY
+                    """, rowMapper, className, limit);
+        }
+        Timestamp before = Timestamp.valueOf(beforeStartedAt);
+        return jdbcTemplate.query("""
+                SELECT execution_id, class_name, started_at, status, total_tests, failed_count, duration_millis
+                FROM bng000a.c_test_execution_class
+                WHERE class_name = ?
+                  AND (started_at < ? OR (started_at = ? AND execution_id < ?))
+                ORDER BY started_at DESC, execution_id DESC
+                FETCH FIRST ? ROWS ONLY
+                """, rowMapper, className, before, before, beforeExecutionId, limit);
+    }
+
+    /**
+     * 클래스 행이 없는 실행 (테이블 도입 전 이력) - 백필용, class_names CLOB 을 읽는 유일한 곳
+     * (started_at, execution_id) 키셋으로 넘긴다 - 클래스명이 비어 있어 행을 만들지 못한 실행도 다시 읽지 않도록
+     *
+     * @param after 이전 페이지 마지막 실행 (첫 페이지면 null)
+     */
+    public List<PendingExecution> findExecutionsWithoutClasses(PendingExecution after, int limit) {
+        RowMapper<PendingExecution> mapper = (rs, rowNum) -> new PendingExecution(
+                rs.getString("execution_id"),
+                rs.getTimestamp("started_at").toLocalDateTime(),
+                rs.getString("status"),
+                ExecutionClass.split(rs.getString("class_names")));
+        if (after == null) {
+            return jdbcTemplate.query("""
+                    SELECT e.execution_id, e.started_at, e.status, e.class_names
+                    FROM bng000a.c_test_execution e
+                    WHERE e.class_names IS NOT NULL AND e.started_at IS NOT NULL
+                      AND NOT EXISTS (SELECT 1 FROM bng000a.c_test_execution_class c WHERE c.execution_id = e.execution_id)
+                    ORDER BY e.started_at, e.execution_id
+                    FETCH FIRST ? ROWS ONLY
+                    """, mapper, limit);
+        }
+        Timestamp afterStartedAt = Timestamp.valueOf(after.startedAt());
+        return jdbcTemplate.query("""
+                SELECT e.execution_id, e.started_at, e.status, e.class_names
+                FROM bng000a.c_test_execution e
+                WHERE e.class_names IS NOT NULL AND e.started_at IS NOT NULL
+                  AND (e.started_at > ? OR (e.started_at = ? AND e.execution_id > ?))
+                  AND NOT EXISTS (SELECT 1 FROM bng000a.c_test_execution_class c WHERE c.execution_id = e.execution_id)
+                ORDER BY e.started_at, e.execution_id
+                FETCH FIRST ? ROWS ONLY
+                """, mapper, afterStartedAt, afterStartedAt, after.executionId(), limit);
+    }
+
+    /**
+     * 최상위 클래스 하나의 결과 합계
+     */
+    public record ClassResult(int total, int failed, int skipped, long durationMillis) {}
+
+    public record PendingExecution(String executionId, LocalDateTime startedAt, String status,
+                                   List<String> classNames) {}
+}
@@ -1,23 +1,35 @@
 package testauto.repository;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import testauto.domain.ExecutionClass;
 import testauto.domain.TestExecution;
 import testauto.domain.TestResultRecord;
+import testauto.domain.TestStats;
 import testauto.domain.TestStatus;
 
 import java.sql.PreparedStatement;
 import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @Repository
 @RequiredArgsConstructor
 public class TestExecutionDbRepository implements TestExecutionRepository {
     private final JdbcTemplate jdbcTemplate;
+    private final TestResultBulkWriter resultBulkWriter;
+    private final TestBlobStore blobStore;
+    private final UnboundedJdbcTemplateProvider unboundedJdbc;
+    private final TestExecutionClassRepository classRepository;
 
     private final RowMapper<TestExecution> executionRowMapper = (rs, rowNum) ->
             TestExecution.builder()
@@ -35,6 +47,9 @@ public class TestExecutionDbRepository implements TestExecutionRepository {
                     .requesterName(getStringOrNull(rs, "requester_name"))
                     .classNames(rs.getString("class_names"))
                     .status(rs.getString("status"))
+                    .estimatedDurationMillis(rs.getObject("estimated_duration_millis") != null ?
+                            rs.getLong("estimated_duration_millis") : null)
+                    .compacted(rs.getInt("retention_state") == 1)
                     .build();
 
     private String getStringOrNull(java.sql.ResultSet rs, String columnName) {
@@ -57,14 +72,36 @@ public class TestExecutionDbRepository implements TestExecutionRepository {
                     .errorMessage(rs.getString("error_message"))
                     .stackTrace(rs.getString("stack_trace"))
                     .stdout(rs.getString("stdout"))
+                    .errorMessageHash(getStringOrNull(rs, "error_message_hash"))
+                    .stackTraceHash(getStringOrNull(rs, "stack_trace_hash"))
+                    .stdoutHash(getStringOrNull(rs, "stdout_hash"))
                     .build();
 
     @Override
+    @Transactional
     public void saveExecution(TestExecution execution) {
+        insertExecution(execution, null);
+    }
+
+    /**
+     * 저널의 실행 시작 반영 - 같은 실행이 이미 있으면 (저널 재생) false
+     */
+    @Override
+    @Transactional
+    public boolean saveExecution(TestExecution execution, long journalSeq) {
+        try {
+            insertExecution(execution, journalSeq);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private void insertExecution(TestExecution execution, Long journalSeq) {
         String sql = """
                 INSERT INTO bng000a.c_test_execution
-                (execution_id, started_at, finished_at, total_tests, success_count, failed_count, skipped_count, total_duration_millis, requester_ip, class_names, status)
-                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                (execution_id, started_at, finished_at, total_tests, success_count, failed_count, skipped_count, total_duration_millis, requester_ip, class_names, status, estimated_duration_millis, journal_seq)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
                 """;
         jdbcTemplate.update(con -> {
             PreparedStatement ps = con.prepareStatement(sql);
@@ -81,8 +118,14 @@ public class TestExecutionDbRepository implements TestExecutionRepository {
             ps.setString(9, execution.getRequesterIp());
             ps.setString(10, execution.getClassNames());
             ps.setString(11, execution.getStatus() != null ? execution.getStatus() : "RUNNING");
+            ps.setObject(12, execution.getEstimatedDurationMillis(), java.sql.Types.BIGINT);
+            ps.setObject(13, journalSeq, java.sql.Types.BIGINT);
             return ps;
         });
+        if (execution.getStartedAt() != null) {
+            classRepository.insert(execution.getExecutionId(), execution.getStartedAt(),
+                    ExecutionClass.split(execution.getClassNames()));
+        }
     }
 
     @Override
@@ -105,63 +148,98 @@ public class TestExecutionDbRepository implements TestExecutionRepository {
 
     @Override
     public void saveResult(TestResultRecord result) {
-        String sql = """
-                INSERT INTO bng000a.c_test_result
-                (execution_id, test_id, parent_test_id, display_name, status, duration_millis, error_message, stack_trace, stdout)
-                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
-                """;
-        jdbcTemplate.update(con -> {
-            PreparedStatement ps = con.prepareStatement(sql);
-            ps.setString(1, result.getExecutionId());
-            ps.setString(2, result.getTestId());
-            ps.setString(3, result.getParentTestId());
-            ps.setString(4, result.getDisplayName());
-            ps.setString(5, result.getStatus().name());
-            ps.setLong(6, result.getDurationMillis());
-            ps.setString(7, result.getErrorMessage());
-            ps.setString(8, result.getStackTrace());
-            ps.setString(9, result.getStdout());
-            return ps;
-        });
+        resultBulkWriter.write(List.of(result));
     }
 
+    /**
+     * chunk 단위 대량 INSERT (TestResultBulkWriter)
+     */
     @Override
     public void saveAllResults(List<TestResultRecord> results) {
-        if (results == null || results.isEmpty()) {
-            return;
+        resultBulkWriter.write(results);
+    }
+
+    /**
+     * 실행 중 결과 배치 저장 + 실행 카운터 증분을 한 트랜잭션으로 처리
+     * - 러너가 중간에 죽어도 c_test_execution 카운터와 저장된 결과 행 수가 어긋나지 않는다
+     * - journal_seq 를 같은 트랜잭션에서 올리므로 저널을 다시 재생해도 한 번만 반영
+     */
+    @Override
+    @Transactional
+    public boolean saveResultBatch(String executionId, List<TestResultRecord> results, TestExecution counterDelta,
+                                   long journalSeq) {
+        if (!claimJournalSeq(executionId, journalSeq)) {
+            return false;
         }
+        saveAllResults(results);
 
         String sql = """
-                INSERT INTO bng000a.c_test_result
-                (execution_id, test_id, parent_test_id, display_name, status, duration_millis, error_message, stack_trace, stdout)
-                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                UPDATE bng000a.c_test_execution
+                SET total_tests = total_tests + ?, success_count = success_count + ?, failed_count = failed_count + ?,
+                    skipped_count = skipped_count + ?, total_duration_millis = total_duration_millis + ?
+                WHERE execution_id = ?
                 """;
+        jdbcTemplate.update(sql,
+                counterDelta.getTotalTests(),
+                counterDelta.getSuccessCount(),
+                counterDelta.getFailedCount(),
+                counterDelta.getSkippedCount(),
+                counterDelta.getTotalDurationMillis(),
+                executionId);
+        return true;
+    }
 
-        jdbcTemplate.batchUpdate(sql, results, results.size(),
-                (ps, result) -> {
-                    ps.setString(1, result.getExecutionId());
-                    ps.setString(2, result.getTestId());
-                    ps.setString(3, result.getParentTestId());
-                    ps.setString(4, result.getDisplayName());
-                    ps.setString(5, result.getStatus().name());
-                    ps.setLong(6, result.getDurationMillis());
-                    ps.setString(7, result.getErrorMessage());
-                    ps.setString(8, result.getStackTrace());
-                    ps.setString(9, result.getStdout());
-                });
+    /**
+     * 정상 종료 - 이벤트로 저장되지 않은 결과 추가 + 최종 카운터 / 종료 시각 / 상태를 한 트랜잭션으로
+     */
+    @Override
+    @Transactional
+    public boolean completeExecution(TestExecution execution, List<TestResultRecord> results, long journalSeq) {
+        if (!claimJournalSeq(execution.getExecutionId(), journalSeq)) {
+            return false;
+        }
+        saveAllResults(results);
+        updateExecution(execution);
+        return true;
+    }
+
+    /**
+     * 종료 시각/상태만 기록 (실행 중 누적된 카운터는 유지)
+     */
+    @Override
+    public boolean finishExecution(String executionId, LocalDateTime finishedAt, String status, long journalSeq) {
+        return jdbcTemplate.update("""
+                UPDATE bng000a.c_test_execution SET finished_at = ?, status = ?, journal_seq = ?
+                WHERE execution_id = ? AND (journal_seq IS NULL OR journal_seq < ?)
+                """,
+                finishedAt != null ? Timestamp.valueOf(finishedAt) : null,
+                status,
+                journalSeq,
+                executionId,
+                journalSeq) > 0;
+    }
+
+    /**
+     * 실행 행의 journal_seq 를 올린다 - 이미 같거나 큰 값이면 (반영된 저널 항목) false
+     */
+    private boolean claimJournalSeq(String executionId, long journalSeq) {
+        return jdbcTemplate.update("""
+                UPDATE bng000a.c_test_execution SET journal_seq = ?
+                WHERE execution_id = ? AND (journal_seq IS NULL OR journal_seq < ?)
+                """, journalSeq, executionId, journalSeq) > 0;
     }
 
     @Override
     public Optional<TestExecution> findExecutionById(String executionId) {
-        return jdbcTemplate.query(
+        return withClasses(jdbcTemplate.query(
                 "SELECT * FROM bng000a.c_test_execution WHERE execution_id = ?",
                 executionRowMapper, executionId
-        ).stream().findFirst();
+        )).stream().findFirst();
     }
 
     @Override
     public List<TestExecution> findAllExecutions() {
-        return jdbcTemplate.query(
+        return unboundedJdbc.get().query(
                 "SELECT * FROM bng000a.c_test_execution ORDER BY started_at DESC",
                 executionRowMapper
         );
@@ -176,15 +254,211 @@ public class TestExecutionDbRepository implements TestExecutionRepository {
                 ORDER BY e.started_at DESC
                 FETCH FIRST ? ROWS ONLY
                 """;
-        return jdbcTemplate.query(sql, executionRowMapper, limit);
+        return withClasses(jdbcTemplate.query(sql, executionRowMapper, limit));
+    }
+
+    /**
+     * 최근 정상 종료된 실행의 시작 / 종료 시각과 테스트 소요 시간 합 (실행 예상 시간의 고정 비용 계산용, idx4)
+     */
+    @Override
+    public List<TestExecution> findRecentCompletedTimings(int limit) {
+        String sql = """
+                SELECT execution_id, started_at, finished_at, total_duration_millis
+                FROM bng000a.c_test_execution
+                WHERE status = 'COMPLETED' AND finished_at IS NOT NULL
+                ORDER BY started_at DESC
+                FETCH FIRST ? ROWS ONLY
+                """;
+        return jdbcTemplate.query(sql, (rs, rowNum) -> TestExecution.builder()
+                .executionId(rs.getString("execution_id"))
+                .startedAt(rs.getTimestamp("started_at").toLocalDateTime())
+                .finishedAt(rs.getTimestamp("finished_at").toLocalDateTime())
+                .totalDurationMillis(rs.getLong("total_duration_millis"))
+                .build(), limit);
+    }
+
+    /**
+     * 실행 이력 키셋 페이지 - (started_at, execution_id) 내림차순
+     * 커서(이전 페이지 마지막 행) 이후부터 limit 건만 읽으므로 테이블이 커져도 페이지 비용이 일정하다
+     * 인덱스: c_test_execution_idx3 (started_at, execution_id), idx4 (status, ...), idx5 (requester_ip, ...)
+     * 클래스 필터가 있으면 c_test_execution_class_idx1 (class_name, started_at, execution_id) 에서 실행을 먼저 고른다
+     * 요청자 / 클래스 조건은 인덱스를 타도록 일치 / 앞부분 일치만 지원한다 (부분 문자열 검색 없음)
+     */
+    @Override
+    public List<TestExecution> findExecutionPage(TestExecutionFilter filter, LocalDateTime beforeStartedAt,
+                                                 String beforeExecutionId, int limit) {
+        StringBuilder sql = new StringBuilder("SELECT e.*, m.EMPNM AS requester_name\n");
+        List<Object> params = new ArrayList<>();
+
+        if (hasText(filter.className())) {
+            // 클래스명 앞부분 일치 -> idx1 범위 스캔, 시작 시각 범위 / 커서도 같은 인덱스 키로 건다
+            sql.append("""
+                    FROM (SELECT DISTINCT c.execution_id
+                          FROM bng000a.c_test_execution_class c
+                          WHERE c.class_name LIKE ? ESCAPE '!'
+                    """);
+            params.add(escapeLike(filter.className().trim()) + "%");
+            appendStartedAtRange(sql, params, "c", filter, beforeStartedAt, beforeExecutionId);
+            sql.append("""
+                         ) k
+                    JOIN bng000a.c_test_execution e ON e.execution_id = k.execution_id
+                    """);
+        } else {
+            sql.append("FROM bng000a.c_test_execution e\n");
+        }
+        sql.append("""
+                LEFT JOIN bng000a.c_morning_monitor_manager m ON e.requester_ip = m.EMPIP
+                WHERE 1 = 1
+                """);
+        appendStartedAtRange(sql, params, "e", filter, beforeStartedAt, beforeExecutionId);
+
+        if (hasText(filter.status())) {
+            switch (filter.status()) {
+                case "RUNNING" -> sql.append("  AND e.status = 'RUNNING'\n");
+                case "SUCCESS" -> sql.append("  AND e.status = 'COMPLETED' AND e.failed_count = 0\n");
+                case "FAILED" -> sql.append("  AND e.status IN ('COMPLETED', 'FAILED') AND (e.failed_count > 0 OR e.status = 'FAILED')\n");
+                default -> throw new IllegalArgumentException("Unknown status filter: " + filter.status());
+            }
+        }
+        if (hasText(filter.requester())) {
+            // IP 일치 또는 이름이 같은 담당자의 IP - 둘 다 idx5 (requester_ip, ...) 로 찾는다
+            sql.append("""
+                      AND (e.requester_ip = ?
+                           OR e.requester_ip IN (SELECT r.EMPIP FROM bng000a.c_morning_monitor_manager r WHERE r.EMPNM = ?))
+                    """);
+            params.add(filter.requester().trim());
+            params.add(filter.requester().trim());
+        }
+
+        sql.append("""
+                ORDER BY e.started_at DESC, e.execution_id DESC
+                FETCH FIRST ? ROWS ONLY
+                """);
+        params.add(limit);
+        return withClasses(jdbcTemplate.query(sql.toString(), executionRowMapper, params.toArray()));
+    }
+
+    /**
+     * 커서 + 시작일 범위 조건 (alias 테이블의 started_at, execution_id 기준)
+     */
+    private static void appendStartedAtRange(StringBuilder sql, List<Object> params, String alias,
+                                             TestExecutionFilter filter, LocalDateTime beforeStartedAt,
+                                             String beforeExecutionId) {
+        if (beforeStartedAt != null && beforeExecutionId != null) {
+            sql.append("  AND (").append(alias).append(".started_at < ? OR (")
+                    .append(alias).append(".started_at = ? AND ").append(alias).append(".execution_id < ?))\n");
+            params.add(Timestamp.valueOf(beforeStartedAt));
+            params.add(Timestamp.valueOf(beforeStartedAt));
+            params.add(beforeExecutionId);
+        }
+        if (filter.from() != null) {
+            sql.append("  AND ").append(alias).append(".started_at >= ?\n");
+            params.add(Timestamp.valueOf(filter.from().atStartOfDay()));
+        }
+        if (filter.to() != null) {
+            sql.append("  AND ").append(alias).append(".started_at < ?\n");
+            params.add(Timestamp.valueOf(filter.to().plusDays(1).atStartOfDay()));
+        }
+    }
+
+    /**
+     * LIKE 패턴 문자 (%, _) 를 ESCAPE '!' 기준으로 이스케이프
+     */
+    static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    /**
+     * 실행 목록에 요청 클래스 행을 한 번에 채운다 (실행 수와 관계없이 IN 조회 한 번)
+     */
+    private List<TestExecution> withClasses(List<TestExecution> executions) {
+        if (executions.isEmpty()) {
+            return executions;
+        }
+        Map<String, List<ExecutionClass>> classes = classRepository.findByExecutionIds(
+                executions.stream().map(TestExecution::getExecutionId).toList());
+        for (TestExecution execution : executions) {
+            execution.setClasses(classes.getOrDefault(execution.getExecutionId(), List.of()));
+        }
+        return executions;
     }
 
     @Override
     public List<TestResultRecord> findResultsByExecutionId(String executionId) {
-        return jdbcTemplate.query(
+        List<TestResultRecord> results = unboundedJdbc.get().query(
                 "SELECT * FROM bng000a.c_test_result WHERE execution_id = ?",
                 resultRowMapper, executionId
         );
+        resolveBodies(results);
+        return results;
+    }
+
+    /**
+     * 결과 트리 목록용 - CLOB/해시 컬럼은 읽지 않고 본문 존재 여부만 계산 (LOB fetch 없음)
+     */
+    @Override
+    public List<TestResultRecord> findResultOutlineByExecutionId(String executionId) {
+        String sql = """
+                SELECT id, execution_id, test_id, parent_test_id, display_name, status, duration_millis,
+                       CASE WHEN error_message IS NULL AND stack_trace IS NULL AND stdout IS NULL
+                                 AND error_message_hash IS NULL AND stack_trace_hash IS NULL AND stdout_hash IS NULL
+                            THEN 0 ELSE 1 END AS has_details
+                FROM bng000a.c_test_result
+                WHERE execution_id = ?
+                ORDER BY id
+                """;
+        return unboundedJdbc.get().query(sql, (rs, rowNum) -> TestResultRecord.builder()
+                .id(rs.getLong("id"))
+                .executionId(rs.getString("execution_id"))
+                .testId(rs.getString("test_id"))
+                .parentTestId(rs.getString("parent_test_id"))
+                .displayName(rs.getString("display_name"))
+                .status(TestStatus.valueOf(rs.getString("status")))
+                .durationMillis(rs.getLong("duration_millis"))
+                .hasDetails(rs.getInt("has_details") == 1)
+                .build(), executionId);
+    }
+
+    @Override
+    public Optional<TestResultRecord> findResultById(String executionId, long resultId) {
+        List<TestResultRecord> results = jdbcTemplate.query(
+                "SELECT * FROM bng000a.c_test_result WHERE id = ? AND execution_id = ?",
+                resultRowMapper, resultId, executionId
+        );
+        resolveBodies(results);
+        return results.stream().findFirst();
+    }
+
+    /**
+     * 해시로 저장된 본문을 c_test_blob 에서 한 번에 읽어 채운다 (같은 본문은 한 번만 조회/압축 해제)
+     */
+    private void resolveBodies(List<TestResultRecord> results) {
+        List<String> hashes = new ArrayList<>();
+        for (TestResultRecord result : results) {
+            hashes.add(result.getErrorMessageHash());
+            hashes.add(result.getStackTraceHash());
+            hashes.add(result.getStdoutHash());
+        }
+        if (hashes.stream().allMatch(Objects::isNull)) {
+            return;
+        }
+
+        Map<String, String> bodies = blobStore.loadAll(hashes);
+        for (TestResultRecord result : results) {
+            if (result.getErrorMessageHash() != null) {
+                result.setErrorMessage(bodies.get(result.getErrorMessageHash()));
+            }
+            if (result.getStackTraceHash() != null) {
+                result.setStackTrace(bodies.get(result.getStackTraceHash()));
+            }
+            if (result.getStdoutHash() != null) {
+                result.setStdout(bodies.get(result.getStdoutHash()));
+            }
+        }
     }
 
     @Override
@@ -195,37 +469,85 @@ public class TestExecutionDbRepository implements TestExecutionRepository {
         ).stream().findFirst();
     }
 
+    /**
+     * 테스트별 최신 결과 - c_test_stats.last_status (테스트당 한 행, 일별 집계 시 실행 시작 순서 기준으로 갱신)
+     * 아직 집계되지 않은 실행 결과는 기동 시 백필로 반영되고, 이후 결과는 TestLastStatusCache 가 직접 갱신한다
+     */
+    @Override
+    public Map<String, TestStatus> findLatestStatuses() {
+        Map<String, TestStatus> statuses = new HashMap<>();
+        unboundedJdbc.get().query("SELECT test_id, last_status FROM bng000a.c_test_stats", rs -> {
+            statuses.put(rs.getString("test_id"), TestStats.status(rs.getString("last_status").charAt(0)));
+        });
+        return statuses;
+    }
+
+    /**
+     * 오늘 통계 = 오늘 일별 집계 + 아직 집계되지 않은 오늘 실행 (수행중 / 집계 대기, idx6)
+     */
     @Override
     public Map<String, Object> getTodayStats() {
         String sql = """
                 SELECT
-                    COUNT(*) as "total_executions",
+                    COALESCE(SUM(executions), 0) as "total_executions",
                     COALESCE(SUM(total_tests), 0) as "total_tests",
                     COALESCE(SUM(success_count), 0) as "success_count",
                     COALESCE(SUM(failed_count), 0) as "failed_count",
                     COALESCE(SUM(skipped_count), 0) as "skipped_count"
-                FROM bng000a.c_test_execution
-                WHERE started_at >= CURRENT DATE
-                  AND started_at < CURRENT DATE + 1 DAY
+                FROM (
+                    SELECT executions, total_tests, success_count, failed_count, skipped_count
+                    FROM bng000a.c_test_daily_stats
+                    WHERE stat_date = CURRENT DATE
+                    UNION ALL
+                    SELECT 1, total_tests, success_count, failed_count, skipped_count
+                    FROM bng000a.c_test_execution
+                    WHERE rolled_up = 0
+                      AND started_at >= CURRENT DATE
+                      AND started_at < CURRENT DATE + 1 DAY
+                ) t
                 """;
         return jdbcTemplate.queryForMap(sql);
     }
 
+    /**
+     * 최근 days 일 (오늘 포함) 일별 추이 - 끝난 실행만 (일별 집계 행 수 = 최대 days)
+     */
     @Override
-    public List<Map<String, Object>> getWeeklyTrend() {
+    public List<Map<String, Object>> getDailyTrend(int days) {
         String sql = """
                 SELECT
-                    DATE(started_at) as "date",
-                    COUNT(*) as "executions",
-                    COALESCE(SUM(success_count), 0) as "success_count",
-                    COALESCE(SUM(failed_count), 0) as "failed_count"
-                FROM bng000a.c_test_execution
-                WHERE started_at >= CURRENT DATE - 6 DAYS 
-                  AND status <> 'RUNNING'
-                GROUP BY DATE(started_at)
-                ORDER BY DATE(started_at)
+                    stat_date as "date",
+                    executions as "executions",
+                    success_count as "success_count",
+                    failed_count as "failed_count"
+                FROM bng000a.c_test_daily_stats
+                WHERE stat_date > CURRENT DATE - ? DAYS
+                ORDER BY stat_date
+                """;
+        return jdbcTemplate.queryForList(sql, days);
+    }
+
+    /**
+     * 최근 days 일 클래스별 합계 - 실패 많은 순 (읽는 행 수 = days x 클래스 수, 이력 크기와 무관)
+     */
+    @Override
+    public List<Map<String, Object>> getClassStats(int days, int limit) {
+        String sql = """
+                SELECT
+                    class_name as "class_name",
+                    SUM(executions) as "executions",
+                    SUM(total_tests) as "total_tests",
+                    SUM(success_count) as "success_count",
+                    SUM(failed_count) as "failed_count",
+                    SUM(skipped_count) as "skipped_count",
+                    SUM(total_duration_millis) as "total_duration_millis"
+                FROM bng000a.c_test_daily_class_stats
+                WHERE stat_date > CURRENT DATE - ? DAYS
+                GROUP BY class_name
+                ORDER BY SUM(failed_count) DESC, SUM(total_tests) DESC, class_name
+                FETCH FIRST ? ROWS ONLY
                 """;
-        return jdbcTemplate.queryForList(sql);
+        return jdbcTemplate.queryForList(sql, days, limit);
     }
 
     @Override
@@ -234,6 +556,7 @@ public class TestExecutionDbRepository implements TestExecutionRepository {
                 SELECT
                     r.display_name as "display_name",
                     r.error_message as "error_message",
+                    r.error_message_hash as "error_message_hash",
                     e.started_at as "started_at",
                     e.execution_id as "execution_id"
                 FROM bng000a.c_test_result r
@@ -242,12 +565,33 @@ public class TestExecutionDbRepository implements TestExecutionRepository {
                 ORDER BY e.started_at DESC
                 FETCH FIRST ? ROWS ONLY
                 """;
-        return jdbcTemplate.queryForList(sql, limit);
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(sql, limit);
+        List<String> hashes = rows.stream()
+                .map(row -> (String) row.get("error_message_hash"))
+                .filter(Objects::nonNull)
+                .toList();
+        if (!hashes.isEmpty()) {
+            Map<String, String> bodies = blobStore.loadAll(hashes);
+            for (Map<String, Object> row : rows) {
+                String hash = (String) row.get("error_message_hash");
+                if (hash != null) {
+                    row.put("error_message", bodies.get(hash));
+                }
+            }
+        }
+        return rows;
     }
 
     @Override
     public int getTotalTestClasses() {
-        String sql = "SELECT COUNT(DISTINCT classname) FROM bng000a.C_TEST_NODE_CATALOG WHERE type = 'CONTAINER' AND classname IS NOT NULL AND unique_id NOT LIKE '%[nested-class:%'";
+        String sql = """
+                SELECT COUNT(DISTINCT c.classname)
+                FROM bng000a.C_TEST_NODE_CATALOG c
+                JOIN bng000a.C_TEST_CATALOG_GENERATION g ON g.id = 1
+                WHERE c.type = 'CONTAINER' AND c.classname IS NOT NULL AND c.unique_id NOT LIKE '%[nested-class:%'
+                  AND c.gen_from <= g.active_generation
+                  AND (c.gen_to IS NULL OR c.gen_to > g.active_generation)
+                """;
         Integer count = jdbcTemplate.queryForObject(sql, Integer.class);
         return count != null ? count : 0;
     }
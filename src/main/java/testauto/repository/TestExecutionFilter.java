@@ -0,0 +1,24 @@
+package testauto.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 실행 이력 검색 조건 (모두 선택, null/빈 값이면 조건 없음)
+ *
+ * @param status    RUNNING / SUCCESS (실패 0건) / FAILED (실패 1건 이상 또는 실행 자체 실패)
+ * @param requester 요청자 이름 또는 IP (정확히 일치)
+ * @param className 실행한 클래스명 (앞부분 일치, 대소문자 구분 - 패키지명부터 입력)
+ * @param from      시작일 (포함)
+ * @param to        종료일 (포함)
+ */
+public record TestExecutionFilter(
+        String status,
+        String requester,
+        String className,
+        LocalDate from,
+        LocalDate to
+) {
+    public static TestExecutionFilter none() {
+        return new TestExecutionFilter(null, null, null, null, null);
+    }
+}
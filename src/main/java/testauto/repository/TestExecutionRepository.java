@@ -2,8 +2,10 @@ package testauto.repository;
 
 import testauto.domain.TestExecution;
 import testauto.domain.TestResultRecord;
+import testauto.domain.TestStatus;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -13,15 +15,29 @@ public interface TestExecutionRepository {
     void updateExecution(TestExecution execution);
     void saveResult(TestResultRecord result);
     void saveAllResults(List<TestResultRecord> results);
+
+    // Journal apply (TestResultJournal) - journalSeq 가 실행 행의 journal_seq 보다 클 때만 반영, 이미 반영했으면 false
+    boolean saveExecution(TestExecution execution, long journalSeq);
+    boolean saveResultBatch(String executionId, List<TestResultRecord> results, TestExecution counterDelta, long journalSeq);
+    boolean completeExecution(TestExecution execution, List<TestResultRecord> results, long journalSeq);
+    boolean finishExecution(String executionId, LocalDateTime finishedAt, String status, long journalSeq);
+
     Optional<TestExecution> findExecutionById(String executionId);
     List<TestExecution> findAllExecutions();
     List<TestExecution> findRecentExecutions(int limit);
+    List<TestExecution> findRecentCompletedTimings(int limit);
+    List<TestExecution> findExecutionPage(TestExecutionFilter filter, LocalDateTime beforeStartedAt,
+                                          String beforeExecutionId, int limit);
     List<TestResultRecord> findResultsByExecutionId(String executionId);
+    List<TestResultRecord> findResultOutlineByExecutionId(String executionId);
+    Optional<TestResultRecord> findResultById(String executionId, long resultId);
     Optional<TestExecution> findLatestExecution();
+    Map<String, TestStatus> findLatestStatuses();
 
-    // Dashboard statistics
+    // Dashboard statistics (c_test_daily_stats / c_test_daily_class_stats)
     Map<String, Object> getTodayStats();
-    List<Map<String, Object>> getWeeklyTrend();
+    List<Map<String, Object>> getDailyTrend(int days);
+    List<Map<String, Object>> getClassStats(int days, int limit);
     List<Map<String, Object>> getRecentFailures(int limit);
     int getTotalTestClasses();
 
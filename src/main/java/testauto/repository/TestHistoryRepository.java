@@ -0,0 +1,295 @@
+package testauto.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import testauto.domain.DurationStats;
+import testauto.domain.TestStats;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 테스트별 실행 이력 (c_test_history) / 요약 (c_test_stats) / 클래스별 소요 시간 (c_test_class_duration)
+ * - 실행 하나의 테스트 결과를 받아 이력 행 추가 + 요약 갱신 (호출자 트랜잭션 안에서)
+ *   요약의 최근 결과는 실행 시작 순서 기준 - 더 최근 실행이 먼저 반영된 뒤 들어온 실행은 누적 횟수만 (TestStats.record)
+ * - 이력 조회는 (test_id, run_at DESC, execution_id DESC) INCLUDE 인덱스만 읽으므로 이력이 길어도 limit 건만 읽는다
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class TestHistoryRepository {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final RowMapper<TestStats> statsRowMapper = (rs, rowNum) ->
+            TestStats.builder()
+                    .testId(rs.getString("test_id"))
+                    .displayName(rs.getString("display_name"))
+                    .className(rs.getString("class_name"))
+                    .runs(rs.getInt("runs"))
+                    .passes(rs.getInt("passes"))
+                    .failures(rs.getInt("failures"))
+                    .skips(rs.getInt("skips"))
+                    .flips(rs.getInt("flips"))
+                    .recentStatuses(rs.getString("recent_statuses"))
+                    .recentFlips(rs.getInt("recent_flips"))
+                    .lastStatus(rs.getString("last_status").charAt(0))
+                    .lastRunAt(rs.getTimestamp("last_run_at").toLocalDateTime())
+                    .lastFailureAt(rs.getTimestamp("last_failure_at") != null ?
+                            rs.getTimestamp("last_failure_at").toLocalDateTime() : null)
+                    .lastFailureExecutionId(rs.getString("last_failure_execution_id"))
+                    .recentDurations(rs.getString("recent_durations"))
+                    .build();
+
+    private final RowMapper<ClassDuration> classDurationRowMapper = (rs, rowNum) ->
+            new ClassDuration(
+                    rs.getString("class_name"),
+                    rs.getInt("runs"),
+                    rs.getInt("last_tests"),
+                    DurationStats.of(rs.getString("recent_durations")));
+
+    /**
+     * 실행 하나의 테스트 결과 반영
+     *
+     * @param runAt 실행 시작 시각
+     */
+    public void record(String executionId, LocalDateTime runAt, List<TestRun> runs) {
+        if (runs.isEmpty()) {
+            return;
+        }
+        Timestamp runAtTs = Timestamp.valueOf(runAt);
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO bng000a.c_test_history (test_id, run_at, execution_id, status, duration_millis)
+                VALUES (?, ?, ?, ?, ?)
+                """, runs, CHUNK_SIZE, (ps, run) -> {
+            ps.setString(1, run.testId());
+            ps.setTimestamp(2, runAtTs);
+            ps.setString(3, executionId);
+            ps.setString(4, String.valueOf(run.status()));
+            ps.setInt(5, (int) Math.min(run.durationMillis(), Integer.MAX_VALUE));
+        });
+
+        Map<String, TestStats> existing = findStats(runs.stream().map(TestRun::testId).toList());
+        List<TestStats> inserts = new ArrayList<>();
+        List<TestStats> updates = new ArrayList<>();
+        for (TestRun run : runs) {
+            TestStats stats = existing.get(run.testId());
+            if (stats == null) {
+                stats = TestStats.builder().testId(run.testId()).build();
+                inserts.add(stats);
+            } else {
+                updates.add(stats);
+            }
+            stats.setDisplayName(run.displayName());
+            stats.setClassName(run.className());
+            stats.record(run.status(), run.durationMillis(), runAt, executionId);
+        }
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO bng000a.c_test_stats
+                (display_name, class_name, runs, passes, failures, skips, flips, recent_statuses, recent_flips,
+                 last_status, last_run_at, last_failure_at, last_failure_execution_id, recent_durations, updated_at,
+                 test_id)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT TIMESTAMP, ?)
+                """, inserts, CHUNK_SIZE, (ps, stats) -> bindStats(ps, stats));
+        jdbcTemplate.batchUpdate("""
+                UPDATE bng000a.c_test_stats
+                SET display_name = ?, class_name = ?, runs = ?, passes = ?, failures = ?, skips = ?, flips = ?,
+                    recent_statuses = ?, recent_flips = ?, last_status = ?, last_run_at = ?, last_failure_at = ?,
+                    last_failure_execution_id = ?, recent_durations = ?, updated_at = CURRENT TIMESTAMP
+                WHERE test_id = ?
+                """, updates, CHUNK_SIZE, (ps, stats) -> bindStats(ps, stats));
+
+        log.debug("Recorded history for {} tests of execution {} ({} new)", runs.size(), executionId, inserts.size());
+    }
+
+    /**
+     * 실행 하나의 클래스별 소요 시간 (클래스에 속한 테스트 소요 시간 합) 반영
+     */
+    public void recordClassDurations(List<ClassRun> runs) {
+        if (runs.isEmpty()) {
+            return;
+        }
+        Map<String, String> existing = new HashMap<>(runs.size() * 2);
+        for (ClassDurationRow row : findClassDurationRows(runs.stream().map(ClassRun::className).toList())) {
+            existing.put(row.className(), row.recentDurations());
+        }
+        List<ClassRun> inserts = runs.stream().filter(run -> !existing.containsKey(run.className())).toList();
+        List<ClassRun> updates = runs.stream().filter(run -> existing.containsKey(run.className())).toList();
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO bng000a.c_test_class_duration (class_name, runs, last_tests, recent_durations, updated_at)
+                VALUES (?, 1, ?, ?, CURRENT TIMESTAMP)
+                """, inserts, CHUNK_SIZE, (ps, run) -> {
+            ps.setString(1, run.className());
+            ps.setInt(2, run.tests());
+            ps.setString(3, DurationStats.append(null, run.durationMillis()));
+        });
+        jdbcTemplate.batchUpdate("""
+                UPDATE bng000a.c_test_class_duration
+                SET runs = runs + 1, last_tests = ?, recent_durations = ?, updated_at = CURRENT TIMESTAMP
+                WHERE class_name = ?
+                """, updates, CHUNK_SIZE, (ps, run) -> {
+            ps.setInt(1, run.tests());
+            ps.setString(2, DurationStats.append(existing.get(run.className()), run.durationMillis()));
+            ps.setString(3, run.className());
+        });
+    }
+
+    /**
+     * 클래스별 최근 소요 시간 (한 번도 끝까지 실행된 적 없는 클래스는 결과에 없음)
+     */
+    public Map<String, ClassDuration> findClassDurations(Collection<String> classNames) {
+        List<String> distinct = classNames.stream().distinct().toList();
+        Map<String, ClassDuration> durations = new HashMap<>(distinct.size() * 2);
+        for (int from = 0; from < distinct.size(); from += CHUNK_SIZE) {
+            List<String> chunk = distinct.subList(from, Math.min(from + CHUNK_SIZE, distinct.size()));
+            String sql = "SELECT * FROM bng000a.c_test_class_duration WHERE class_name IN ("
+                    + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+            for (ClassDuration row : jdbcTemplate.query(sql, classDurationRowMapper, chunk.toArray())) {
+                durations.put(row.className(), row);
+            }
+        }
+        return durations;
+    }
+
+    public Optional<TestStats> findStats(String testId) {
+        return jdbcTemplate.query("SELECT * FROM bng000a.c_test_stats WHERE test_id = ?", statsRowMapper, testId)
+                .stream().findFirst();
+    }
+
+    /**
+     * 최근 실행 순 이력 - 키셋 (이전 페이지 마지막 행의 run_at, execution_id 이후)
+     *
+     * @param before            이 시각 이전 실행만 (다음 페이지 조회용, null 이면 최신부터)
+     * @param beforeExecutionId before 와 같은 시각이면 이 실행 id 보다 작은 것만 (null 이면 before 시각 이전만)
+     */
+    public List<HistoryRow> findHistory(String testId, LocalDateTime before, String beforeExecutionId, int limit) {
+        String sql;
+        Object[] params;
+        if (before == null) {
+            sql = """
+                  SELECT run_at, execution_id, status, duration_millis
+                  FROM bng000a.c_test_history
+                  WHERE test_id = ?
+                  ORDER BY run_at DESC, execution_id DESC
+                  FETCH FIRST ? ROWS ONLY
+                  """;
+            params = new Object[]{testId, limit};
+        } else if (beforeExecutionId == null) {
+            sql = """
+                  SELECT run_at, execution_id, status, duration_millis
+                  FROM bng000a.c_test_history
+                  WHERE test_id = ? AND run_at < ?
+                  ORDER BY run_at DESC, execution_id DESC
+                  FETCH FIRST ? ROWS ONLY
+                  """;
+            params = new Object[]{testId, Timestamp.valueOf(before), limit};
+        } else {
+            sql = """
+                  SELECT run_at, execution_id, status, duration_millis
+                  FROM bng000a.c_test_history
+                  WHERE test_id = ? AND (run_at < ? OR (run_at = ? AND execution_id < ?))
+                  ORDER BY run_at DESC, execution_id DESC
+                  FETCH FIRST ? ROWS ONLY
+                  """;
+            Timestamp beforeTs = Timestamp.valueOf(before);
+            params = new Object[]{testId, beforeTs, beforeTs, beforeExecutionId, limit};
+        }
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new HistoryRow(
+                rs.getTimestamp("run_at").toLocalDateTime(),
+                rs.getString("execution_id"),
+                rs.getString("status").charAt(0),
+                rs.getInt("duration_millis")), params);
+    }
+
+    /**
+     * since 이후 실행된 테스트 중 최근 결과가 자주 바뀐 순
+     */
+    public List<TestStats> findFlakiest(LocalDateTime since, int limit) {
+        return jdbcTemplate.query("""
+                SELECT *
+                FROM bng000a.c_test_stats
+                WHERE recent_flips > 0 AND last_run_at >= ?
+                ORDER BY recent_flips DESC, last_run_at DESC
+                FETCH FIRST ? ROWS ONLY
+                """, statsRowMapper, Timestamp.valueOf(since), limit);
+    }
+
+    private Map<String, TestStats> findStats(List<String> testIds) {
+        List<String> distinct = testIds.stream().distinct().toList();
+        Map<String, TestStats> stats = new HashMap<>(distinct.size() * 2);
+        for (int from = 0; from < distinct.size(); from += CHUNK_SIZE) {
+            List<String> chunk = distinct.subList(from, Math.min(from + CHUNK_SIZE, distinct.size()));
+            String sql = "SELECT * FROM bng000a.c_test_stats WHERE test_id IN ("
+                    + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+            for (TestStats row : jdbcTemplate.query(sql, statsRowMapper, chunk.toArray())) {
+                stats.put(row.getTestId(), row);
+            }
+        }
+        return stats;
+    }
+
+    private List<ClassDurationRow> findClassDurationRows(List<String> classNames) {
+        List<ClassDurationRow> rows = new ArrayList<>(classNames.size());
+        for (int from = 0; from < classNames.size(); from += CHUNK_SIZE) {
+            List<String> chunk = classNames.subList(from, Math.min(from + CHUNK_SIZE, classNames.size()));
+            String sql = "SELECT class_name, recent_durations FROM bng000a.c_test_class_duration WHERE class_name IN ("
+                    + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+            rows.addAll(jdbcTemplate.query(sql, (rs, rowNum) -> new ClassDurationRow(
+                    rs.getString("class_name"), rs.getString("recent_durations")), chunk.toArray()));
+        }
+        return rows;
+    }
+
+    private static void bindStats(java.sql.PreparedStatement ps, TestStats stats) throws java.sql.SQLException {
+        ps.setString(1, stats.getDisplayName());
+        ps.setString(2, stats.getClassName());
+        ps.setInt(3, stats.getRuns());
+        ps.setInt(4, stats.getPasses());
+        ps.setInt(5, stats.getFailures());
+        ps.setInt(6, stats.getSkips());
+        ps.setInt(7, stats.getFlips());
+        ps.setString(8, stats.getRecentStatuses());
+        ps.setInt(9, stats.getRecentFlips());
+        ps.setString(10, String.valueOf(stats.getLastStatus()));
+        ps.setTimestamp(11, Timestamp.valueOf(stats.getLastRunAt()));
+        ps.setTimestamp(12, stats.getLastFailureAt() != null ? Timestamp.valueOf(stats.getLastFailureAt()) : null);
+        ps.setString(13, stats.getLastFailureExecutionId());
+        ps.setString(14, stats.getRecentDurations());
+        ps.setString(15, stats.getTestId());
+    }
+
+    /**
+     * @param status S / F / K
+     */
+    public record TestRun(String testId, String displayName, String className, char status, long durationMillis) {}
+
+    /**
+     * @param tests          이번 실행에서 끝난 테스트 수
+     * @param durationMillis 테스트 소요 시간 합
+     */
+    public record ClassRun(String className, int tests, long durationMillis) {}
+
+    /**
+     * @param lastTests 마지막 실행의 테스트 수
+     */
+    public record ClassDuration(String className, int runs, int lastTests, DurationStats duration) {}
+
+    private record ClassDurationRow(String className, String recentDurations) {}
+
+    public record HistoryRow(LocalDateTime runAt, String executionId, char status, int durationMillis) {}
+}
@@ -0,0 +1,89 @@
+package testauto.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import testauto.domain.TestResultRecord;
+import testauto.domain.TestStatus;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테스트별 마지막 실행 결과 캐시 (test_id -> status)
+ * - 최초 조회 시 c_test_stats 에서 테스트별 마지막 결과를 한 번 읽어 온다
+ * - 이후에는 결과 저장 시점에 갱신하므로 트리 집계에 추가 쿼리가 필요 없다
+ * - version 은 트리 / 직렬화된 트리 응답 캐시 무효화 용도 - 실행 중에는 결과 배치가 초 단위로 들어오므로
+ *   갱신이 있어도 refresh-interval 에 한 번만 올린다 (그 사이 트리 집계 뱃지는 최대 그만큼 늦다)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class TestLastStatusCache {
+
+    private final TestExecutionRepository testExecutionRepository;
+
+    private final Map<String, TestStatus> statuses = new ConcurrentHashMap<>();
+    // 갱신 횟수 (record 마다 증가) / 밖으로 공개한 version 과 공개 시각
+    private final AtomicLong updates = new AtomicLong();
+    private volatile long version;
+    private volatile long versionPublishedAt;
+    private volatile boolean loaded;
+
+    @Value("${testcode.tree.status-refresh-interval-millis:10000}")
+    private long refreshIntervalMillis;
+
+    public TestStatus statusOf(String testId) {
+        ensureLoaded();
+        return statuses.get(testId);
+    }
+
+    public long version() {
+        ensureLoaded();
+        long latest = updates.get();
+        if (latest != version && System.currentTimeMillis() - versionPublishedAt >= refreshIntervalMillis) {
+            publish(latest);
+        }
+        return version;
+    }
+
+    private synchronized void publish(long latest) {
+        if (latest > version) {
+            version = latest;
+            versionPublishedAt = System.currentTimeMillis();
+        }
+    }
+
+    public void record(Collection<TestResultRecord> results) {
+        ensureLoaded();
+        for (TestResultRecord result : results) {
+            if (result.getStatus() != null && result.getStatus() != TestStatus.RUNNING) {
+                statuses.put(result.getTestId(), result.getStatus());
+            }
+        }
+        updates.incrementAndGet();
+    }
+
+    private void ensureLoaded() {
+        if (!loaded) {
+            load();
+        }
+    }
+
+    private synchronized void load() {
+        if (loaded) {
+            return;
+        }
+        try {
+            statuses.putAll(testExecutionRepository.findLatestStatuses());
+            log.info("Last status cache loaded from DB: {} tests", statuses.size());
+        } catch (Exception e) {
+            // 집계 뱃지가 비어 보일 뿐 트리 자체는 동작해야 하므로 빈 상태로 시작
+            log.warn("Failed to load last test statuses: {}", e.getMessage());
+        }
+        loaded = true;
+    }
+}
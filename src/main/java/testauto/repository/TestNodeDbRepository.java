@@ -5,17 +5,32 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import testauto.domain.TestNode;
+import testauto.exception.CatalogGenerationConflictException;
 
 import java.sql.PreparedStatement;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
+/**
+ * 카탈로그 행은 [gen_from, gen_to) 구간의 세대에서만 보인다 (gen_to 가 null 이면 아직 유효)
+ * 활성 세대는 C_TEST_CATALOG_GENERATION 의 단일 포인터 행이 가리킨다
+ */
 @Repository
 @RequiredArgsConstructor
 public class TestNodeDbRepository implements TestNodeRepository {
+    private static final int BATCH_SIZE = 500;
+
+    private static final String ACTIVE_GENERATION =
+            "(select active_generation from bng000a.C_TEST_CATALOG_GENERATION where id = 1)";
+    private static final String VISIBLE_IN_ACTIVE =
+            "gen_from <= " + ACTIVE_GENERATION + " and (gen_to is null or gen_to > " + ACTIVE_GENERATION + ")";
+
     private final JdbcTemplate jdbcTemplate;
+    private final UnboundedJdbcTemplateProvider unboundedJdbc;
     private final RowMapper<TestNode> rowMapper = (rs, rowNum) -> {
         TestNode testNode = TestNode.builder()
                 .uniqueId(rs.getString("unique_id"))
@@ -23,6 +38,7 @@ public class TestNodeDbRepository implements TestNodeRepository {
                 .displayName(rs.getString("displayname"))
                 .className(rs.getString("classname"))
                 .type(rs.getString("type"))
+                .tags(rs.getString("tags"))
                 .build();
         return testNode;
     };
@@ -31,8 +47,8 @@ public class TestNodeDbRepository implements TestNodeRepository {
     @Override
     public void save(TestNode testNode) {
         String sql = """
-                INSERT INTO bng000a.C_TEST_NODE_CATALOG (unique_id, parent_unique_id, displayname, classname, type)
-                VALUES (?,?,?,?,?)""";
+                INSERT INTO bng000a.C_TEST_NODE_CATALOG (unique_id, parent_unique_id, displayname, classname, type, tags, gen_from)
+                VALUES (?,?,?,?,?,?,""" + ACTIVE_GENERATION + ")";
         jdbcTemplate.update(con -> {
             PreparedStatement ps = con.prepareStatement(sql);
             ps.setString(1, testNode.getUniqueId());
@@ -40,6 +56,7 @@ public class TestNodeDbRepository implements TestNodeRepository {
             ps.setString(3, testNode.getDisplayName());
             ps.setString(4, testNode.getClassName());
             ps.setString(5, testNode.getType());
+            ps.setString(6, testNode.getTags());
             return ps;
         });
     }
@@ -51,8 +68,8 @@ public class TestNodeDbRepository implements TestNodeRepository {
         }
 
         String sql = """
-                INSERT INTO bng000a.C_TEST_NODE_CATALOG (unique_id, parent_unique_id, displayname, classname, type)
-                VALUES (?,?,?,?,?)""";
+                INSERT INTO bng000a.C_TEST_NODE_CATALOG (unique_id, parent_unique_id, displayname, classname, type, tags, gen_from)
+                VALUES (?,?,?,?,?,?,""" + ACTIVE_GENERATION + ")";
 
         jdbcTemplate.batchUpdate(sql, testNodes, testNodes.size(),
                 (ps, testNode) -> {
@@ -61,26 +78,124 @@ public class TestNodeDbRepository implements TestNodeRepository {
                     ps.setString(3, testNode.getDisplayName());
                     ps.setString(4, testNode.getClassName());
                     ps.setString(5, testNode.getType());
+                    ps.setString(6, testNode.getTags());
                 });
     }
 
     @Override
     public Optional<TestNode> findByUniqueId(String uniqueId) {
-        return jdbcTemplate.query("select * from bng000a.C_TEST_NODE_CATALOG where unique_id = ?", rowMapper, uniqueId).stream().findFirst();
+        return jdbcTemplate.query("select * from bng000a.C_TEST_NODE_CATALOG where unique_id = ? and " + VISIBLE_IN_ACTIVE,
+                rowMapper, uniqueId).stream().findFirst();
     }
 
     @Override
     public List<TestNode> findAll() {
-        return jdbcTemplate.query("select * from bng000a.C_TEST_NODE_CATALOG", rowMapper);
+        return unboundedJdbc.get().query("select * from bng000a.C_TEST_NODE_CATALOG where " + VISIBLE_IN_ACTIVE, rowMapper);
     }
 
     @Override
     public List<TestNode> findByParentId(String parentUniqueId) {
-        return jdbcTemplate.query("select * from bng000a.C_TEST_NODE_CATALOG where parent_unique_id = ?", rowMapper, parentUniqueId);
+        return jdbcTemplate.query("select * from bng000a.C_TEST_NODE_CATALOG where parent_unique_id = ? and " + VISIBLE_IN_ACTIVE,
+                rowMapper, parentUniqueId);
     }
 
     @Override
     public void deleteAll() {
         jdbcTemplate.update("delete from bng000a.C_TEST_NODE_CATALOG where 1=1");
     }
+
+    @Override
+    public long findActiveGeneration() {
+        Long generation = jdbcTemplate.queryForObject(
+                "select active_generation from bng000a.C_TEST_CATALOG_GENERATION where id = 1", Long.class);
+        return generation != null ? generation : 0L;
+    }
+
+    @Override
+    public List<TestNode> findAllByGeneration(long generation) {
+        return unboundedJdbc.get().query(
+                "select * from bng000a.C_TEST_NODE_CATALOG where gen_from <= ? and (gen_to is null or gen_to > ?)",
+                rowMapper, generation, generation);
+    }
+
+    @Override
+    @Transactional
+    public long writeGeneration(long baseGeneration, Collection<TestNode> upserts, Collection<String> deletedUniqueIds) {
+        long generation = baseGeneration + 1;
+
+        // 활성화되지 못한 (롤백되었거나 실패한) 이후 세대의 흔적 정리
+        jdbcTemplate.update("delete from bng000a.C_TEST_NODE_CATALOG where gen_from > ?", baseGeneration);
+        jdbcTemplate.update("update bng000a.C_TEST_NODE_CATALOG set gen_to = null where gen_to > ?", baseGeneration);
+
+        // 변경/삭제 대상의 기존 행은 새 세대부터 보이지 않도록 닫는다
+        String closeSql = "update bng000a.C_TEST_NODE_CATALOG set gen_to = ? where unique_id = ? and gen_to is null";
+        if (deletedUniqueIds != null && !deletedUniqueIds.isEmpty()) {
+            jdbcTemplate.batchUpdate(closeSql, deletedUniqueIds, BATCH_SIZE,
+                    (ps, uniqueId) -> {
+                        ps.setLong(1, generation);
+                        ps.setString(2, uniqueId);
+                    });
+        }
+
+        if (upserts != null && !upserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(closeSql, upserts, BATCH_SIZE,
+                    (ps, testNode) -> {
+                        ps.setLong(1, generation);
+                        ps.setString(2, testNode.getUniqueId());
+                    });
+
+            String insertSql = """
+                    INSERT INTO bng000a.C_TEST_NODE_CATALOG (unique_id, parent_unique_id, displayname, classname, type, tags, gen_from)
+                    VALUES (?,?,?,?,?,?,?)""";
+            jdbcTemplate.batchUpdate(insertSql, upserts, BATCH_SIZE,
+                    (ps, testNode) -> {
+                        ps.setString(1, testNode.getUniqueId());
+                        ps.setString(2, testNode.getParentUniqueId());
+                        ps.setString(3, testNode.getDisplayName());
+                        ps.setString(4, testNode.getClassName());
+                        ps.setString(5, testNode.getType());
+                        ps.setString(6, testNode.getTags());
+                        ps.setLong(7, generation);
+                    });
+        }
+
+        return generation;
+    }
+
+    @Override
+    public void activateGeneration(long generation, long expectedActiveGeneration) {
+        int updated = jdbcTemplate.update("""
+                UPDATE bng000a.C_TEST_CATALOG_GENERATION
+                SET previous_generation = active_generation, active_generation = ?, updatedat = CURRENT TIMESTAMP
+                WHERE id = 1 AND active_generation = ?""", generation, expectedActiveGeneration);
+        if (updated == 0) {
+            throw new CatalogGenerationConflictException("Active catalog generation changed concurrently (expected "
+                    + expectedActiveGeneration + ")");
+        }
+    }
+
+    @Override
+    public OptionalLong rollbackGeneration() {
+        Long previous = jdbcTemplate.queryForObject(
+                "select previous_generation from bng000a.C_TEST_CATALOG_GENERATION where id = 1", Long.class);
+        if (previous == null) {
+            return OptionalLong.empty();
+        }
+
+        int updated = jdbcTemplate.update("""
+                UPDATE bng000a.C_TEST_CATALOG_GENERATION
+                SET active_generation = previous_generation, previous_generation = NULL, updatedat = CURRENT TIMESTAMP
+                WHERE id = 1 AND previous_generation = ?""", previous);
+        return updated > 0 ? OptionalLong.of(previous) : OptionalLong.empty();
+    }
+
+    @Override
+    public int purgeRetiredGenerations() {
+        // 활성 세대와 직전 세대 어디에서도 보이지 않는 행만 삭제 (직전 세대는 롤백용으로 유지)
+        return jdbcTemplate.update("""
+                DELETE FROM bng000a.C_TEST_NODE_CATALOG
+                WHERE gen_to IS NOT NULL
+                  AND gen_to <= (SELECT COALESCE(previous_generation, active_generation)
+                                 FROM bng000a.C_TEST_CATALOG_GENERATION WHERE id = 1)""");
+    }
 }
@@ -2,18 +2,22 @@ package testauto.repository;
 
 import lombok.extern.slf4j.Slf4j;
 import testauto.domain.TestNode;
+import testauto.exception.CatalogGenerationConflictException;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 //@Repository
 public class TestNodeMemoryRepository implements TestNodeRepository {
     private final ConcurrentMap<String, TestNode> store = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
 
     @Override
     public void save(TestNode testNode) {
@@ -54,4 +58,42 @@ public class TestNodeMemoryRepository implements TestNodeRepository {
         store.clear();
         log.debug("Cleared all TestPrograms from in-memory store");
     }
+
+    @Override
+    public long findActiveGeneration() {
+        return generation.get();
+    }
+
+    @Override
+    public List<TestNode> findAllByGeneration(long generation) {
+        return findAll();
+    }
+
+    @Override
+    public long writeGeneration(long baseGeneration, Collection<TestNode> upserts, Collection<String> deletedUniqueIds) {
+        // 메모리 저장소는 세대 이력을 두지 않고 바로 반영한다
+        for (String uniqueId : deletedUniqueIds) {
+            store.remove(uniqueId);
+        }
+        saveAll(upserts);
+        return baseGeneration + 1;
+    }
+
+    @Override
+    public void activateGeneration(long generation, long expectedActiveGeneration) {
+        if (!this.generation.compareAndSet(expectedActiveGeneration, generation)) {
+            throw new CatalogGenerationConflictException("Active catalog generation changed concurrently (expected "
+                    + expectedActiveGeneration + ")");
+        }
+    }
+
+    @Override
+    public OptionalLong rollbackGeneration() {
+        return OptionalLong.empty();
+    }
+
+    @Override
+    public int purgeRetiredGenerations() {
+        return 0;
+    }
 }
@@ -5,6 +5,7 @@ import testauto.domain.TestNode;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 public interface TestNodeRepository {
     void save(TestNode testNode);
@@ -13,4 +14,26 @@ public interface TestNodeRepository {
     List<TestNode> findAll();
     List<TestNode> findByParentId(String parentUniqueId);
     void deleteAll();
+
+
+    // 세대(generation) 관리 - 조회는 항상 활성 세대 기준
+    long findActiveGeneration();
+    List<TestNode> findAllByGeneration(long generation);
+
+    /**
+     * baseGeneration 에 변경분을 적용한 새 세대를 기록 (아직 활성화하지 않음) - 새 세대 번호 반환
+     */
+    long writeGeneration(long baseGeneration, Collection<TestNode> upserts, Collection<String> deletedUniqueIds);
+
+    /**
+     * 활성 세대 포인터 전환 - 현재 활성 세대가 expectedActiveGeneration 이 아니면 실패
+     */
+    void activateGeneration(long generation, long expectedActiveGeneration);
+
+    /**
+     * 활성 세대 포인터를 직전 세대로 되돌림 - 되돌린 세대 번호 반환 (직전 세대가 없으면 empty)
+     */
+    OptionalLong rollbackGeneration();
+
+    int purgeRetiredGenerations();
 }
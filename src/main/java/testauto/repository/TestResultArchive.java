@@ -0,0 +1,83 @@
+package testauto.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import testauto.repository.TestResultJournal.ExecutionLine;
+import testauto.repository.TestResultJournal.ResultLine;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 보관 기간이 지난 실행의 전체 결과 파일 (gzip JSON)
+ * - 파일 위치: {archive-dir}/{executionId 앞 2글자}/{executionId}.json.gz
+ * - 실행 행 / 결과 행은 저널과 같은 형식 (ExecutionLine / ResultLine) - 본문은 c_test_blob 해시가 아닌 원문
+ * - 임시 파일에 쓴 뒤 원자적으로 교체, 이미 있으면 덮어쓰지 않는다 (일부 삭제된 뒤 다시 보관해도 원본 유지)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class TestResultArchive {
+
+    private static final int VERSION = 1;
+    private static final String SUFFIX = ".json.gz";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${testcode.retention.archive-dir:./data/archive}")
+    private String archiveDir;
+
+    public boolean exists(String executionId) {
+        return Files.isRegularFile(path(executionId));
+    }
+
+    /**
+     * @return 새로 썼으면 true, 이미 있으면 false
+     */
+    public boolean write(String executionId, ExecutionLine execution, List<ResultLine> results) throws IOException {
+        Path file = path(executionId);
+        if (Files.isRegularFile(file)) {
+            return false;
+        }
+        Files.createDirectories(file.getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+            objectMapper.writeValue(out, new Archive(VERSION, executionId, LocalDateTime.now(), execution, results));
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.debug("Archived execution {} ({} results) to {}", executionId, results.size(), file);
+        return true;
+    }
+
+    public Optional<Archive> read(String executionId) throws IOException {
+        Path file = path(executionId);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            return Optional.of(objectMapper.readValue(in, Archive.class));
+        }
+    }
+
+    private Path path(String executionId) {
+        if (!executionId.matches("[0-9A-Za-z-]{2,36}")) {
+            throw new IllegalArgumentException("Invalid execution id: " + executionId);
+        }
+        return Path.of(archiveDir, executionId.substring(0, 2), executionId + SUFFIX);
+    }
+
+    public record Archive(int version, String executionId, LocalDateTime archivedAt, ExecutionLine execution,
+                          List<ResultLine> results) {}
+}
@@ -0,0 +1,174 @@
+package testauto.repository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import testauto.domain.TestResultRecord;
+
+import java.io.StringReader;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * c_test_result 대량 INSERT
+ * - chunk-size 단위로 나눠서 실행 (결과가 수천 건이어도 한 번에 거대한 배치/드라이버 버퍼를 만들지 않음)
+ * - 긴 본문 (에러 메시지 / 스택 트레이스 / stdout) 은 TestBlobStore 에 압축 저장하고 해시 컬럼만 기록
+ * - 그 외 CLOB 값은 inline-lob-max-chars 이하면 문자열로, 넘으면 Reader 로 스트리밍 바인딩
+ * - multi-row=true 면 chunk 하나를 DB2 다중 행 INSERT (VALUES (...), (...)) 한 문장으로 실행
+ * - chunk 마다 소요 시간을 testauto.result.insert.chunk 타이머로 기록
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class TestResultBulkWriter {
+
+    private static final String INSERT_PREFIX = """
+            INSERT INTO bng000a.c_test_result
+            (execution_id, test_id, parent_test_id, display_name, status, duration_millis,
+             error_message, stack_trace, stdout, error_message_hash, stack_trace_hash, stdout_hash)
+            VALUES
+            """;
+    private static final String ROW_MARKERS = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMN_COUNT = 12;
+    private static final String INSERT_SQL = INSERT_PREFIX + ROW_MARKERS;
+    // 다중 행 INSERT 한 문장의 최대 행 수 (파라미터 마커 수 제한 대비)
+    private static final int MAX_MULTI_ROWS = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final TestBlobStore blobStore;
+
+    @Value("${testcode.result-insert.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${testcode.result-insert.inline-lob-max-chars:4000}")
+    private int inlineLobMaxChars;
+
+    @Value("${testcode.result-insert.multi-row:false}")
+    private boolean multiRow;
+
+    // 행 수 -> 다중 행 INSERT 문
+    private final Map<Integer, String> multiRowSql = new ConcurrentHashMap<>();
+
+    public WriteStats write(List<TestResultRecord> results) {
+        return write(results, chunkSize, multiRow);
+    }
+
+    public WriteStats write(List<TestResultRecord> results, int chunkSize, boolean multiRow) {
+        if (results == null || results.isEmpty()) {
+            return new WriteStats(0, 0, 0);
+        }
+
+        int size = multiRow ? Math.min(Math.max(chunkSize, 1), MAX_MULTI_ROWS) : Math.max(chunkSize, 1);
+        String mode = multiRow ? "multi-row" : "batch";
+        Timer timer = Timer.builder("testauto.result.insert.chunk")
+                .description("c_test_result chunk insert time")
+                .tag("mode", mode)
+                .register(meterRegistry);
+        Counter rows = Counter.builder("testauto.result.insert.rows")
+                .tag("mode", mode)
+                .register(meterRegistry);
+
+        long start = System.nanoTime();
+        int chunks = 0;
+        for (int from = 0; from < results.size(); from += size) {
+            List<TestResultRecord> chunk = results.subList(from, Math.min(from + size, results.size()));
+            long chunkStart = System.nanoTime();
+            Map<String, String> hashes = blobStore.storeAll(bodiesOf(chunk));
+            if (multiRow) {
+                insertMultiRow(chunk, hashes);
+            } else {
+                insertBatch(chunk, hashes);
+            }
+            timer.record(System.nanoTime() - chunkStart, TimeUnit.NANOSECONDS);
+            rows.increment(chunk.size());
+            chunks++;
+        }
+
+        WriteStats stats = new WriteStats(results.size(), chunks, System.nanoTime() - start);
+        log.debug("Inserted {} results in {} chunks ({}) - {} rows/s",
+                stats.rows(), stats.chunks(), mode, Math.round(stats.rowsPerSecond()));
+        return stats;
+    }
+
+    private static List<String> bodiesOf(List<TestResultRecord> chunk) {
+        List<String> bodies = new ArrayList<>(chunk.size() * 3);
+        for (TestResultRecord result : chunk) {
+            bodies.add(result.getErrorMessage());
+            bodies.add(result.getStackTrace());
+            bodies.add(result.getStdout());
+        }
+        return bodies;
+    }
+
+    private void insertBatch(List<TestResultRecord> chunk, Map<String, String> hashes) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, chunk, chunk.size(), (ps, result) -> bind(ps, 1, result, hashes));
+    }
+
+    private void insertMultiRow(List<TestResultRecord> chunk, Map<String, String> hashes) {
+        String sql = multiRowSql.computeIfAbsent(chunk.size(),
+                n -> INSERT_PREFIX + String.join(", ", Collections.nCopies(n, ROW_MARKERS)));
+        jdbcTemplate.update(sql, ps -> {
+            int index = 1;
+            for (TestResultRecord result : chunk) {
+                index = bind(ps, index, result, hashes);
+            }
+        });
+    }
+
+    /**
+     * 한 행 바인딩
+     *
+     * @return 다음 파라미터 인덱스
+     */
+    private int bind(PreparedStatement ps, int index, TestResultRecord result,
+                     Map<String, String> hashes) throws SQLException {
+        ps.setString(index, result.getExecutionId());
+        ps.setString(index + 1, result.getTestId());
+        ps.setString(index + 2, result.getParentTestId());
+        ps.setString(index + 3, result.getDisplayName());
+        ps.setString(index + 4, result.getStatus().name());
+        ps.setLong(index + 5, result.getDurationMillis());
+        bindText(ps, index + 6, index + 9, result.getErrorMessage(), hashes);
+        bindText(ps, index + 7, index + 10, result.getStackTrace(), hashes);
+        bindText(ps, index + 8, index + 11, result.getStdout(), hashes);
+        return index + COLUMN_COUNT;
+    }
+
+    /**
+     * 블롭으로 뺀 값이면 본문 컬럼은 null 이고 해시 컬럼에 해시, 아니면 본문 컬럼에 값
+     */
+    private void bindText(PreparedStatement ps, int index, int hashIndex, String value,
+                          Map<String, String> hashes) throws SQLException {
+        String hash = value != null ? hashes.get(value) : null;
+        ps.setString(hashIndex, hash);
+        if (value == null || hash != null) {
+            ps.setNull(index, Types.CLOB);
+        } else if (value.length() <= inlineLobMaxChars) {
+            ps.setString(index, value);
+        } else {
+            ps.setCharacterStream(index, new StringReader(value), value.length());
+        }
+    }
+
+    /**
+     * @param elapsedNanos 전체 INSERT 소요 시간
+     */
+    public record WriteStats(int rows, int chunks, long elapsedNanos) {
+        public double rowsPerSecond() {
+            return elapsedNanos > 0 ? rows * 1_000_000_000.0 / elapsedNanos : 0;
+        }
+    }
+}
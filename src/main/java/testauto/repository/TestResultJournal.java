@@ -0,0 +1,302 @@
+package testauto.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import testauto.domain.TestExecution;
+import testauto.domain.TestResultRecord;
+import testauto.domain.TestStatus;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 실행 / 결과 저장 요청의 로컬 추가 전용 저널 (write-behind)
+ * - 항목을 파일 끝에 한 줄씩 추가하고 바로 반환 - DB 반영은 TestResultPersistenceService 의 drain 스레드가 순서대로
+ * - 한 줄 = "crc32(hex8) json" - 기동 시 재생할 때 CRC 가 맞지 않는 줄 (쓰다 만 마지막 줄 등) 은 건너뛴다
+ * - segment-max-bytes 를 넘으면 새 세그먼트 파일 (journal-{첫 seq}.log) 로 넘어가고,
+ *   전부 반영된 이전 세그먼트는 삭제
+ * - seq 는 재기동을 넘어 계속 증가 (c_test_execution.journal_seq 와 비교해서 재생 시 중복 반영을 막는다)
+ * - dir 를 비우면 파일 없이 메모리에서만 순서를 매긴다 (재기동 시 유실)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class TestResultJournal {
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${testcode.result-journal.dir:}")
+    private String dir;
+
+    @Value("${testcode.result-journal.segment-max-bytes:8388608}")
+    private long segmentMaxBytes;
+
+    @Value("${testcode.result-journal.fsync:true}")
+    private boolean fsync;
+
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private FileChannel active;
+    private long sequence;
+
+    /**
+     * 남아 있는 세그먼트를 읽어 반영되지 않았을 수 있는 항목을 돌려준다 (기동 시 한 번)
+     * 이미 DB 에 반영된 항목도 섞여 있을 수 있다 - journal_seq 비교로 건너뛴다
+     */
+    public synchronized List<Entry> open() throws IOException {
+        // 재기동 후에도 seq 가 이전 값보다 커지도록 현재 시각 기준으로 시작
+        sequence = System.currentTimeMillis() * 1000;
+        Path path = path();
+        if (path == null) {
+            return List.of();
+        }
+        Files.createDirectories(path);
+
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(path)) {
+            files = stream.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        for (Path file : files) {
+            long lastSeq = 0;
+            int skipped = 0;
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    Entry entry = parse(line);
+                    if (entry == null) {
+                        skipped++;
+                        continue;
+                    }
+                    entries.add(entry);
+                    lastSeq = Math.max(lastSeq, entry.seq());
+                }
+            }
+            if (skipped > 0) {
+                log.warn("Skipped {} corrupt lines in result journal {}", skipped, file);
+            }
+            segments.addLast(new Segment(file, lastSeq));
+            sequence = Math.max(sequence, lastSeq);
+        }
+        rollSegment();
+
+        if (!entries.isEmpty()) {
+            log.info("Replaying {} result journal entries from {} segments", entries.size(), files.size());
+        }
+        return entries;
+    }
+
+    /**
+     * 항목 추가 - seq 를 매겨서 반환
+     * 파일에 쓰지 못해도 (디스크 문제 등) 항목은 돌려준다 - 호출자는 메모리로만 진행 (재기동 전에 반영되면 유실 없음)
+     */
+    public synchronized Entry append(Type type, String executionId, ExecutionLine execution, List<ResultLine> results) {
+        Entry entry = new Entry(++sequence, type, executionId, execution, results);
+        if (active == null) {
+            return entry;
+        }
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(entry);
+            CRC32 crc = new CRC32();
+            crc.update(json);
+            ByteBuffer buffer = ByteBuffer.allocate(json.length + 10);
+            buffer.put(String.format("%08x ", crc.getValue()).getBytes(StandardCharsets.US_ASCII));
+            buffer.put(json);
+            buffer.put((byte) '\n');
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                active.write(buffer);
+            }
+            if (fsync) {
+                active.force(false);
+            }
+            segments.peekLast().lastSeq = entry.seq();
+            if (active.size() >= segmentMaxBytes) {
+                rollSegment();
+            }
+        } catch (IOException e) {
+            log.error("Failed to append {} for execution {} to result journal: {}", type, executionId, e.getMessage());
+        }
+        return entry;
+    }
+
+    /**
+     * seq 까지 DB 에 반영됨 - 전부 반영된 이전 세그먼트 삭제
+     */
+    public synchronized void markApplied(long seq) {
+        while (segments.size() > 1 && segments.peekFirst().lastSeq <= seq) {
+            Segment segment = segments.removeFirst();
+            try {
+                Files.deleteIfExists(segment.path);
+                log.debug("Deleted applied result journal segment {}", segment.path);
+            } catch (IOException e) {
+                log.warn("Failed to delete result journal segment {}: {}", segment.path, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 반영하지 못하고 포기한 항목을 dead-letter 파일에 남긴다 (수동 확인용)
+     */
+    public synchronized void deadLetter(Entry entry, String reason) {
+        Path path = path();
+        if (path == null) {
+            return;
+        }
+        try {
+            String line = objectMapper.writeValueAsString(entry) + "\n";
+            Files.writeString(path.resolve("dead-letter.log"), "# " + LocalDateTime.now() + " " + reason + "\n" + line,
+                    StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.error("Failed to write dead-letter entry {}: {}", entry.seq(), e.getMessage());
+        }
+    }
+
+    public synchronized void close() {
+        if (active != null) {
+            try {
+                active.close();
+            } catch (IOException e) {
+                log.warn("Failed to close result journal: {}", e.getMessage());
+            }
+            active = null;
+        }
+    }
+
+    private void rollSegment() throws IOException {
+        Path path = path();
+        if (path == null) {
+            return;
+        }
+        if (active != null) {
+            active.close();
+        }
+        Path file = path.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, sequence + 1, SEGMENT_SUFFIX));
+        active = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        segments.addLast(new Segment(file, sequence));
+    }
+
+    private Entry parse(String line) {
+        int sep = line.indexOf(' ');
+        if (sep != 8) {
+            return null;
+        }
+        byte[] json = line.substring(sep + 1).getBytes(StandardCharsets.UTF_8);
+        CRC32 crc = new CRC32();
+        crc.update(json);
+        if (!String.format("%08x", crc.getValue()).equals(line.substring(0, sep))) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, Entry.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private Path path() {
+        return dir == null || dir.isBlank() ? null : Path.of(dir);
+    }
+
+    private static final class Segment {
+        private final Path path;
+        private long lastSeq;
+
+        private Segment(Path path, long lastSeq) {
+            this.path = path;
+            this.lastSeq = lastSeq;
+        }
+    }
+
+    /**
+     * START: 실행 행 추가 / BATCH: 실행 중 결과 배치 + 카운터 증분 / COMPLETE: 남은 결과 + 최종 카운터 / FAIL: 실패 종료
+     */
+    public enum Type { START, BATCH, COMPLETE, FAIL }
+
+    /**
+     * @param execution START / COMPLETE / FAIL 은 실행 값, BATCH 는 카운터 증분
+     */
+    public record Entry(long seq, Type type, String executionId, ExecutionLine execution, List<ResultLine> results) {
+
+        public List<TestResultRecord> resultRecords() {
+            return results == null ? List.of() : results.stream().map(line -> line.toRecord(executionId)).toList();
+        }
+    }
+
+    public record ExecutionLine(LocalDateTime startedAt, LocalDateTime finishedAt, int totalTests, int successCount,
+                                int failedCount, int skippedCount, long totalDurationMillis, String requesterIp,
+                                String classNames, String status, Long estimatedDurationMillis) {
+
+        public static ExecutionLine of(TestExecution execution) {
+            return new ExecutionLine(execution.getStartedAt(), execution.getFinishedAt(), execution.getTotalTests(),
+                    execution.getSuccessCount(), execution.getFailedCount(), execution.getSkippedCount(),
+                    execution.getTotalDurationMillis(), execution.getRequesterIp(), execution.getClassNames(),
+                    execution.getStatus(), execution.getEstimatedDurationMillis());
+        }
+
+        public TestExecution toExecution(String executionId) {
+            return TestExecution.builder()
+                    .executionId(executionId)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .totalTests(totalTests)
+                    .successCount(successCount)
+                    .failedCount(failedCount)
+                    .skippedCount(skippedCount)
+                    .totalDurationMillis(totalDurationMillis)
+                    .requesterIp(requesterIp)
+                    .classNames(classNames)
+                    .status(status)
+                    .estimatedDurationMillis(estimatedDurationMillis)
+                    .build();
+        }
+    }
+
+    public record ResultLine(String testId, String parentTestId, String displayName, TestStatus status,
+                             long durationMillis, String errorMessage, String stackTrace, String stdout) {
+
+        public static ResultLine of(TestResultRecord record) {
+            return new ResultLine(record.getTestId(), record.getParentTestId(), record.getDisplayName(),
+                    record.getStatus(), record.getDurationMillis(), record.getErrorMessage(), record.getStackTrace(),
+                    record.getStdout());
+        }
+
+        public TestResultRecord toRecord(String executionId) {
+            return TestResultRecord.builder()
+                    .executionId(executionId)
+                    .testId(testId)
+                    .parentTestId(parentTestId)
+                    .displayName(displayName)
+                    .status(status)
+                    .durationMillis(durationMillis)
+                    .errorMessage(errorMessage)
+                    .stackTrace(stackTrace)
+                    .stdout(stdout)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package testauto.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import testauto.domain.TestExecution;
+import testauto.domain.TestResultRecord;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 실행 결과 보관 정리용 조회 / 삭제 (TestRetentionService)
+ * - 대상 선택은 c_test_execution_idx7 (retention_state, started_at) 로 오래된 순서대로 limit 건만
+ * - 결과 행 삭제는 id 목록을 나눠서 문장마다 커밋 (잠금 / 로그 사용량을 작게 유지)
+ * - 집계가 끝나지 않은 실행 (rolled_up = 0) 과 수행중인 실행은 대상이 아니다
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class TestRetentionRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UnboundedJdbcTemplateProvider unboundedJdbc;
+    private final TestExecutionRepository executionRepository;
+    private final TestDailyStatsRollup dailyStatsRollup;
+
+    /**
+     * 전체 결과를 보관 중인 실행 중 cutoff 이전에 시작된 것 (최근에 복원한 실행은 제외)
+     */
+    public List<String> findCompactionCandidates(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.queryForList("""
+                SELECT execution_id
+                FROM bng000a.c_test_execution
+                WHERE retention_state = 0 AND started_at < ?
+                  AND rolled_up = 1 AND status <> 'RUNNING'
+                  AND (restored_at IS NULL OR restored_at < ?)
+                ORDER BY started_at
+                FETCH FIRST ? ROWS ONLY
+                """, String.class, Timestamp.valueOf(cutoff), Timestamp.valueOf(cutoff), limit);
+    }
+
+    /**
+     * 통째로 삭제할 실행 - purgeCutoff 이전에 시작, restoredCutoff 이후에 복원한 실행은 제외
+     */
+    public List<PurgeCandidate> findPurgeCandidates(LocalDateTime purgeCutoff, LocalDateTime restoredCutoff,
+                                                    int limit) {
+        return jdbcTemplate.query("""
+                SELECT execution_id, retention_state
+                FROM bng000a.c_test_execution
+                WHERE retention_state IN (0, 1) AND started_at < ?
+                  AND rolled_up = 1 AND status <> 'RUNNING'
+                  AND (restored_at IS NULL OR restored_at < ?)
+                ORDER BY started_at
+                FETCH FIRST ? ROWS ONLY
+                """, (rs, rowNum) -> new PurgeCandidate(rs.getString("execution_id"), rs.getInt("retention_state") == 1),
+                Timestamp.valueOf(purgeCutoff), Timestamp.valueOf(restoredCutoff), limit);
+    }
+
+    /**
+     * 결과 트리 구조만 (본문 없이) - 남길 행 계산용
+     */
+    public List<ResultKey> findResultKeys(String executionId) {
+        return unboundedJdbc.get().query("""
+                SELECT id, test_id, parent_test_id, status
+                FROM bng000a.c_test_result
+                WHERE execution_id = ?
+                """, (rs, rowNum) -> new ResultKey(
+                rs.getLong("id"),
+                rs.getString("test_id"),
+                rs.getString("parent_test_id"),
+                rs.getString("status")), executionId);
+    }
+
+    public List<Long> findResultIds(String executionId) {
+        return unboundedJdbc.get().queryForList(
+                "SELECT id FROM bng000a.c_test_result WHERE execution_id = ?", Long.class, executionId);
+    }
+
+    /**
+     * 결과 행 한 묶음 삭제 (호출자가 chunk 크기로 나눠서, 문장마다 커밋)
+     */
+    public int deleteResults(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        return jdbcTemplate.update(
+                "DELETE FROM bng000a.c_test_result WHERE id IN (" + placeholders + ")", ids.toArray());
+    }
+
+    public void markCompacted(String executionId) {
+        jdbcTemplate.update("""
+                UPDATE bng000a.c_test_execution SET retention_state = 1
+                WHERE execution_id = ? AND retention_state = 0
+                """, executionId);
+    }
+
+    /**
+     * 실행 행 + 테스트별 이력 삭제 (남은 결과 행은 FK CASCADE - 호출자가 먼저 나눠서 지운다)
+     * 일별 집계 / 테스트별 요약 (c_test_stats) 은 그대로 둔다
+     */
+    @Transactional
+    public void deleteExecution(String executionId) {
+        jdbcTemplate.update("DELETE FROM bng000a.c_test_history WHERE execution_id = ?", executionId);
+        jdbcTemplate.update("DELETE FROM bng000a.c_test_execution WHERE execution_id = ?", executionId);
+    }
+
+    /**
+     * 보관 파일의 전체 결과로 되돌린다 - 삭제된 실행이면 실행 행부터 다시 추가 (이미 집계된 실행이므로 rolled_up = 1)
+     * 남아 있던 실패 결과는 지우고 전체를 다시 INSERT (결과 id 는 새로 매겨진다)
+     */
+    @Transactional
+    public void restore(TestExecution execution, List<TestResultRecord> results) {
+        String executionId = execution.getExecutionId();
+        boolean exists = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM bng000a.c_test_execution WHERE execution_id = ?",
+                Integer.class, executionId) > 0;
+        if (exists) {
+            jdbcTemplate.update("DELETE FROM bng000a.c_test_result WHERE execution_id = ?", executionId);
+        } else {
+            executionRepository.saveExecution(execution);
+        }
+        executionRepository.saveAllResults(results);
+        jdbcTemplate.update("""
+                UPDATE bng000a.c_test_execution
+                SET retention_state = 0, rolled_up = 1, restored_at = CURRENT TIMESTAMP
+                WHERE execution_id = ?
+                """, executionId);
+        if (!exists) {
+            // 다시 추가한 요청 클래스 행 (RUNNING) 을 결과로 갱신 - 집계는 이미 반영된 실행
+            dailyStatsRollup.finishExecutionClasses(executionId);
+        }
+        log.info("Restored execution {} with {} results ({})", executionId, results.size(),
+                exists ? "compacted" : "purged");
+    }
+
+    public record ResultKey(long id, String testId, String parentTestId, String status) {}
+
+    /**
+     * @param compacted 이미 요약만 남은 실행 (보관 파일이 있다)
+     */
+    public record PurgeCandidate(String executionId, boolean compacted) {}
+}
@@ -0,0 +1,28 @@
+package testauto.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전역 spring.jdbc.template.max-rows 에 잘리면 안 되는 조회용 JdbcTemplate
+ * - 카탈로그 전체, 실행 결과 전체처럼 행 수가 1000 을 넘을 수 있는 조회에만 사용
+ * - 행 수 제한 없이 fetch-size 단위로 커서를 읽는다
+ * - JdbcTemplate 빈을 하나 더 등록하면 기본 JdbcTemplate 자동 구성이 꺼지므로 빈이 아닌 필드로 보관
+ */
+@Component
+public class UnboundedJdbcTemplateProvider {
+
+    private static final int FETCH_SIZE = 500;
+
+    private final JdbcTemplate template;
+
+    public UnboundedJdbcTemplateProvider(JdbcTemplate jdbcTemplate) {
+        this.template = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.template.setFetchSize(FETCH_SIZE);
+        this.template.setMaxRows(0);
+    }
+
+    public JdbcTemplate get() {
+        return template;
+    }
+}
@@ -4,30 +4,37 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import org.junit.platform.engine.DiscoverySelector;
 import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.TestTag;
 import org.junit.platform.engine.discovery.DiscoverySelectors;
 import org.junit.platform.engine.support.descriptor.ClassSource;
 import org.junit.platform.launcher.*;
 import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
 import org.junit.platform.launcher.core.LauncherFactory;
 
+import java.io.PrintStream;
 import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * 별도 JVM에서 실행되는 테스트 러너
  *
  * 사용법:
  *   java -cp <classpath> testauto.runner.TestRunner discover <rootPackage>
+ *   java -cp <classpath> testauto.runner.TestRunner discover-classes <className1> [className2] ...
  *   java -cp <classpath> testauto.runner.TestRunner run <className1> [className2] ...
  */
 public class TestRunner {
 
     private static final String RESULT_MARKER = "###TEST_RUNNER_RESULT###";
+    static final String EVENT_MARKER = "###TEST_RUNNER_EVENT###";
     private static final ObjectMapper objectMapper = new ObjectMapper()
             .enable(SerializationFeature.INDENT_OUTPUT);
+    // 이벤트는 한 줄로 출력 (부모 프로세스가 줄 단위로 읽음)
+    private static final ObjectMapper eventMapper = new ObjectMapper();
 
     public static void main(String[] args) {
         if (args.length < 2) {
-            printError("Usage: TestRunner <discover|run> <package|classNames...>");
+            printError("Usage: TestRunner <discover|discover-classes|run> <package|classNames...>");
             System.exit(1);
         }
 
@@ -39,6 +46,10 @@ public class TestRunner {
                     String rootPackage = args[1];
                     runDiscover(rootPackage);
                 }
+                case "discover-classes" -> {
+                    List<String> classNames = Arrays.asList(args).subList(1, args.length);
+                    runDiscoverClasses(classNames);
+                }
                 case "run" -> {
                     List<String> classNames = Arrays.asList(args).subList(1, args.length);
                     runTests(classNames);
@@ -60,28 +71,43 @@ public class TestRunner {
      */
     private static void runDiscover(String rootPackage) throws Exception {
         System.err.println("[DEBUG] Starting discovery for package: " + rootPackage);
+        discover(List.of(DiscoverySelectors.selectPackage(rootPackage)));
+    }
 
+    /**
+     * 지정한 클래스만 발견하는 모드 (변경된 클래스만 다시 발견할 때 사용)
+     */
+    private static void runDiscoverClasses(List<String> classNames) throws Exception {
+        discover(classNames.stream()
+                .<DiscoverySelector>map(DiscoverySelectors::selectClass)
+                .toList());
+    }
+
+    private static void discover(List<? extends DiscoverySelector> selectors) throws Exception {
+        List<TestNodeDto> nodes = discoverNodes(selectors);
+
+        DiscoverResult result = new DiscoverResult(true, null, nodes);
+        printResult(result);
+    }
+
+    /**
+     * 셀렉터로 TestPlan을 만들고 엔진 루트를 제외한 모든 노드를 수집
+     * 현재 스레드의 컨텍스트 클래스로더 기준으로 발견하므로 플랫폼 JVM 안에서도 재사용 가능
+     */
+    public static List<TestNodeDto> discoverNodes(List<? extends DiscoverySelector> selectors) {
         Launcher launcher = LauncherFactory.create();
 
         LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
-                .selectors(DiscoverySelectors.selectPackage(rootPackage))
+                .selectors(selectors)
                 .build();
 
         TestPlan testPlan = launcher.discover(request);
 
-        System.err.println("[DEBUG] TestPlan roots count: " + testPlan.getRoots().size());
-        for (TestIdentifier root : testPlan.getRoots()) {
-            System.err.println("[DEBUG] Root: " + root.getUniqueId() + " / " + root.getDisplayName());
-            System.err.println("[DEBUG] Children count: " + testPlan.getChildren(root).size());
-        }
-
         List<TestNodeDto> nodes = new ArrayList<>();
         for (TestIdentifier root : testPlan.getRoots()) {
             collectNodes(testPlan, root, nodes);
         }
-
-        DiscoverResult result = new DiscoverResult(true, null, nodes);
-        printResult(result);
+        return nodes;
     }
 
     /**
@@ -125,10 +151,16 @@ public class TestRunner {
 
         String nodeType = testIdentifier.isContainer() ? "CONTAINER" : "TEST";
 
+        // @Tag 목록 (콤마 구분, 없으면 null)
+        String tags = testIdentifier.getTags().isEmpty() ? null : testIdentifier.getTags().stream()
+                .map(TestTag::getName)
+                .sorted()
+                .collect(Collectors.joining(","));
+
         // 엔진 루트만 제외 (예: [engine:junit-jupiter])
         boolean isEngineRoot = uniqueId.startsWith("[engine:") && !uniqueId.contains("/");
         if (!isEngineRoot) {
-            nodes.add(new TestNodeDto(uniqueId, parentId, displayName, className, nodeType));
+            nodes.add(new TestNodeDto(uniqueId, parentId, displayName, className, nodeType, tags));
         }
 
         for (TestIdentifier child : testPlan.getChildren(testIdentifier)) {
@@ -142,6 +174,23 @@ public class TestRunner {
         System.out.println(json);
     }
 
+    /**
+     * 테스트/컨테이너 하나가 끝날 때마다 한 줄 이벤트 출력 - 실행 중 결과를 바로 저장할 수 있도록
+     * 테스트 stdout 이 개행 없이 끝났을 수 있으므로 앞에 개행을 붙인다
+     */
+    static void printEvent(PrintStream out, TestEventDto event) {
+        try {
+            String json = eventMapper.writeValueAsString(event);
+            synchronized (out) {
+                out.println();
+                out.println(EVENT_MARKER + json);
+                out.flush();
+            }
+        } catch (Exception e) {
+            System.err.println("Failed to print event: " + event.id());
+        }
+    }
+
     private static void printError(String message) {
         try {
             ErrorResult result = new ErrorResult(false, message);
@@ -159,7 +208,8 @@ public class TestRunner {
             String parentUniqueId,
             String displayName,
             String className,
-            String type
+            String type,
+            String tags
     ) {}
 
     public record DiscoverResult(
@@ -188,6 +238,23 @@ public class TestRunner {
             long totalDurationMillis
     ) {}
 
+    /**
+     * 실행 중 이벤트 (노드 하나 종료)
+     *
+     * @param test 실제 테스트 메서드/호출이면 true, 컨테이너면 false
+     */
+    public record TestEventDto(
+            String id,
+            String parentId,
+            String displayName,
+            boolean test,
+            String status,
+            long durationMillis,
+            String errorMessage,
+            String stackTrace,
+            String stdout
+    ) {}
+
     public record TestResultDto(
             String id,
             String displayName,
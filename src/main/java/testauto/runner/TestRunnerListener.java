@@ -3,6 +3,7 @@ package testauto.runner;
 import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestIdentifier;
+import testauto.runner.TestRunner.TestEventDto;
 import testauto.runner.TestRunner.TestResultDto;
 import testauto.runner.TestRunner.TestSummaryDto;
 
@@ -14,6 +15,8 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 테스트 실행 리스너 - 별도 JVM용 (JSON 직렬화 가능)
+ * - 노드가 끝날 때마다 이벤트 한 줄을 출력해서 부모 프로세스가 실행 중에 결과를 저장할 수 있게 한다
+ * - 전체 결과 트리는 실행이 끝난 뒤 최종 정합성 맞추기 용도로 그대로 출력
  */
 public class TestRunnerListener implements TestExecutionListener {
 
@@ -106,6 +109,18 @@ public class TestRunnerListener implements TestExecutionListener {
             node.errorMessage = errorMessage;
             node.stackTrace = stackTrace;
             node.stdout = capturedStdout;
+
+            TestRunner.printEvent(originalOut, new TestEventDto(
+                    id,
+                    testIdentifier.getParentId().orElse(null),
+                    node.displayName,
+                    testIdentifier.isTest(),
+                    status,
+                    node.durationMillis,
+                    errorMessage,
+                    stackTrace,
+                    capturedStdout
+            ));
         }
     }
 
@@ -0,0 +1,103 @@
+package testauto.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import testauto.domain.TestCatalogChangedEvent;
+import testauto.domain.TestExecutionChangedEvent;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 대시보드 응답 스냅샷 캐시
+ * - 실행 요청 / 중간 결과 저장 / 실행 종료 / 카탈로그 교체 이벤트마다 version 증가
+ * - 같은 version 동안은 직렬화된 응답 (JSON, gzip, ETag) 을 모든 폴링 요청이 공유 - 기간(days)별로 한 번만 계산
+ * - 이벤트가 없어도 max-age 가 지나면 다시 계산 (날짜가 바뀌는 경우 등)
+ * - 버전 증가 리스너는 가장 먼저 실행 (같은 이벤트를 받는 TestEventStream 이 증가된 버전을 내보내도록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardSnapshotService {
+
+    private static final int MAX_TREND_DAYS = 90;
+
+    private final TestExecutionService testExecutionService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${testcode.dashboard.snapshot-max-age-millis:60000}")
+    private long maxAgeMillis;
+
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+
+    /**
+     * 현재 스냅샷 버전 (변경 이벤트마다 증가)
+     */
+    public long version() {
+        return version.get();
+    }
+
+    public Payload getDashboardPayload(int days) {
+        int trendDays = Math.min(Math.max(days, 1), MAX_TREND_DAYS);
+        Snapshot snapshot = currentSnapshot();
+        // 같은 기간의 동시 요청은 computeIfAbsent 에서 기다렸다가 같은 결과를 받는다
+        return snapshot.payloads.computeIfAbsent(trendDays, this::serialize);
+    }
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onExecutionChanged(TestExecutionChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onCatalogChanged(TestCatalogChangedEvent event) {
+        version.incrementAndGet();
+    }
+
+    private Snapshot currentSnapshot() {
+        long currentVersion = version.get();
+        Snapshot snapshot = current.get();
+        if (snapshot == null || snapshot.version != currentVersion
+                || System.currentTimeMillis() - snapshot.createdAt >= maxAgeMillis) {
+            Snapshot fresh = new Snapshot(currentVersion, System.currentTimeMillis());
+            if (current.compareAndSet(snapshot, fresh)) {
+                log.debug("Dashboard snapshot reset for version {}", currentVersion);
+                snapshot = fresh;
+            } else {
+                snapshot = current.get();
+            }
+        }
+        return snapshot;
+    }
+
+    private Payload serialize(int trendDays) {
+        try {
+            return Payload.of(objectMapper.writeValueAsBytes(testExecutionService.getDashboardStats(trendDays)));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to serialize dashboard payload: " + e.getMessage(), e);
+        }
+    }
+
+    private static final class Snapshot {
+        private final long version;
+        private final long createdAt;
+        private final Map<Integer, Payload> payloads = new ConcurrentHashMap<>();
+
+        private Snapshot(long version, long createdAt) {
+            this.version = version;
+            this.createdAt = createdAt;
+        }
+    }
+}
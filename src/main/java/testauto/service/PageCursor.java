@@ -0,0 +1,40 @@
+package testauto.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 실행 이력 / 클래스 실행 이력 키셋 커서 - 마지막 행의 (started_at, execution_id) 를 base64url 로 인코딩한 값
+ *
+ * @param startedAt 첫 페이지면 null
+ */
+record PageCursor(LocalDateTime startedAt, String executionId) {
+
+    static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new PageCursor(null, null);
+        }
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        int sep = decoded.indexOf('|');
+        if (sep == -1) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        try {
+            return new PageCursor(LocalDateTime.parse(decoded.substring(0, sep)), decoded.substring(sep + 1));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    static String encode(LocalDateTime startedAt, String executionId) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(
+                (startedAt + "|" + executionId).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,76 @@
+package testauto.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 미리 직렬화된 응답 본문 - 카탈로그 트리 / 클래스 상세 (TestCatalogPayloadService), 대시보드 (DashboardSnapshotService) 공용
+ * 캐시가 한 번 만들어 두고 모든 요청이 그대로 보낸다 (ETag 일치 시 304, gzip 수용 시 압축본)
+ *
+ * @param json 원본 JSON 바이트
+ * @param gzip gzip 압축본 (작은 본문은 null)
+ * @param etag 강한 ETag (따옴표 포함) - 원본 JSON 표현
+ */
+public record Payload(byte[] json, byte[] gzip, String etag) {
+
+    // 이보다 작은 본문은 gzip 이득이 없어 압축본을 만들지 않는다
+    private static final int GZIP_MIN_BYTES = 1024;
+    // 강한 ETag 는 표현(바이트)마다 달라야 하므로 압축본은 접미사를 붙인 별도 ETag
+    private static final String GZIP_ETAG_SUFFIX = "-gzip";
+
+    public static Payload of(byte[] json) throws IOException {
+        byte[] gzip = json.length >= GZIP_MIN_BYTES ? gzip(json) : null;
+        return new Payload(json, gzip, etag(json));
+    }
+
+    /**
+     * 클라이언트가 gzip 을 받는지에 따라 보낼 표현 (압축본이 없으면 항상 원본)
+     */
+    public boolean useGzip(String acceptEncoding) {
+        return gzip != null && acceptEncoding != null && acceptEncoding.contains("gzip");
+    }
+
+    public String etag(boolean gzipped) {
+        return gzipped ? etag.substring(0, etag.length() - 1) + GZIP_ETAG_SUFFIX + "\"" : etag;
+    }
+
+    /**
+     * If-None-Match 가 원본 / 압축본 어느 쪽 ETag 와 같아도 일치 (본문이 같으므로)
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if ("*".equals(tag) || etag.equals(tag) || etag(true).equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gz = new GZIPOutputStream(bos)) {
+            gz.write(body);
+        }
+        return bos.toByteArray();
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
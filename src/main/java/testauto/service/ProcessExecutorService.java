@@ -24,15 +24,19 @@ import java.util.Enumeration;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 public class ProcessExecutorService {
 
     private static final String RESULT_MARKER = "###TEST_RUNNER_RESULT###";
+    private static final String EVENT_MARKER = "###TEST_RUNNER_EVENT###";
     private static final ObjectMapper objectMapper = new ObjectMapper();
 
     @Value("${testcode.project-path}")
@@ -272,10 +276,35 @@ public class ProcessExecutorService {
         return parseResult(output, TestRunner.DiscoverResult.class);
     }
 
+    /**
+     * 지정한 클래스만 테스트 발견 (별도 JVM)
+     */
+    public TestRunner.DiscoverResult discoverClasses(List<String> classNames) throws Exception {
+        log.info("Discovering tests in {} classes", classNames.size());
+
+        List<String> args = new ArrayList<>();
+        args.add("discover-classes");
+        args.addAll(classNames);
+
+        List<String> command = buildJavaCommand(args.toArray(new String[0]));
+        String output = executeProcess(command);
+
+        return parseResult(output, TestRunner.DiscoverResult.class);
+    }
+
     /**
      * 테스트 실행 (별도 JVM)
      */
     public TestRunner.RunResult runTests(List<String> classNames) throws Exception {
+        return runTests(classNames, event -> { });
+    }
+
+    /**
+     * 테스트 실행 - 러너가 노드 하나를 끝낼 때마다 eventListener 호출 (출력 읽는 스레드에서 순서대로)
+     * 러너가 비정상 종료/타임아웃 되더라도 그 전까지의 이벤트는 이미 전달된 상태
+     */
+    public TestRunner.RunResult runTests(List<String> classNames,
+                                         Consumer<TestRunner.TestEventDto> eventListener) throws Exception {
         log.info("Running tests: {}", classNames);
 
         List<String> args = new ArrayList<>();
@@ -283,7 +312,19 @@ public class ProcessExecutorService {
         args.addAll(classNames);
 
         List<String> command = buildJavaCommand(args.toArray(new String[0]));
-        String output = executeProcess(command);
+        String output = executeProcess(command, line -> {
+            int markerIndex = line.indexOf(EVENT_MARKER);
+            if (markerIndex == -1) {
+                return false;
+            }
+            try {
+                eventListener.accept(objectMapper.readValue(
+                        line.substring(markerIndex + EVENT_MARKER.length()), TestRunner.TestEventDto.class));
+            } catch (Exception e) {
+                log.warn("Failed to handle runner event: {}", e.getMessage());
+            }
+            return true;
+        });
 
         return parseResult(output, TestRunner.RunResult.class);
     }
@@ -336,35 +377,56 @@ public class ProcessExecutorService {
             log.info("Using direct classpath (IDE/bootRun mode)");
         }
 
-        // 2. 테스트 코드 프로젝트의 컴파일된 클래스
+        // 2~4. 테스트 코드 프로젝트의 컴파일된 클래스와 의존성
+        for (Path path : buildTestcodeClasspath()) {
+            paths.add(path.toString());
+        }
+
+        String separator = isWindows() ? ";" : ":";
+        return paths.stream()
+                .filter(p -> !p.isBlank())
+                .collect(Collectors.joining(separator));
+    }
+
+    /**
+     * 테스트 코드 프로젝트의 클래스패스 (컴파일된 클래스 + 의존성 JAR)
+     */
+    public List<Path> buildTestcodeClasspath() throws Exception {
+        List<Path> paths = new ArrayList<>();
+
+        // 테스트 코드 프로젝트의 컴파일된 클래스
         Path testClassesPath = Path.of(testcodeProjectPath, "build", "classes", "java", "main");
         if (Files.exists(testClassesPath)) {
-            paths.add(testClassesPath.toString());
+            paths.add(testClassesPath);
         }
 
-        // 3. 테스트 코드 프로젝트의 의존성 (libs 폴더가 있다면)
+        // 테스트 코드 프로젝트의 의존성 (libs 폴더가 있다면)
         Path libsPath = Path.of(testcodeProjectPath, "build", "libs");
         if (Files.exists(libsPath)) {
-            Files.list(libsPath)
-                    .filter(p -> p.toString().endsWith(".jar"))
-                    .forEach(p -> paths.add(p.toString()));
+            try (Stream<Path> files = Files.list(libsPath)) {
+                files.filter(p -> p.toString().endsWith(".jar")).forEach(paths::add);
+            }
         }
 
-        // 4. 테스트 코드 프로젝트의 Gradle 캐시 의존성
+        // 테스트 코드 프로젝트의 Gradle 캐시 의존성
         Path dependenciesPath = Path.of(testcodeProjectPath, "build", "dependencies");
         if (Files.exists(dependenciesPath)) {
-            Files.walk(dependenciesPath)
-                    .filter(p -> p.toString().endsWith(".jar"))
-                    .forEach(p -> paths.add(p.toString()));
+            try (Stream<Path> files = Files.walk(dependenciesPath)) {
+                files.filter(p -> p.toString().endsWith(".jar")).forEach(paths::add);
+            }
         }
 
-        String separator = isWindows() ? ";" : ":";
-        return paths.stream()
-                .filter(p -> !p.isBlank())
-                .collect(Collectors.joining(separator));
+        return paths;
     }
 
     private String executeProcess(List<String> command) throws Exception {
+        return executeProcess(command, line -> false);
+    }
+
+    /**
+     * @param lineHandler 줄 단위로 먼저 처리, true 를 돌려준 줄은 결과 출력에서 제외
+     */
+    private String executeProcess(List<String> command, Predicate<String> lineHandler) throws Exception {
         log.debug("Executing command: {}", String.join(" ", command));
 
         ProcessBuilder pb = new ProcessBuilder(command);
@@ -382,7 +444,9 @@ public class ProcessExecutorService {
                 new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
             String line;
             while ((line = reader.readLine()) != null) {
-                output.append(line).append("\n");
+                if (!lineHandler.test(line)) {
+                    output.append(line).append("\n");
+                }
             }
         }
 
@@ -0,0 +1,71 @@
+package testauto.service;
+
+import testauto.domain.TestNode;
+
+import java.util.*;
+
+/**
+ * 현재 카탈로그와 새로 발견한 노드 목록의 차이 (추가 / 변경 / 삭제)
+ * 새로고침 시 전체를 다시 쓰지 않고 바뀐 행만 반영하기 위해 사용
+ */
+public record TestCatalogDiff(
+        List<TestNode> added,
+        List<TestNode> changed,
+        List<String> removedUniqueIds,
+        int unchangedCount
+) {
+
+    public static TestCatalogDiff between(Collection<TestNode> current, Collection<TestNode> discovered) {
+        Map<String, TestNode> currentById = new HashMap<>(current.size() * 2);
+        for (TestNode node : current) {
+            currentById.put(node.getUniqueId(), node);
+        }
+
+        List<TestNode> added = new ArrayList<>();
+        List<TestNode> changed = new ArrayList<>();
+        Set<String> seen = new HashSet<>(discovered.size() * 2);
+        int unchanged = 0;
+
+        for (TestNode node : discovered) {
+            if (!seen.add(node.getUniqueId())) {
+                continue;
+            }
+            TestNode existing = currentById.get(node.getUniqueId());
+            if (existing == null) {
+                added.add(node);
+            } else if (!sameContent(existing, node)) {
+                changed.add(node);
+            } else {
+                unchanged++;
+            }
+        }
+
+        List<String> removed = new ArrayList<>();
+        for (String uniqueId : currentById.keySet()) {
+            if (!seen.contains(uniqueId)) {
+                removed.add(uniqueId);
+            }
+        }
+
+        return new TestCatalogDiff(added, changed, removed, unchanged);
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && changed.isEmpty() && removedUniqueIds.isEmpty();
+    }
+
+    public List<TestNode> upserts() {
+        List<TestNode> upserts = new ArrayList<>(added.size() + changed.size());
+        upserts.addAll(added);
+        upserts.addAll(changed);
+        return upserts;
+    }
+
+    private static boolean sameContent(TestNode a, TestNode b) {
+        return Objects.equals(a.getParentUniqueId(), b.getParentUniqueId())
+                && Objects.equals(a.getDisplayName(), b.getDisplayName())
+                && Objects.equals(a.getClassName(), b.getClassName())
+                && Objects.equals(a.getType(), b.getType())
+                && Objects.equals(a.getTags(), b.getTags());
+    }
+}
@@ -0,0 +1,93 @@
+package testauto.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import testauto.repository.TestCatalogCache;
+import testauto.repository.TestCatalogSnapshot;
+import testauto.repository.TestLastStatusCache;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 트리 / 클래스 상세 응답을 카탈로그 세대(스냅샷)마다 한 번만 직렬화해 두는 캐시
+ * - JSON 바이트, gzip 바이트, 강한 ETag(본문 SHA-256)를 함께 보관 (Payload)
+ * - 스냅샷이 교체되면 다음 요청에서 통째로 다시 만든다
+ * - 트리는 마지막 실행 결과 집계를 포함하므로 결과 캐시 버전이 바뀌어도 다시 만든다
+ *   (버전은 실행 중에도 status-refresh-interval 에 한 번만 바뀌므로 재직렬화 / gzip 도 그 주기로 제한된다)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TestCatalogPayloadService {
+
+    private final TestCatalogCache catalogCache;
+    private final TestLastStatusCache lastStatusCache;
+    private final TestTreeService testTreeService;
+    private final TestCatalogService testCatalogService;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicReference<GenerationPayloads> current = new AtomicReference<>();
+
+    public Payload getTreePayload() {
+        GenerationPayloads payloads = currentPayloads();
+        long statusVersion = lastStatusCache.version();
+        TreePayload tree = payloads.tree.get();
+        if (tree == null || tree.statusVersion() != statusVersion) {
+            TreePayload fresh = new TreePayload(statusVersion, serialize(testTreeService::buildTree));
+            payloads.tree.compareAndSet(tree, fresh);
+            return fresh.payload();
+        }
+        return tree.payload();
+    }
+
+    public Payload getClassDetailPayload(String className) {
+        GenerationPayloads payloads = currentPayloads();
+        if (payloads.snapshot.findByClassName(className).isEmpty()) {
+            // 카탈로그에 없는 클래스는 캐시하지 않는다 (임의 입력으로 캐시가 커지지 않도록)
+            return serialize(() -> testCatalogService.getClassDetail(className));
+        }
+        return payloads.classDetails
+                .computeIfAbsent(className, name -> serialize(() -> testCatalogService.getClassDetail(name)));
+    }
+
+    private GenerationPayloads currentPayloads() {
+        TestCatalogSnapshot snapshot = catalogCache.snapshot();
+        GenerationPayloads payloads = current.get();
+        if (payloads == null || payloads.snapshot != snapshot) {
+            GenerationPayloads fresh = new GenerationPayloads(snapshot);
+            if (current.compareAndSet(payloads, fresh)) {
+                log.debug("Catalog payload cache reset for generation {}", snapshot.getGeneration());
+                payloads = fresh;
+            } else {
+                payloads = current.get();
+            }
+        }
+        return payloads;
+    }
+
+    private Payload serialize(Supplier<?> supplier) {
+        try {
+            return Payload.of(objectMapper.writeValueAsBytes(supplier.get()));
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to serialize catalog payload: " + e.getMessage(), e);
+        }
+    }
+
+    private record TreePayload(long statusVersion, Payload payload) {}
+
+    private static final class GenerationPayloads {
+        private final TestCatalogSnapshot snapshot;
+        private final AtomicReference<TreePayload> tree = new AtomicReference<>();
+        private final Map<String, Payload> classDetails = new ConcurrentHashMap<>();
+
+        private GenerationPayloads(TestCatalogSnapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package testauto.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 카탈로그 새로고침 작업(job) 관리
+ * - 새로고침 요청은 job id 를 즉시 돌려받고, 진행 단계와 단계별 소요 시간은 조회 또는 SSE 로 확인
+ * - 대기/진행 중인 job 이 있으면 새 요청은 그 job 에 합류 (새로고침이 중복으로 쌓이지 않도록)
+ * - 새로고침 중에도 조회는 직전에 활성화된 세대로 계속 응답한다
+ */
+@Slf4j
+@Component
+public class TestCatalogRefreshMonitor {
+
+    private static final int MAX_FINISHED_JOBS = 20;
+    private static final long EMITTER_TIMEOUT_MILLIS = Duration.ofMinutes(15).toMillis();
+
+    public enum State {
+        QUEUED,
+        RUNNING,
+        SUCCEEDED,
+        FAILED
+    }
+
+    public enum Phase {
+        GIT_PULL,
+        COMPILE,
+        DISCOVER,
+        PERSIST
+    }
+
+    // jobId -> job, 오래된 완료 job 부터 제거
+    private final Map<String, RefreshJob> jobs = new LinkedHashMap<>();
+    private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private RefreshJob activeJob;
+    private RefreshJob lastJob;
+
+    /**
+     * 대기/진행 중인 job 이 있으면 합류, 없으면 새 job 생성
+     *
+     * @return 새로 만든 job 이면 created = true (호출자가 실행을 예약해야 함)
+     */
+    public synchronized Submission submit(String trigger) {
+        if (activeJob != null) {
+            activeJob.attachedRequests++;
+            log.info("Catalog refresh ({}) attached to running job {}", trigger, activeJob.id);
+            return new Submission(activeJob.view(), false);
+        }
+
+        RefreshJob job = new RefreshJob(UUID.randomUUID().toString(), trigger);
+        jobs.put(job.id, job);
+        activeJob = job;
+        lastJob = job;
+        evictFinishedJobs();
+        return new Submission(job.view(), true);
+    }
+
+    public synchronized Optional<RefreshJobStatus> find(String jobId) {
+        RefreshJob job = jobs.get(jobId);
+        return job != null ? Optional.of(job.view()) : Optional.empty();
+    }
+
+    /**
+     * 진행 중인 job, 없으면 마지막 job (한 번도 없었으면 empty)
+     */
+    public synchronized Optional<RefreshJobStatus> current() {
+        RefreshJob job = activeJob != null ? activeJob : lastJob;
+        return job != null ? Optional.of(job.view()) : Optional.empty();
+    }
+
+    public synchronized boolean isRunning() {
+        return activeJob != null;
+    }
+
+    /**
+     * job 이 끝날 때까지 대기 (합류한 요청이 호출 스레드에서 결과를 기다릴 때)
+     * 끝난 job 이 이미 정리되었으면 empty
+     */
+    public synchronized Optional<RefreshJobStatus> await(String jobId) throws InterruptedException {
+        RefreshJob job = jobs.get(jobId);
+        while (job != null && job.finishedAt == null) {
+            wait();
+            job = jobs.get(jobId);
+        }
+        return job != null ? Optional.of(job.view()) : Optional.empty();
+    }
+
+    void phase(String jobId, Phase phase) {
+        RefreshJobStatus view;
+        synchronized (this) {
+            RefreshJob job = jobs.get(jobId);
+            if (job == null) {
+                return;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            job.closePhase(now);
+            job.state = State.RUNNING;
+            if (job.startedAt == null) {
+                job.startedAt = now;
+            }
+            job.phase = phase;
+            job.phaseStartedAt.put(phase, now);
+            view = job.view();
+        }
+        publish(view, false);
+    }
+
+    void succeed(String jobId, long generation) {
+        finish(jobId, State.SUCCEEDED, generation, null);
+    }
+
+    void fail(String jobId, Exception e) {
+        finish(jobId, State.FAILED, null, e.getMessage());
+    }
+
+    private void finish(String jobId, State state, Long generation, String error) {
+        RefreshJobStatus view;
+        synchronized (this) {
+            RefreshJob job = jobs.get(jobId);
+            if (job == null) {
+                return;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            job.closePhase(now);
+            job.state = state;
+            job.finishedAt = now;
+            job.generation = generation;
+            job.error = error;
+            if (activeJob == job) {
+                activeJob = null;
+            }
+            view = job.view();
+            notifyAll();
+        }
+        publish(view, true);
+    }
+
+    /**
+     * job 진행 상황 구독 - 단계가 바뀔 때마다 progress, 끝나면 done 이벤트 후 종료
+     * 모르는 job 이면 emitter 를 만들지 않고 empty (컨트롤러가 404 로 응답)
+     */
+    public Optional<SseEmitter> subscribe(String jobId) {
+        Optional<RefreshJobStatus> found = find(jobId);
+        if (found.isEmpty()) {
+            return Optional.empty();
+        }
+        RefreshJobStatus view = found.get();
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MILLIS);
+
+        boolean finished = view.state() == State.SUCCEEDED || view.state() == State.FAILED;
+        if (!finished) {
+            List<SseEmitter> subscribers = emitters.computeIfAbsent(jobId, k -> new CopyOnWriteArrayList<>());
+            subscribers.add(emitter);
+            Runnable unsubscribe = () -> {
+                subscribers.remove(emitter);
+                if (subscribers.isEmpty()) {
+                    emitters.remove(jobId, subscribers);
+                }
+            };
+            emitter.onCompletion(unsubscribe);
+            emitter.onTimeout(unsubscribe);
+            emitter.onError(e -> unsubscribe.run());
+            // 등록 사이에 끝났을 수 있으므로 최신 상태로 다시 확인
+            view = find(jobId).orElse(view);
+            finished = view.state() == State.SUCCEEDED || view.state() == State.FAILED;
+        }
+        send(emitter, view, finished);
+        return Optional.of(emitter);
+    }
+
+    private void publish(RefreshJobStatus view, boolean finished) {
+        List<SseEmitter> subscribers = finished ? emitters.remove(view.jobId()) : emitters.get(view.jobId());
+        if (subscribers == null) {
+            return;
+        }
+        for (SseEmitter emitter : subscribers) {
+            send(emitter, view, finished);
+        }
+    }
+
+    private void send(SseEmitter emitter, RefreshJobStatus view, boolean finished) {
+        try {
+            emitter.send(SseEmitter.event().name(finished ? "done" : "progress").data(view));
+            if (finished) {
+                emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 먼저 끊은 경우
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void evictFinishedJobs() {
+        int finished = 0;
+        for (RefreshJob job : jobs.values()) {
+            if (job.finishedAt != null) {
+                finished++;
+            }
+        }
+        Iterator<RefreshJob> iterator = jobs.values().iterator();
+        while (finished > MAX_FINISHED_JOBS && iterator.hasNext()) {
+            if (iterator.next().finishedAt != null) {
+                iterator.remove();
+                finished--;
+            }
+        }
+    }
+
+    private static Long elapsed(LocalDateTime from, LocalDateTime to) {
+        return from != null && to != null ? Duration.between(from, to).toMillis() : null;
+    }
+
+    /**
+     * 모니터 락 안에서만 변경되는 job 상태
+     */
+    private static final class RefreshJob {
+        private final String id;
+        private final String trigger;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private final Map<Phase, LocalDateTime> phaseStartedAt = new EnumMap<>(Phase.class);
+        private final Map<Phase, Long> phaseMillis = new EnumMap<>(Phase.class);
+        private State state = State.QUEUED;
+        private Phase phase;
+        private LocalDateTime startedAt;
+        private LocalDateTime finishedAt;
+        private Long generation;
+        private String error;
+        private int attachedRequests;
+
+        private RefreshJob(String id, String trigger) {
+            this.id = id;
+            this.trigger = trigger;
+        }
+
+        private void closePhase(LocalDateTime now) {
+            if (phase != null && !phaseMillis.containsKey(phase)) {
+                phaseMillis.put(phase, elapsed(phaseStartedAt.get(phase), now));
+            }
+        }
+
+        private RefreshJobStatus view() {
+            List<PhaseTiming> phases = new ArrayList<>(phaseStartedAt.size());
+            phaseStartedAt.forEach((p, started) -> phases.add(new PhaseTiming(p, started, phaseMillis.get(p))));
+            return new RefreshJobStatus(id, state, phase, trigger, submittedAt, startedAt, finishedAt,
+                    elapsed(startedAt, finishedAt), generation, error, attachedRequests, phases);
+        }
+    }
+
+    /**
+     * @param created 이번 요청으로 새로 만든 job 인지 (false 면 진행 중인 job 에 합류)
+     */
+    public record Submission(RefreshJobStatus job, boolean created) {}
+
+    /**
+     * @param phase            진행 중이면 현재 단계, 끝났으면 마지막으로 수행한 단계
+     * @param trigger          STARTUP / MANUAL
+     * @param generation       성공 시 활성화된 세대
+     * @param attachedRequests 이 job 에 합류한 중복 요청 수
+     */
+    public record RefreshJobStatus(
+            String jobId,
+            State state,
+            Phase phase,
+            String trigger,
+            LocalDateTime submittedAt,
+            LocalDateTime startedAt,
+            LocalDateTime finishedAt,
+            Long durationMillis,
+            Long generation,
+            String error,
+            int attachedRequests,
+            List<PhaseTiming> phases
+    ) {}
+
+    /**
+     * @param durationMillis 진행 중인 단계면 null
+     */
+    public record PhaseTiming(Phase phase, LocalDateTime startedAt, Long durationMillis) {}
+}
@@ -11,7 +11,10 @@ import java.util.List;
  *
  */
 public interface TestCatalogService {
-    void refreshTestCatalog();                // 디스커버리 → DB 갱신
+    void refreshTestCatalog();                // 디스커버리 → DB 갱신 (호출 스레드에서 수행)
+    TestCatalogRefreshMonitor.Submission submitRefresh(String trigger);  // 새로고침 job 제출 (진행 중인 job 이 있으면 합류)
+    boolean refreshTestCatalogInBackground(String trigger);  // 백그라운드 새로고침 시작 (진행 중인 job 에 합류했으면 false)
+    long rollbackTestCatalog();               // 활성 세대를 직전 세대로 되돌림
     List<TestNode> discoverAllTests();          // DB 조회
     ClassDetailDto getClassDetail(String className);  // 클래스 상세 정보 조회
 }
@@ -7,10 +7,15 @@ import org.springframework.stereotype.Service;
 import testauto.domain.TestNode;
 import testauto.dto.ClassDetailDto;
 import testauto.dto.TestMethodDto;
+import testauto.exception.CatalogGenerationConflictException;
+import testauto.repository.TestCatalogCache;
+import testauto.repository.TestCatalogSnapshot;
 import testauto.repository.TestNodeRepository;
 import testauto.runner.TestRunner;
 
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -18,68 +23,274 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TestCatalogServiceImpl implements TestCatalogService {
 
+    // 변경된 클래스가 이보다 많으면 클래스 셀렉터 대신 패키지 전체 디스커버리
+    private static final int MAX_INCREMENTAL_CLASSES = 200;
+
     private final TestNodeRepository repository;
+    private final TestCatalogCache catalogCache;
     private final ProcessExecutorService processExecutorService;
+    private final TestClassFingerprintService fingerprintService;
+    private final TestDiscoveryService testDiscoveryService;
+    private final TestCatalogRefreshMonitor refreshMonitor;
 
     @Value("${testcode.root-package}")
     private String testcodeRootPackage;
 
+    // 백그라운드 새로고침 전용 스레드 - 요청 스레드나 기동 스레드를 붙잡지 않는다
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     @Override
     public void refreshTestCatalog() {
+        TestCatalogRefreshMonitor.Submission submission = refreshMonitor.submit("MANUAL");
+        String jobId = submission.job().jobId();
+        if (submission.created()) {
+            refresh(jobId);
+            return;
+        }
+
+        // 진행 중인 job 에 합류 - 끝날 때까지 기다렸다가 결과를 그대로 돌려준다
+        TestCatalogRefreshMonitor.RefreshJobStatus finished;
+        try {
+            finished = refreshMonitor.await(jobId).orElse(null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for test catalog refresh job " + jobId, e);
+        }
+        if (finished != null && finished.state() == TestCatalogRefreshMonitor.State.FAILED) {
+            throw new RuntimeException("Failed to refresh test catalog: " + finished.error());
+        }
+    }
+
+    @Override
+    public TestCatalogRefreshMonitor.Submission submitRefresh(String trigger) {
+        TestCatalogRefreshMonitor.Submission submission = refreshMonitor.submit(trigger);
+        if (submission.created()) {
+            String jobId = submission.job().jobId();
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh(jobId);
+                } catch (Exception e) {
+                    log.warn("Test catalog refresh job {} ({}) failed: {}", jobId, trigger, e.getMessage());
+                }
+            });
+        }
+        return submission;
+    }
+
+    @Override
+    public boolean refreshTestCatalogInBackground(String trigger) {
+        TestCatalogRefreshMonitor.Submission submission = submitRefresh(trigger);
+        if (!submission.created()) {
+            log.info("Test catalog refresh job {} already running, {} request joined it",
+                    submission.job().jobId(), trigger);
+        }
+        return submission.created();
+    }
+
+    private synchronized void refresh(String jobId) {
+        refreshMonitor.phase(jobId, TestCatalogRefreshMonitor.Phase.GIT_PULL);
         try {
-            // 1. 최신 코드 pull
-            processExecutorService.gitPull();
+            // 1. 최신 코드 pull - 실패해도 로컬 소스로 계속 진행
+            try {
+                processExecutorService.gitPull();
+            } catch (Exception e) {
+                log.warn("Git pull failed, refreshing from local sources: {}", e.getMessage());
+            }
 
             // 2. 테스트 코드 컴파일
+            refreshMonitor.phase(jobId, TestCatalogRefreshMonitor.Phase.COMPILE);
             processExecutorService.compileTestCode();
 
-            // 3. 별도 JVM에서 테스트 발견
-            TestRunner.DiscoverResult result = processExecutorService.discoverTests(testcodeRootPackage);
+            // 3. 바이트코드 지문 비교 후 변경된 클래스만 (또는 전체를) 발견
+            refreshMonitor.phase(jobId, TestCatalogRefreshMonitor.Phase.DISCOVER);
+            TestCatalogSnapshot current = catalogCache.snapshot();
+            TestClassFingerprintService.ClassScan scan = fingerprintService.scan(testcodeRootPackage);
+            Map<String, String> fingerprints = scan.fingerprints();
+            TestClassFingerprintService.ClassChanges changes =
+                    fingerprintService.changesSince(current.getGeneration(), scan);
 
-            if (!result.success()) {
-                throw new RuntimeException("Test discovery failed: " + result.error());
+            // 4. 결과를 TestNode로 변환
+            List<TestNode> testNodes = switch (discoveryMode(current, changes)) {
+                case FULL -> toTestNodes(testDiscoveryService.discoverTests(testcodeRootPackage));
+                case NONE -> {
+                    log.info("No compiled test class changed since generation {}, skipping discovery", current.getGeneration());
+                    yield current.findAll();
+                }
+                case INCREMENTAL -> {
+                    log.info("Incremental discovery: {} changed, {} removed classes",
+                            changes.changedClasses().size(), changes.removedClasses().size());
+                    List<TestNode> discovered = changes.changedClasses().isEmpty() ? List.of()
+                            : toTestNodes(testDiscoveryService.discoverClasses(changes.changedClasses()));
+                    yield mergeChangedClasses(current, changes, discovered);
+                }
+            };
+
+            // 5. 변경분을 새 세대로 기록한 뒤 활성 세대 포인터 전환 → 이전 세대 정리
+            refreshMonitor.phase(jobId, TestCatalogRefreshMonitor.Phase.PERSIST);
+            long baseGeneration = repository.findActiveGeneration();
+            TestCatalogDiff diff = TestCatalogDiff.between(repository.findAllByGeneration(baseGeneration), testNodes);
+            long generation = baseGeneration;
+            if (!diff.isEmpty()) {
+                generation = repository.writeGeneration(baseGeneration, diff.upserts(), diff.removedUniqueIds());
+                repository.activateGeneration(generation, baseGeneration);
+                int purged = repository.purgeRetiredGenerations();
+                log.debug("Purged {} retired catalog rows", purged);
             }
+            catalogCache.replace(generation, testNodes);
+            fingerprintService.commit(generation, fingerprints);
 
-            // 4. 결과를 TestNode로 변환하여 DB 저장
-            repository.deleteAll();
-            List<TestNode> testNodes = result.nodes().stream()
-                    .map(dto -> TestNode.builder()
-                            .uniqueId(dto.uniqueId())
-                            .parentUniqueId(dto.parentUniqueId())
-                            .displayName(dto.displayName())
-                            .className(dto.className())
-                            .type(dto.type())
-                            .build())
-                    .collect(Collectors.toList());
-            repository.saveAll(testNodes);
-
-            log.info("Test catalog refreshed: {} nodes discovered", testNodes.size());
+            log.info("Test catalog refreshed: generation {}, {} nodes discovered ({} added, {} changed, {} removed, {} unchanged)",
+                    generation, testNodes.size(), diff.added().size(), diff.changed().size(),
+                    diff.removedUniqueIds().size(), diff.unchangedCount());
+            refreshMonitor.succeed(jobId, generation);
 
         } catch (Exception e) {
             log.error("Failed to refresh test catalog", e);
+            refreshMonitor.fail(jobId, e);
             throw new RuntimeException("Failed to refresh test catalog: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * 전체 / 변경 클래스만 / 생략 중 어느 디스커버리를 할지
+     * - 기준점이 없거나 변경이 너무 많으면 전체
+     * - 바뀐 클래스를 다른 클래스가 상속하거나, 바뀐 클래스에 자기 테스트 노드가 없으면 (추상 기반 클래스 / 인터페이스 / 헬퍼)
+     *   하위 클래스가 바이트코드는 그대로인데 상속받은 테스트가 달라지므로 전체
+     */
+    static DiscoveryMode discoveryMode(TestCatalogSnapshot current, TestClassFingerprintService.ClassChanges changes) {
+        if (changes == null || changes.changedClasses().size() > MAX_INCREMENTAL_CLASSES) {
+            return DiscoveryMode.FULL;
+        }
+        if (changes.isEmpty()) {
+            return DiscoveryMode.NONE;
+        }
+        if (!changes.extendedClasses().isEmpty()) {
+            log.info("Changed classes {} are extended by other test classes, running full discovery",
+                    changes.extendedClasses());
+            return DiscoveryMode.FULL;
+        }
+        if (hasChangedClassWithoutContainer(current, changes)) {
+            log.info("Changed classes without their own test container, running full discovery");
+            return DiscoveryMode.FULL;
+        }
+        return DiscoveryMode.INCREMENTAL;
+    }
+
+    enum DiscoveryMode { FULL, INCREMENTAL, NONE }
+
+    private List<TestNode> toTestNodes(TestRunner.DiscoverResult result) {
+        if (!result.success()) {
+            throw new RuntimeException("Test discovery failed: " + result.error());
+        }
+        return result.nodes().stream()
+                .map(dto -> TestNode.builder()
+                        .uniqueId(dto.uniqueId())
+                        .parentUniqueId(dto.parentUniqueId())
+                        .displayName(dto.displayName())
+                        .className(dto.className())
+                        .type(dto.type())
+                        .tags(dto.tags())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 현재 카탈로그에서 변경/삭제된 클래스의 노드를 걷어내고 새로 발견한 노드로 대체
+     */
+    private List<TestNode> mergeChangedClasses(TestCatalogSnapshot current,
+                                               TestClassFingerprintService.ClassChanges changes,
+                                               List<TestNode> discovered) {
+        Set<String> replaced = new HashSet<>(changes.changedClasses());
+        replaced.addAll(changes.removedClasses());
+
+        List<TestNode> merged = new ArrayList<>(current.size() + discovered.size());
+        for (TestNode node : current.findAll()) {
+            String topLevelClass = sourceClassOf(node.getUniqueId());
+            if (topLevelClass == null || !replaced.contains(topLevelClass)) {
+                merged.add(node);
+            }
+        }
+        merged.addAll(discovered);
+        return merged;
+    }
+
+    /**
+     * 기준점에 이미 있던 클래스가 바뀌었는데 현재 카탈로그에 그 클래스의 노드가 하나도 없는지
+     * (테스트가 없는 클래스 - 하위 클래스가 어디인지 모르므로 전체 디스커버리로)
+     */
+    private static boolean hasChangedClassWithoutContainer(TestCatalogSnapshot current,
+                                                    TestClassFingerprintService.ClassChanges changes) {
+        Set<String> containerClasses = new HashSet<>();
+        for (TestNode node : current.findAll()) {
+            String topLevelClass = sourceClassOf(node.getUniqueId());
+            if (topLevelClass != null) {
+                containerClasses.add(topLevelClass);
+            }
+        }
+        for (String className : changes.changedClasses()) {
+            if (!changes.addedClasses().contains(className) && !containerClasses.contains(className)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String sourceClassOf(String uniqueId) {
+        // 지문은 소스 파일 (최상위 클래스) 단위: ...[class:com.example.Test$Nested]... -> com.example.Test
+        String className = TestNode.extractTopLevelClass(uniqueId);
+        if (className == null) {
+            return null;
+        }
+        int nested = className.indexOf('$');
+        return nested == -1 ? className : className.substring(0, nested);
+    }
+
+    /**
+     * 새로고침 job 이 대기/진행 중이면 409 - 새로고침 락을 기다리지 않는다
+     * (그 사이 새로고침이 시작돼도 세대 전환은 활성 세대 비교로 둘 중 하나만 성공)
+     */
+    @Override
+    public long rollbackTestCatalog() {
+        refreshMonitor.current()
+                .filter(job -> job.state() == TestCatalogRefreshMonitor.State.QUEUED
+                        || job.state() == TestCatalogRefreshMonitor.State.RUNNING)
+                .ifPresent(job -> {
+                    throw new CatalogGenerationConflictException(
+                            "Test catalog refresh job " + job.jobId() + " is running, try again after it finishes");
+                });
+
+        long generation = repository.rollbackGeneration()
+                .orElseThrow(() -> new CatalogGenerationConflictException("No previous catalog generation to roll back to"));
+
+        catalogCache.invalidate();
+        fingerprintService.reset();
+        TestCatalogSnapshot snapshot = catalogCache.snapshot();
+        log.info("Test catalog rolled back to generation {} ({} nodes)", generation, snapshot.size());
+        return generation;
+    }
+
     @Override
     public List<TestNode> discoverAllTests() {
-        return repository.findAll();
+        return catalogCache.snapshot().findAll();
     }
 
     @Override
     public ClassDetailDto getClassDetail(String className) {
-        // DB에서 해당 클래스의 테스트 노드들을 가져와서 트리 구조로 변환
-        List<TestNode> allNodes = repository.findAll();
-
-        // 해당 클래스의 루트 노드 찾기
-        TestNode classNode = allNodes.stream()
-                .filter(node -> className.equals(node.getClassName()) && "CONTAINER".equals(node.getType()))
+        // 캐시 스냅샷의 className 인덱스에서 해당 클래스의 루트 노드 찾기
+        TestCatalogSnapshot snapshot = catalogCache.snapshot();
+        TestNode classNode = snapshot.findByClassName(className).stream()
+                .filter(node -> "CONTAINER".equals(node.getType()))
                 .filter(node -> !node.getUniqueId().contains("[nested-class:"))
                 .findFirst()
                 .orElse(null);
 
+        String simpleClassName = className.substring(className.lastIndexOf('.') + 1);
+
         if (classNode == null) {
-            String simpleClassName = className.substring(className.lastIndexOf('.') + 1);
             return ClassDetailDto.builder()
                     .className(simpleClassName)
                     .fullClassName(className)
@@ -87,19 +298,8 @@ public class TestCatalogServiceImpl implements TestCatalogService {
                     .build();
         }
 
-        // uniqueId -> TestNode 맵 생성
-        Map<String, TestNode> nodeMap = allNodes.stream()
-                .collect(Collectors.toMap(TestNode::getUniqueId, n -> n));
-
-        // parentId -> children 맵 생성
-        Map<String, List<TestNode>> childrenMap = allNodes.stream()
-                .filter(n -> n.getParentUniqueId() != null)
-                .collect(Collectors.groupingBy(TestNode::getParentUniqueId));
-
-        // 클래스 노드의 자식들을 TestMethodDto로 변환
-        List<TestMethodDto> methods = buildMethodsHierarchy(classNode.getUniqueId(), childrenMap);
-
-        String simpleClassName = className.substring(className.lastIndexOf('.') + 1);
+        // 클래스 노드의 자식들을 TestMethodDto로 변환 (parentId 인덱스 사용)
+        List<TestMethodDto> methods = buildMethodsHierarchy(classNode.getUniqueId(), snapshot);
 
         return ClassDetailDto.builder()
                 .className(simpleClassName)
@@ -108,8 +308,8 @@ public class TestCatalogServiceImpl implements TestCatalogService {
                 .build();
     }
 
-    private List<TestMethodDto> buildMethodsHierarchy(String parentId, Map<String, List<TestNode>> childrenMap) {
-        List<TestNode> children = childrenMap.getOrDefault(parentId, List.of());
+    private List<TestMethodDto> buildMethodsHierarchy(String parentId, TestCatalogSnapshot snapshot) {
+        List<TestNode> children = snapshot.findByParentId(parentId);
         List<TestMethodDto> result = new ArrayList<>();
 
         for (TestNode child : children) {
@@ -127,7 +327,7 @@ public class TestCatalogServiceImpl implements TestCatalogService {
                         .build());
             } else if (isNestedClass) {
                 // Nested 클래스
-                List<TestMethodDto> nestedMethods = buildMethodsHierarchy(child.getUniqueId(), childrenMap);
+                List<TestMethodDto> nestedMethods = buildMethodsHierarchy(child.getUniqueId(), snapshot);
                 result.add(TestMethodDto.builder()
                         .displayName(child.getDisplayName())
                         .uniqueId(child.getUniqueId())
@@ -136,7 +336,7 @@ public class TestCatalogServiceImpl implements TestCatalogService {
                         .build());
             } else {
                 // 기타 컨테이너 (재귀 탐색)
-                result.addAll(buildMethodsHierarchy(child.getUniqueId(), childrenMap));
+                result.addAll(buildMethodsHierarchy(child.getUniqueId(), snapshot));
             }
         }
 
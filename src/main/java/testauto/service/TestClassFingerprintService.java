@@ -0,0 +1,244 @@
+package testauto.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 테스트 코드 바이트코드 지문(fingerprint) 관리
+ * - build/classes/java/main 아래 최상위 클래스별로 (Outer.class + Outer$*.class) 해시를 계산
+ * - 마지막 디스커버리 시점의 지문과 비교해 변경/추가/삭제된 클래스를 알려준다
+ * - 클래스 파일 헤더의 상위 클래스 / 인터페이스도 읽어 둔다 - 바뀐 클래스를 상속하는 다른 클래스가 있으면
+ *   그 하위 클래스는 바이트코드가 그대로여도 상속받은 테스트가 달라진다
+ * - 지문 기준점은 카탈로그 세대에 묶여 있어, 세대가 달라지면 (재시작, 롤백 등) 전체 디스커버리로 돌아간다
+ */
+@Service
+public class TestClassFingerprintService {
+
+    @Value("${testcode.project-path}")
+    private String testcodeProjectPath;
+
+    // 파일별 해시 캐시 - 크기/수정시각이 같으면 다시 읽지 않는다
+    private final Map<Path, FileHash> fileHashes = new ConcurrentHashMap<>();
+
+    private volatile Baseline baseline;
+
+    /**
+     * 루트 패키지 아래 최상위 클래스별 지문 계산 + 상위 타입 수집
+     */
+    public ClassScan scan(String rootPackage) {
+        Path classesRoot = Path.of(testcodeProjectPath, "build", "classes", "java", "main");
+        Path packageDir = classesRoot.resolve(rootPackage.replace('.', '/'));
+        if (!Files.isDirectory(packageDir)) {
+            return new ClassScan(Map.of(), Map.of());
+        }
+
+        // 최상위 클래스 -> (파일명 -> 파일 해시), 파일명 순서 고정
+        Map<String, SortedMap<String, String>> byTopLevel = new HashMap<>();
+        // 최상위 클래스 -> 상속 / 구현하는 타입의 최상위 클래스
+        Map<String, Set<String>> supertypes = new HashMap<>();
+        Set<Path> seen = new HashSet<>();
+        try (Stream<Path> files = Files.walk(packageDir)) {
+            files.filter(p -> p.toString().endsWith(".class")).forEach(file -> {
+                String binaryName = classesRoot.relativize(file).toString()
+                        .replace('\\', '/')
+                        .replaceAll("\\.class$", "")
+                        .replace('/', '.');
+                String topLevel = topLevelOf(binaryName);
+
+                FileHash fileHash = hashFile(file);
+                byTopLevel.computeIfAbsent(topLevel, k -> new TreeMap<>())
+                        .put(binaryName, fileHash.hash());
+                for (String supertype : fileHash.supertypes()) {
+                    String supertypeTopLevel = topLevelOf(supertype);
+                    if (!supertypeTopLevel.equals(topLevel)) {
+                        supertypes.computeIfAbsent(topLevel, k -> new HashSet<>()).add(supertypeTopLevel);
+                    }
+                }
+                seen.add(file);
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to scan compiled test classes: " + packageDir, e);
+        }
+        fileHashes.keySet().retainAll(seen);
+
+        Map<String, String> fingerprints = new HashMap<>(byTopLevel.size() * 2);
+        byTopLevel.forEach((className, files) -> {
+            MessageDigest digest = sha256();
+            files.forEach((name, hash) -> {
+                digest.update(name.getBytes(StandardCharsets.UTF_8));
+                digest.update(hash.getBytes(StandardCharsets.UTF_8));
+            });
+            fingerprints.put(className, HexFormat.of().formatHex(digest.digest()));
+        });
+        // 스캔한 클래스끼리의 상속만 남긴다 (Object, JUnit 타입 등 제외)
+        supertypes.values().forEach(types -> types.retainAll(fingerprints.keySet()));
+        supertypes.values().removeIf(Set::isEmpty);
+        return new ClassScan(fingerprints, supertypes);
+    }
+
+    /**
+     * 기준점 대비 변경된 클래스 목록 - 기준점이 없거나 다른 세대 기준이면 null (전체 디스커버리 필요)
+     */
+    public ClassChanges changesSince(long generation, ClassScan scan) {
+        Map<String, String> fingerprints = scan.fingerprints();
+        Baseline current = this.baseline;
+        if (current == null || current.generation() != generation) {
+            return null;
+        }
+
+        List<String> changed = new ArrayList<>();
+        Set<String> added = new HashSet<>();
+        fingerprints.forEach((className, hash) -> {
+            String previous = current.fingerprints().get(className);
+            if (!hash.equals(previous)) {
+                changed.add(className);
+                if (previous == null) {
+                    added.add(className);
+                }
+            }
+        });
+
+        Set<String> removed = new HashSet<>();
+        for (String className : current.fingerprints().keySet()) {
+            if (!fingerprints.containsKey(className)) {
+                removed.add(className);
+            }
+        }
+
+        Set<String> changedSet = new HashSet<>(changed);
+        Set<String> extended = new HashSet<>();
+        for (Set<String> types : scan.supertypes().values()) {
+            for (String type : types) {
+                if (changedSet.contains(type)) {
+                    extended.add(type);
+                }
+            }
+        }
+
+        Collections.sort(changed);
+        return new ClassChanges(changed, removed, added, extended);
+    }
+
+    /**
+     * 디스커버리 결과가 반영된 세대를 새 기준점으로 기록
+     */
+    public void commit(long generation, Map<String, String> fingerprints) {
+        this.baseline = new Baseline(generation, Map.copyOf(fingerprints));
+    }
+
+    public void reset() {
+        this.baseline = null;
+    }
+
+    private FileHash hashFile(Path file) {
+        try {
+            long size = Files.size(file);
+            long modified = Files.getLastModifiedTime(file).toMillis();
+            FileHash cached = fileHashes.get(file);
+            if (cached != null && cached.size() == size && cached.modified() == modified) {
+                return cached;
+            }
+
+            byte[] bytes = Files.readAllBytes(file);
+            FileHash fileHash = new FileHash(size, modified, HexFormat.of().formatHex(sha256().digest(bytes)),
+                    supertypes(bytes));
+            fileHashes.put(file, fileHash);
+            return fileHash;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to hash class file: " + file, e);
+        }
+    }
+
+    /**
+     * 클래스 파일의 상위 클래스 + 구현 인터페이스 (바이너리 이름, com.example.Base$Inner)
+     * 상수 풀을 건너뛰고 super_class / interfaces 만 읽는다
+     */
+    static List<String> supertypes(byte[] classFile) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(classFile));
+        if (in.readInt() != 0xCAFEBABE) {
+            throw new IOException("Not a class file");
+        }
+        in.readUnsignedShort(); // minor
+        in.readUnsignedShort(); // major
+        int poolCount = in.readUnsignedShort();
+        String[] utf8 = new String[poolCount];
+        int[] classNameIndex = new int[poolCount];
+        for (int i = 1; i < poolCount; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1 -> utf8[i] = in.readUTF();
+                case 7 -> classNameIndex[i] = in.readUnsignedShort();
+                case 8, 16, 19, 20 -> in.skipBytes(2);
+                case 15 -> in.skipBytes(3);
+                case 3, 4, 9, 10, 11, 12, 17, 18 -> in.skipBytes(4);
+                case 5, 6 -> {
+                    in.skipBytes(8);
+                    i++; // long / double 은 두 칸
+                }
+                default -> throw new IOException("Unknown constant pool tag " + tag);
+            }
+        }
+        in.readUnsignedShort(); // access_flags
+        in.readUnsignedShort(); // this_class
+
+        List<String> supertypes = new ArrayList<>();
+        int superClass = in.readUnsignedShort();
+        if (superClass != 0) {
+            supertypes.add(utf8[classNameIndex[superClass]].replace('/', '.'));
+        }
+        int interfaces = in.readUnsignedShort();
+        for (int i = 0; i < interfaces; i++) {
+            supertypes.add(utf8[classNameIndex[in.readUnsignedShort()]].replace('/', '.'));
+        }
+        return supertypes;
+    }
+
+    private static String topLevelOf(String binaryName) {
+        int dollar = binaryName.indexOf('$');
+        return dollar == -1 ? binaryName : binaryName.substring(0, dollar);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * @param changedClasses 새로 생겼거나 바이트코드가 바뀐 최상위 클래스
+     * @param removedClasses 사라진 최상위 클래스
+     * @param addedClasses   changedClasses 중 기준점에 없던 (새로 생긴) 클래스
+     * @param extendedClasses changedClasses 중 다른 클래스가 상속 / 구현하는 클래스 (하위 클래스도 다시 발견해야 한다)
+     */
+    public record ClassChanges(List<String> changedClasses, Set<String> removedClasses, Set<String> addedClasses,
+                               Set<String> extendedClasses) {
+        public boolean isEmpty() {
+            return changedClasses.isEmpty() && removedClasses.isEmpty();
+        }
+    }
+
+    /**
+     * @param fingerprints 최상위 클래스 -> 지문
+     * @param supertypes   최상위 클래스 -> 상속 / 구현하는 다른 최상위 클래스 (스캔한 클래스만)
+     */
+    public record ClassScan(Map<String, String> fingerprints, Map<String, Set<String>> supertypes) {}
+
+    private record Baseline(long generation, Map<String, String> fingerprints) {}
+
+    private record FileHash(long size, long modified, String hash, List<String> supertypes) {}
+}
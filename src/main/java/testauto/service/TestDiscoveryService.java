@@ -0,0 +1,137 @@
+package testauto.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import testauto.runner.TestRunner;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 테스트 발견 (디스커버리)
+ * - 기본: 플랫폼 JVM 안에서 일회용 URLClassLoader 로 테스트 코드를 올려 JUnit Launcher 디스커버리 수행
+ *   (디스커버리는 테스트 코드를 실행하지 않으므로 별도 JVM 기동과 JSON 왕복이 필요 없다)
+ * - in-process 가 실패하거나 mode=process 이면 기존처럼 별도 JVM (ProcessExecutorService) 사용
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TestDiscoveryService {
+
+    // 플랫폼 쪽 JUnit 과 같은 클래스를 공유해야 하므로 테스트 코드 클래스패스에서는 제외
+    private static final List<String> SHARED_JAR_PREFIXES = List.of(
+            "junit-jupiter", "junit-platform", "opentest4j", "apiguardian-api");
+
+    private final ProcessExecutorService processExecutorService;
+
+    @Value("${testcode.discovery.mode:in-process}")
+    private String discoveryMode;
+
+    // 디스커버리 클래스로더 누수 점검 (System.gc() 를 반복 호출하므로 진단할 때만 켠다)
+    @Value("${testcode.discovery.leak-check:false}")
+    private boolean leakCheck;
+
+    /**
+     * 루트 패키지 전체 발견
+     */
+    public TestRunner.DiscoverResult discoverTests(String rootPackage) throws Exception {
+        if (isInProcess()) {
+            try {
+                return discoverInProcess(List.of(DiscoverySelectors.selectPackage(rootPackage)));
+            } catch (Exception | LinkageError e) {
+                log.warn("In-process discovery failed, falling back to separate JVM: {}", e.getMessage(), e);
+            }
+        }
+        return processExecutorService.discoverTests(rootPackage);
+    }
+
+    /**
+     * 지정한 클래스만 발견
+     */
+    public TestRunner.DiscoverResult discoverClasses(List<String> classNames) throws Exception {
+        if (isInProcess()) {
+            try {
+                return discoverInProcess(classNames.stream()
+                        .<DiscoverySelector>map(DiscoverySelectors::selectClass)
+                        .toList());
+            } catch (Exception | LinkageError e) {
+                log.warn("In-process discovery failed, falling back to separate JVM: {}", e.getMessage(), e);
+            }
+        }
+        return processExecutorService.discoverClasses(classNames);
+    }
+
+    private boolean isInProcess() {
+        return !"process".equalsIgnoreCase(discoveryMode);
+    }
+
+    private TestRunner.DiscoverResult discoverInProcess(List<DiscoverySelector> selectors) throws Exception {
+        long start = System.currentTimeMillis();
+        URL[] urls = testcodeUrls();
+
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        ClassLoader parent = TestDiscoveryService.class.getClassLoader();
+
+        List<TestRunner.TestNodeDto> nodes;
+        URLClassLoader loader = new URLClassLoader("testcode-discovery", urls, parent);
+        WeakReference<ClassLoader> loaderRef = new WeakReference<>(loader);
+        try {
+            thread.setContextClassLoader(loader);
+            nodes = TestRunner.discoverNodes(selectors);
+        } finally {
+            thread.setContextClassLoader(original);
+            loader.close();
+        }
+
+        log.info("In-process discovery found {} nodes in {} ms", nodes.size(), System.currentTimeMillis() - start);
+
+        if (leakCheck) {
+            CompletableFuture.runAsync(() -> verifyCollectable(loaderRef));
+        }
+        return new TestRunner.DiscoverResult(true, null, nodes);
+    }
+
+    private URL[] testcodeUrls() throws Exception {
+        List<URL> urls = new ArrayList<>();
+        for (Path path : processExecutorService.buildTestcodeClasspath()) {
+            String fileName = path.getFileName().toString();
+            if (SHARED_JAR_PREFIXES.stream().anyMatch(fileName::startsWith)) {
+                continue;
+            }
+            urls.add(path.toUri().toURL());
+        }
+        return urls.toArray(new URL[0]);
+    }
+
+    /**
+     * 디스커버리에 쓴 클래스로더가 GC 가능한지 확인 - 남아 있으면 어딘가에서 참조를 잡고 있는 것 (누수)
+     */
+    private void verifyCollectable(WeakReference<ClassLoader> loaderRef) {
+        try {
+            for (int i = 0; i < 5 && loaderRef.get() != null; i++) {
+                System.gc();
+                TimeUnit.MILLISECONDS.sleep(200);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        if (loaderRef.get() != null) {
+            log.warn("Discovery class loader was not garbage collected - possible class loader leak");
+        } else {
+            log.debug("Discovery class loader collected");
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package testauto.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import testauto.domain.TestCatalogChangedEvent;
+import testauto.domain.TestExecution;
+import testauto.domain.TestExecutionChangedEvent;
+import testauto.domain.TestProgressEvent;
+import testauto.repository.TestExecutionRepository;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 실행 / 대시보드 변경 SSE 스트림 (GET /api/tests/events)
+ * - execution: 실행 요청 / 중간 저장 / 종료 시 실행 행 (카운터 포함)
+ * - test: 테스트 하나가 끝날 때마다 (러너 이벤트)
+ * - dashboard: 대시보드 스냅샷 버전 - 클라이언트는 이 버전이 바뀌었을 때만 /dashboard 를 조건부 조회
+ * - 최근 이벤트는 링 버퍼에 보관해서 재연결 시 Last-Event-ID 이후 이벤트를 다시 보낸다
+ *   버퍼에서 밀려났거나 서버가 재기동된 경우 (id 의 boot 부분이 다름) reset 이벤트로 전체 재조회를 요청
+ * - 버퍼 추가와 구독자별 전송 큐 추가는 같은 락 안에서, 실제 전송 (블로킹) 은 락 밖에서 구독자마다 순서대로
+ *   (재전송과 실시간 이벤트의 순서가 섞이지 않고, 느린 클라이언트가 다른 구독자 / 이벤트 발행 스레드를 붙잡지 않도록)
+ *   전송 큐가 replay-buffer-size 를 넘게 밀린 구독자는 끊는다 - 재연결하면 Last-Event-ID 로 이어받는다
+ * - 구독자가 없으면 이벤트를 만들지 않고 (실행 행 조회도 생략) 버퍼를 비운다 - 그 사이 끊겼던 클라이언트는 reset
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TestEventStream {
+
+    private static final long HEARTBEAT_SECONDS = 20;
+    private static final long RECONNECT_MILLIS = 3000;
+
+    private final TestExecutionRepository executionRepository;
+    private final DashboardSnapshotService dashboardSnapshotService;
+
+    @Value("${testcode.events.replay-buffer-size:1000}")
+    private int replayBufferSize;
+
+    @Value("${testcode.events.emitter-timeout-millis:1800000}")
+    private long emitterTimeoutMillis;
+
+    // 이벤트 id = boot:seq (재기동 후 이전 id 로 재연결하면 reset)
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+    private final Deque<StreamEvent> buffer = new ArrayDeque<>();
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private long sequence;
+
+    // 끊어진 연결 정리 + 프록시 유휴 타임아웃 방지용 주석 이벤트
+    private final ScheduledExecutorService heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "event-stream-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 구독자별 전송 (한 구독자의 이벤트는 한 번에 한 스레드만 보낸다)
+    private final ExecutorService sendExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "event-stream-send");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    public void init() {
+        heartbeatScheduler.scheduleWithFixedDelay(this::heartbeat, HEARTBEAT_SECONDS, HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatScheduler.shutdownNow();
+        sendExecutor.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    /**
+     * @param lastEventId 재연결 시 브라우저가 보내는 Last-Event-ID (첫 연결이면 null)
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, replayBufferSize);
+        Runnable unsubscribe = () -> subscribers.remove(subscriber);
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+
+        synchronized (this) {
+            subscribers.add(subscriber);
+            if (lastEventId == null || lastEventId.isBlank()) {
+                subscriber.enqueue(SseEmitter.event().reconnectTime(RECONNECT_MILLIS).comment("connected"));
+            } else {
+                replay(subscriber, lastEventId);
+            }
+        }
+        return emitter;
+    }
+
+    @EventListener
+    public void onExecutionChanged(TestExecutionChangedEvent event) {
+        if (skipWithoutSubscribers()) {
+            return;
+        }
+        TestExecution execution = executionRepository.findExecutionById(event.executionId())
+                .orElseGet(() -> TestExecution.builder().executionId(event.executionId()).build());
+        publish("execution", new ExecutionStreamEvent(event.type(), execution));
+        publish("dashboard", new DashboardStreamEvent(dashboardSnapshotService.version()));
+    }
+
+    @EventListener
+    public void onTestProgress(TestProgressEvent event) {
+        publish("test", event);
+    }
+
+    @EventListener
+    public void onCatalogChanged(TestCatalogChangedEvent event) {
+        publish("dashboard", new DashboardStreamEvent(dashboardSnapshotService.version()));
+    }
+
+    /**
+     * 구독자가 없으면 이벤트를 건너뛴다 - 건너뛴 이벤트도 seq 를 차지하고 버퍼를 비우므로 이전 id 로 재연결하면 reset
+     *
+     * @return 구독자가 없어서 건너뛰면 true
+     */
+    private synchronized boolean skipWithoutSubscribers() {
+        if (!subscribers.isEmpty()) {
+            return false;
+        }
+        buffer.clear();
+        sequence++;
+        return true;
+    }
+
+    private synchronized void publish(String name, Object data) {
+        if (skipWithoutSubscribers()) {
+            return;
+        }
+        StreamEvent event = new StreamEvent(++sequence, name, data);
+        buffer.addLast(event);
+        while (buffer.size() > replayBufferSize) {
+            buffer.removeFirst();
+        }
+        // 빌더는 send 할 때 내부 상태를 바꾸므로 (스레드 안전하지 않음) 구독자마다 따로 만든다
+        for (Subscriber subscriber : subscribers) {
+            subscriber.enqueue(toSse(event));
+        }
+    }
+
+    /**
+     * lastEventId 이후 이벤트 재전송 - 이어서 보낼 수 없으면 reset
+     */
+    private void replay(Subscriber subscriber, String lastEventId) {
+        long lastSeq = parseSequence(lastEventId);
+        long oldest = buffer.isEmpty() ? sequence + 1 : buffer.peekFirst().seq();
+        if (lastSeq < 0 || lastSeq > sequence || lastSeq + 1 < oldest) {
+            log.debug("Event stream reset for Last-Event-ID {} (current {}:{})", lastEventId, bootId, sequence);
+            subscriber.enqueue(SseEmitter.event()
+                    .id(bootId + ":" + sequence)
+                    .reconnectTime(RECONNECT_MILLIS)
+                    .name("reset")
+                    .data(new ResetStreamEvent(dashboardSnapshotService.version())));
+            return;
+        }
+        int replayed = 0;
+        for (StreamEvent event : buffer) {
+            if (event.seq() > lastSeq) {
+                subscriber.enqueue(toSse(event));
+                replayed++;
+            }
+        }
+        log.debug("Event stream replayed {} events after {}", replayed, lastEventId);
+    }
+
+    /**
+     * 이번 기동에서 발급한 id 면 seq, 아니면 -1
+     */
+    private long parseSequence(String lastEventId) {
+        int sep = lastEventId.indexOf(':');
+        if (sep == -1 || !bootId.equals(lastEventId.substring(0, sep))) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(sep + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.enqueue(SseEmitter.event().comment("ping"));
+        }
+    }
+
+    private SseEmitter.SseEventBuilder toSse(StreamEvent event) {
+        return SseEmitter.event().id(bootId + ":" + event.seq()).name(event.name()).data(event.data());
+    }
+
+    private void disconnect(Subscriber subscriber, Exception cause) {
+        subscribers.remove(subscriber);
+        if (cause == null) {
+            subscriber.emitter.complete();
+        } else {
+            subscriber.emitter.completeWithError(cause);
+        }
+    }
+
+    /**
+     * 구독자 하나의 전송 큐 - 추가는 호출 스레드에서 바로 반환, 전송은 sendExecutor 에서 한 번에 하나씩 순서대로
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> pending;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.pending = new LinkedBlockingQueue<>(capacity);
+        }
+
+        private void enqueue(SseEmitter.SseEventBuilder event) {
+            if (!pending.offer(event)) {
+                // 전송이 밀린 클라이언트 - 끊고 재연결 시 Last-Event-ID 로 이어받게 한다
+                log.debug("Event stream subscriber {} events behind, disconnecting", pending.size());
+                pending.clear();
+                disconnect(this, null);
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    sendExecutor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false); // 종료 중
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while ((event = pending.poll()) != null) {
+                    try {
+                        emitter.send(event);
+                    } catch (IOException | IllegalStateException e) {
+                        // 클라이언트가 먼저 끊은 경우
+                        pending.clear();
+                        disconnect(this, e);
+                        return;
+                    }
+                }
+            } finally {
+                draining.set(false);
+            }
+            // draining 을 내리는 사이에 추가된 이벤트
+            if (!pending.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+
+    private record StreamEvent(long seq, String name, Object data) {}
+
+    /**
+     * @param type SUBMITTED / PROGRESSED / FINISHED
+     */
+    public record ExecutionStreamEvent(TestExecutionChangedEvent.Type type, TestExecution execution) {}
+
+    /**
+     * @param version 대시보드 스냅샷 버전 (X-Dashboard-Version 과 같은 값)
+     */
+    public record DashboardStreamEvent(long version) {}
+
+    public record ResetStreamEvent(long dashboardVersion) {}
+}
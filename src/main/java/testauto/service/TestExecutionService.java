@@ -1,9 +1,15 @@
 package testauto.service;
 
+import testauto.controller.TestApiController.ClassStats;
 import testauto.controller.TestApiController.DashboardResponse;
 import testauto.domain.TestExecution;
 import testauto.domain.TestResult;
 import testauto.domain.TestResultRecord;
+import testauto.repository.TestExecutionFilter;
+import testauto.dto.ClassExecutionPageDto;
+import testauto.dto.ExecutionPageDto;
+import testauto.dto.TestResultDetailDto;
+import testauto.dto.TestResultNodeDto;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,6 +26,23 @@ public interface TestExecutionService {
      */
     List<TestExecution> getRecentExecutions(int limit);
 
+    /**
+     * 실행 이력 페이지 조회 (키셋 커서 + 서버 필터)
+     *
+     * @param cursor 이전 페이지의 nextCursor, 첫 페이지면 null
+     */
+    ExecutionPageDto getExecutionPage(TestExecutionFilter filter, String cursor, int limit);
+
+    /**
+     * 클래스 하나의 실행 이력 페이지 (최신순 키셋 커서)
+     */
+    ClassExecutionPageDto getClassExecutionPage(String className, String cursor, int limit);
+
+    /**
+     * 실행 하나의 요청 클래스 묶음으로 다시 실행 - 새 executionId, 실행이 없으면 empty
+     */
+    Optional<String> rerun(String executionId, String requesterIp);
+
     /**
      * 특정 실행 조회
      */
@@ -35,8 +58,25 @@ public interface TestExecutionService {
      */
     List<TestResult> getExecutionResultTree(String executionId);
 
+    /**
+     * 특정 실행의 결과 트리 (에러 메시지 / 스택 트레이스 / stdout 제외)
+     */
+    List<TestResultNodeDto> getExecutionResultOutline(String executionId);
+
+    /**
+     * 결과 한 건의 상세 (에러 메시지 / 스택 트레이스 / stdout)
+     */
+    Optional<TestResultDetailDto> getExecutionResultDetail(String executionId, long resultId);
+
     /**
      * 대시보드 통계 조회
+     *
+     * @param trendDays 일별 추이 기간 (오늘 포함, 최대 90일)
+     */
+    DashboardResponse getDashboardStats(int trendDays);
+
+    /**
+     * 최근 days 일 클래스별 통계 (실패 많은 순)
      */
-    DashboardResponse getDashboardStats();
+    List<ClassStats> getClassStats(int days, int limit);
 }
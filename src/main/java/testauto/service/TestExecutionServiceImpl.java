@@ -2,31 +2,66 @@ package testauto.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import testauto.controller.TestApiController.ClassStats;
 import testauto.controller.TestApiController.DashboardResponse;
 import testauto.controller.TestApiController.TodayStats;
 import testauto.controller.TestApiController.DailyTrend;
 import testauto.controller.TestApiController.RecentFailure;
 import testauto.controller.TestApiController.RecentExecution;
+import testauto.repository.TestExecutionClassRepository;
+import testauto.repository.TestExecutionFilter;
 import testauto.repository.TestExecutionRepository;
+import testauto.domain.ExecutionClass;
 import testauto.domain.TestExecution;
+import testauto.domain.TestProgressEvent;
 import testauto.domain.TestResult;
 import testauto.domain.TestResultRecord;
 import testauto.domain.TestStatus;
+import testauto.dto.ClassExecutionPageDto;
+import testauto.dto.ExecutionPageDto;
+import testauto.dto.TestResultDetailDto;
+import testauto.dto.TestResultNodeDto;
 import testauto.runner.TestRunner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TestExecutionServiceImpl implements TestExecutionService {
 
+    private static final int MAX_EXECUTION_PAGE_SIZE = 200;
+    private static final int MAX_STATS_DAYS = 90;
+
     private final TestExecutionRepository executionRepository;
+    private final TestExecutionClassRepository classRepository;
     private final ProcessExecutorService processExecutorService;
+    private final TestHistoryService historyService;
+    private final TestResultPersistenceService persistenceService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${testcode.execution.live-batch-size:20}")
+    private int liveBatchSize;
+
+    @Value("${testcode.execution.live-flush-interval-millis:1000}")
+    private long liveFlushIntervalMillis;
+
+    // 실행 중 결과 버퍼를 주기적으로 비우는 스레드 (테스트가 오래 걸려 배치가 안 차도 수 초 안에 보이도록)
+    private final ScheduledExecutorService liveFlushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "live-result-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     /**
      * 테스트 실행 요청 (비동기) - executionId 즉시 반환
@@ -44,13 +79,11 @@ public class TestExecutionServiceImpl implements TestExecutionService {
                 .requesterIp(requesterIp)
                 .classNames(String.join(",", classNames))
                 .status("RUNNING")
+                .estimatedDurationMillis(estimateDuration(classNames))
                 .build();
 
-        try {
-            executionRepository.saveExecution(execution);
-        } catch (Exception e) {
-            log.warn("Failed to save execution start to DB: {}", e.getMessage());
-        }
+        // 실행 행은 바로 저장 (DB 가 잠시 끊겼으면 write-behind 저널로 넘기고 요청은 바로 반환)
+        persistenceService.start(execution);
 
         // 비동기로 테스트 실행
         executeTestsAsync(executionId, classNames);
@@ -60,18 +93,30 @@ public class TestExecutionServiceImpl implements TestExecutionService {
 
     /**
      * 테스트 실제 실행 (비동기) - 별도 JVM에서 실행
+     * 러너 이벤트로 결과를 작은 배치로 바로 저장하고, 종료 후 최종 결과 트리로 정합성을 맞춘다
      */
     @Async
     public void executeTestsAsync(String executionId, List<String> classNames) {
         log.info("Starting async test execution {} for {} classes", executionId, classNames.size());
         log.debug("Classes to execute: {}", classNames);
 
+        TestResultLiveWriter liveWriter = new TestResultLiveWriter(
+                executionId, persistenceService, liveBatchSize, liveFlushIntervalMillis);
+        ScheduledFuture<?> flushTask = liveFlushScheduler.scheduleWithFixedDelay(
+                liveWriter::flushIfDue, liveFlushIntervalMillis, liveFlushIntervalMillis, TimeUnit.MILLISECONDS);
+
         try {
             // 1. 테스트 코드 컴파일
             processExecutorService.compileTestCode();
 
-            // 2. 별도 JVM에서 테스트 실행
-            TestRunner.RunResult runResult = processExecutorService.runTests(classNames);
+            // 2. 별도 JVM에서 테스트 실행 (노드가 끝날 때마다 배치 저장)
+            TestRunner.RunResult runResult = processExecutorService.runTests(classNames, event -> {
+                liveWriter.accept(toRecord(executionId, event), event.test());
+                if (event.test()) {
+                    eventPublisher.publishEvent(new TestProgressEvent(executionId, event.id(), event.parentId(),
+                            event.displayName(), event.status(), event.durationMillis()));
+                }
+            });
 
             if (!runResult.success()) {
                 throw new RuntimeException("Test execution failed: " + runResult.error());
@@ -79,34 +124,38 @@ public class TestExecutionServiceImpl implements TestExecutionService {
 
             log.info("Test execution {} completed for {} classes", executionId, classNames.size());
 
-            // 3. 실행 완료 후 DB에 결과 저장
-            saveResultsToDb(executionId, runResult);
+            // 3. 남은 결과 저장 + 최종 결과와 정합성 맞추기
+            flushTask.cancel(false);
+            liveWriter.flush();
+            reconcileResults(executionId, runResult, liveWriter);
 
         } catch (Exception e) {
             log.error("Failed to execute tests for execution {}: {}", executionId, e.getMessage(), e);
 
-            // 실패 상태로 업데이트
-            try {
-                TestExecution failedExecution = TestExecution.builder()
-                        .executionId(executionId)
-                        .finishedAt(LocalDateTime.now())
-                        .status("FAILED")
-                        .build();
-                executionRepository.updateExecution(failedExecution);
-            } catch (Exception updateEx) {
-                log.error("Failed to update execution status to FAILED: {}", updateEx.getMessage());
-            }
+            // 러너가 죽거나 타임아웃이어도 그때까지 받은 결과는 남기고, 카운터는 저장된 결과 기준으로 유지
+            flushTask.cancel(false);
+            liveWriter.flush();
+            persistenceService.fail(executionId, LocalDateTime.now());
+            log.info("Execution {} marked FAILED with {} tests persisted", executionId, liveWriter.persistedTests());
         }
     }
 
     /**
-     * 테스트 결과를 DB에 저장
+     * 최종 결과 트리 기준 정합성 맞추기
+     * - 이벤트로 저장되지 않은 노드 (이벤트 유실, 끝나지 않은 노드 등) 만 추가 저장
+     * - 카운터는 러너 요약 값으로 덮어쓴다
      */
-    private void saveResultsToDb(String executionId, TestRunner.RunResult runResult) {
+    private void reconcileResults(String executionId, TestRunner.RunResult runResult, TestResultLiveWriter liveWriter) {
         try {
-            TestRunner.TestSummaryDto summary = runResult.summary();
+            List<TestResultRecord> records = new ArrayList<>();
+            for (TestRunner.TestResultDto resultDto : runResult.results()) {
+                collectResultRecords(executionId, resultDto, null, records);
+            }
+            List<TestResultRecord> missing = records.stream()
+                    .filter(record -> !liveWriter.isPersisted(record.getTestId()))
+                    .toList();
 
-            // 실행 정보 업데이트
+            TestRunner.TestSummaryDto summary = runResult.summary();
             TestExecution execution = TestExecution.builder()
                     .executionId(executionId)
                     .finishedAt(LocalDateTime.now())
@@ -117,22 +166,43 @@ public class TestExecutionServiceImpl implements TestExecutionService {
                     .totalDurationMillis(summary.totalDurationMillis())
                     .status("COMPLETED")
                     .build();
+            // 남은 결과 + 최종 카운터를 한 트랜잭션으로 (write-behind, 반영 후 집계 / FINISHED 이벤트)
+            persistenceService.complete(execution, missing);
 
-            executionRepository.updateExecution(execution);
-
-            // 결과 상세 저장 (DTO를 도메인 객체로 변환)
-            List<TestResultRecord> records = new ArrayList<>();
-            for (TestRunner.TestResultDto resultDto : runResult.results()) {
-                collectResultRecords(executionId, resultDto, null, records);
-            }
-            executionRepository.saveAllResults(records);
+            log.info("Reconciled execution {}: {} results, {} saved at completion",
+                    executionId, records.size(), missing.size());
+        } catch (Exception e) {
+            log.error("Failed to reconcile results of execution {}: {}", executionId, e.getMessage(), e);
+            persistenceService.fail(executionId, LocalDateTime.now());
+        }
+    }
 
-            log.info("Saved {} test results to DB for execution {}", records.size(), executionId);
+    /**
+     * 예상 소요 시간 (실행 중 ETA / 진행률 표시용) - 조회 실패해도 실행은 계속
+     */
+    private Long estimateDuration(List<String> classNames) {
+        try {
+            return historyService.estimateDurationMillis(classNames);
         } catch (Exception e) {
-            log.error("Failed to save test results to DB: {}", e.getMessage(), e);
+            log.warn("Failed to estimate execution duration: {}", e.getMessage());
+            return null;
         }
     }
 
+    private TestResultRecord toRecord(String executionId, TestRunner.TestEventDto event) {
+        return TestResultRecord.builder()
+                .executionId(executionId)
+                .testId(event.id())
+                .parentTestId(event.parentId())
+                .displayName(event.displayName())
+                .status(parseStatus(event.status()))
+                .durationMillis(event.durationMillis())
+                .errorMessage(event.errorMessage())
+                .stackTrace(event.stackTrace())
+                .stdout(event.stdout())
+                .build();
+    }
+
     /**
      * TestResultDto 트리를 TestResultRecord 리스트로 변환
      */
@@ -178,11 +248,78 @@ public class TestExecutionServiceImpl implements TestExecutionService {
     }
 
     /**
-     * 특정 실행 조회
+     * 실행 이력 페이지 조회
+     * 커서는 마지막 행의 (started_at, execution_id) 를 base64url 로 인코딩한 값
+     */
+    @Override
+    public ExecutionPageDto getExecutionPage(TestExecutionFilter filter, String cursor, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_EXECUTION_PAGE_SIZE);
+        PageCursor before = PageCursor.decode(cursor);
+
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        List<TestExecution> rows = executionRepository.findExecutionPage(
+                filter, before.startedAt(), before.executionId(), pageSize + 1);
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            TestExecution last = rows.get(pageSize - 1);
+            nextCursor = PageCursor.encode(last.getStartedAt(), last.getExecutionId());
+        }
+        return ExecutionPageDto.builder()
+                .items(rows)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 클래스 하나의 실행 이력 페이지 (c_test_execution_class 인덱스, 실행 이력과 같은 커서 형식)
+     */
+    @Override
+    public ClassExecutionPageDto getClassExecutionPage(String className, String cursor, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_EXECUTION_PAGE_SIZE);
+        PageCursor before = PageCursor.decode(cursor);
+
+        List<ExecutionClass> rows = classRepository.findByClassName(
+                className, before.startedAt(), before.executionId(), pageSize + 1);
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            ExecutionClass last = rows.get(pageSize - 1);
+            nextCursor = PageCursor.encode(last.startedAt(), last.executionId());
+        }
+        return ClassExecutionPageDto.builder()
+                .items(rows)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 실행 하나의 요청 클래스 묶음으로 다시 실행 (요청 순서 그대로)
+     * 클래스 행이 아직 없으면 (저널에만 있는 실행, 백필 전 이력) 실행 행의 class_names 를 나눠 쓴다
+     */
+    @Override
+    public Optional<String> rerun(String executionId, String requesterIp) {
+        Optional<TestExecution> execution = getExecution(executionId);
+        if (execution.isEmpty()) {
+            return Optional.empty();
+        }
+        List<ExecutionClass> classes = execution.get().getClasses();
+        List<String> classNames = classes == null || classes.isEmpty()
+                ? ExecutionClass.split(execution.get().getClassNames())
+                : classes.stream().map(ExecutionClass::className).toList();
+        if (classNames.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(submitTests(classNames, requesterIp));
+    }
+
+    /**
+     * 특정 실행 조회 (DB 반영 전이면 저널에 남은 실행 시작)
      */
     @Override
     public Optional<TestExecution> getExecution(String executionId) {
-        return executionRepository.findExecutionById(executionId);
+        return executionRepository.findExecutionById(executionId)
+                .or(() -> persistenceService.findPendingStart(executionId));
     }
 
     /**
@@ -202,6 +339,55 @@ public class TestExecutionServiceImpl implements TestExecutionService {
         return buildResultTree(records);
     }
 
+    @Override
+    public List<TestResultNodeDto> getExecutionResultOutline(String executionId) {
+        return outlineTree(executionRepository.findResultOutlineByExecutionId(executionId));
+    }
+
+    /**
+     * 본문 없는 결과 행을 부모 test_id 기준 트리로 (부모 행이 없으면 루트, 행 순서 유지)
+     */
+    static List<TestResultNodeDto> outlineTree(List<TestResultRecord> records) {
+        Map<String, TestResultNodeDto> nodeMap = new HashMap<>(records.size() * 2);
+        for (TestResultRecord record : records) {
+            nodeMap.put(record.getTestId(), TestResultNodeDto.builder()
+                    .id(record.getTestId())
+                    .resultId(record.getId())
+                    .displayName(record.getDisplayName())
+                    .status(record.getStatus().name())
+                    .durationMillis(record.getDurationMillis())
+                    .hasDetails(record.isHasDetails())
+                    .build());
+        }
+
+        List<TestResultNodeDto> roots = new ArrayList<>();
+        for (TestResultRecord record : records) {
+            TestResultNodeDto node = nodeMap.get(record.getTestId());
+            TestResultNodeDto parent = record.getParentTestId() != null ? nodeMap.get(record.getParentTestId()) : null;
+            if (parent != null) {
+                parent.getChildren().add(node);
+            } else {
+                roots.add(node);
+            }
+        }
+        return roots;
+    }
+
+    @Override
+    public Optional<TestResultDetailDto> getExecutionResultDetail(String executionId, long resultId) {
+        return executionRepository.findResultById(executionId, resultId)
+                .map(record -> TestResultDetailDto.builder()
+                        .resultId(record.getId())
+                        .id(record.getTestId())
+                        .displayName(record.getDisplayName())
+                        .status(record.getStatus().name())
+                        .durationMillis(record.getDurationMillis())
+                        .errorMessage(record.getErrorMessage())
+                        .stackTrace(record.getStackTrace())
+                        .stdout(record.getStdout())
+                        .build());
+    }
+
     /**
      * TestResultRecord 리스트를 TestResult 트리로 변환
      */
@@ -239,7 +425,7 @@ public class TestExecutionServiceImpl implements TestExecutionService {
     }
 
     @Override
-    public DashboardResponse getDashboardStats() {
+    public DashboardResponse getDashboardStats(int trendDays) {
         // Today's stats
         Map<String, Object> todayData = executionRepository.getTodayStats();
         int totalExecs = ((Number) todayData.get("total_executions")).intValue();
@@ -251,9 +437,9 @@ public class TestExecutionServiceImpl implements TestExecutionService {
 
         TodayStats todayStats = new TodayStats(totalExecs, totalTests, successCount, failedCount, skippedCount, successRate);
 
-        // Weekly trend
-        List<Map<String, Object>> weeklyData = executionRepository.getWeeklyTrend();
-        List<DailyTrend> weeklyTrend = weeklyData.stream()
+        // Daily trend (최근 trendDays 일)
+        List<Map<String, Object>> trendData = executionRepository.getDailyTrend(clampDays(trendDays));
+        List<DailyTrend> weeklyTrend = trendData.stream()
                 .map(row -> new DailyTrend(
                         row.get("date").toString(),
                         ((Number) row.get("executions")).intValue(),
@@ -287,7 +473,8 @@ public class TestExecutionServiceImpl implements TestExecutionService {
                         e.getTotalDurationMillis(),
                         e.getRequesterName(),
                         e.getRequesterIp(),
-                        e.getClassNames()
+                        e.getClassNames(),
+                        e.getClasses()
                 ))
                 .toList();
 
@@ -296,4 +483,28 @@ public class TestExecutionServiceImpl implements TestExecutionService {
 
         return new DashboardResponse(todayStats, weeklyTrend, recentFailures, recentExecutions, totalTestClasses);
     }
+
+    @Override
+    public List<ClassStats> getClassStats(int days, int limit) {
+        return executionRepository.getClassStats(clampDays(days), Math.min(Math.max(limit, 1), MAX_EXECUTION_PAGE_SIZE))
+                .stream()
+                .map(row -> {
+                    int total = ((Number) row.get("total_tests")).intValue();
+                    int success = ((Number) row.get("success_count")).intValue();
+                    return new ClassStats(
+                            (String) row.get("class_name"),
+                            ((Number) row.get("executions")).intValue(),
+                            total,
+                            success,
+                            ((Number) row.get("failed_count")).intValue(),
+                            ((Number) row.get("skipped_count")).intValue(),
+                            ((Number) row.get("total_duration_millis")).longValue(),
+                            total > 0 ? (success * 100.0 / total) : 0);
+                })
+                .toList();
+    }
+
+    private static int clampDays(int days) {
+        return Math.min(Math.max(days, 1), MAX_STATS_DAYS);
+    }
 }
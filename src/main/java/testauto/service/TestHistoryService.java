@@ -0,0 +1,166 @@
+package testauto.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import testauto.domain.TestExecution;
+import testauto.domain.TestStats;
+import testauto.dto.DurationEstimateDto;
+import testauto.dto.TestHistoryDto;
+import testauto.dto.TestStatsDto;
+import testauto.repository.TestExecutionRepository;
+import testauto.repository.TestHistoryRepository;
+import testauto.repository.TestHistoryRepository.ClassDuration;
+import testauto.repository.TestHistoryRepository.HistoryRow;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 테스트별 실행 이력 / 불안정(flaky) 테스트 조회, 클래스 묶음의 예상 실행 시간
+ * 이력과 요약, 클래스별 소요 시간은 실행이 끝나 집계될 때 (TestStatsRollupService) 함께 쌓인다
+ */
+@Service
+@RequiredArgsConstructor
+public class TestHistoryService {
+
+    private static final int MAX_HISTORY_LIMIT = 500;
+    private static final int MAX_FLAKY_LIMIT = 200;
+    private static final int MAX_FLAKY_DAYS = 365;
+    private static final int OVERHEAD_SAMPLE_SIZE = 50;
+
+    private final TestHistoryRepository historyRepository;
+    private final TestExecutionRepository executionRepository;
+
+    /**
+     * @param before            이 시각 이전 실행만 (이전 응답의 nextBefore, 첫 페이지면 null)
+     * @param beforeExecutionId 이전 응답의 nextBeforeExecutionId (before 와 같은 시각의 실행 구분)
+     * @return 한 번도 집계된 적 없는 테스트면 empty
+     */
+    public Optional<TestHistoryDto> getHistory(String uniqueId, LocalDateTime before, String beforeExecutionId,
+                                               int limit) {
+        return historyRepository.findStats(uniqueId).map(stats -> {
+            int pageSize = Math.min(Math.max(limit, 1), MAX_HISTORY_LIMIT);
+            List<HistoryRow> rows = historyRepository.findHistory(uniqueId, before, beforeExecutionId, pageSize);
+            HistoryRow last = rows.size() == pageSize ? rows.get(rows.size() - 1) : null;
+            return TestHistoryDto.builder()
+                    .stats(toDto(stats))
+                    .runs(rows.stream()
+                            .map(row -> new TestHistoryDto.Run(row.executionId(), row.runAt(),
+                                    TestStats.status(row.status()), row.durationMillis()))
+                            .toList())
+                    .nextBefore(last != null ? last.runAt() : null)
+                    .nextBeforeExecutionId(last != null ? last.executionId() : null)
+                    .build();
+        });
+    }
+
+    /**
+     * 최근 days 일 안에 실행된 테스트 중 최근 결과가 자주 바뀐 순
+     */
+    public List<TestStatsDto> getFlakiestTests(int days, int limit) {
+        LocalDateTime since = LocalDateTime.now().minusDays(Math.min(Math.max(days, 1), MAX_FLAKY_DAYS));
+        return historyRepository.findFlakiest(since, Math.min(Math.max(limit, 1), MAX_FLAKY_LIMIT)).stream()
+                .map(TestHistoryService::toDto)
+                .toList();
+    }
+
+    /**
+     * 클래스 묶음의 예상 실행 시간
+     * - 클래스마다 최근 소요 시간 (끝까지 실행된 실행만) 평균 / p95 를 더하고, 테스트 밖 고정 비용을 한 번 더한다
+     * - 이력이 없는 클래스는 이번 묶음에서 아는 클래스들의 평균으로 채운다 (아는 클래스가 없으면 0)
+     *
+     * @param classNames 실행 요청과 같은 클래스명 (중첩 클래스는 최상위 클래스로 합산)
+     */
+    public DurationEstimateDto estimate(List<String> classNames) {
+        Set<String> topLevel = new LinkedHashSet<>();
+        for (String className : classNames) {
+            int nested = className.indexOf('$');
+            topLevel.add(nested == -1 ? className : className.substring(0, nested));
+        }
+
+        Map<String, ClassDuration> durations = historyRepository.findClassDurations(topLevel);
+        List<DurationEstimateDto.ClassEstimate> classes = new ArrayList<>();
+        List<String> unknown = new ArrayList<>();
+        long meanSum = 0, p95Sum = 0;
+        for (String className : topLevel) {
+            ClassDuration duration = durations.get(className);
+            if (duration == null || duration.duration().samples() == 0) {
+                unknown.add(className);
+                continue;
+            }
+            classes.add(new DurationEstimateDto.ClassEstimate(
+                    className, duration.runs(), duration.lastTests(), duration.duration()));
+            meanSum += duration.duration().meanMillis();
+            p95Sum += duration.duration().p95Millis();
+        }
+        if (!classes.isEmpty()) {
+            meanSum += meanSum / classes.size() * unknown.size();
+            p95Sum += p95Sum / classes.size() * unknown.size();
+        }
+
+        long overhead = overheadMillis();
+        return DurationEstimateDto.builder()
+                .estimatedDurationMillis(overhead + meanSum)
+                .pessimisticDurationMillis(overhead + p95Sum)
+                .overheadMillis(overhead)
+                .classes(classes)
+                .unknownClasses(unknown)
+                .build();
+    }
+
+    /**
+     * 실행 요청 시 저장할 예상 시간 - 아는 클래스가 하나도 없으면 null
+     */
+    public Long estimateDurationMillis(List<String> classNames) {
+        DurationEstimateDto estimate = estimate(classNames);
+        return estimate.getClasses().isEmpty() ? null : estimate.getEstimatedDurationMillis();
+    }
+
+    /**
+     * 최근 정상 종료 실행의 (경과 시간 - 테스트 소요 시간 합) 중앙값
+     */
+    private long overheadMillis() {
+        List<TestExecution> recent = executionRepository.findRecentCompletedTimings(OVERHEAD_SAMPLE_SIZE);
+        if (recent.isEmpty()) {
+            return 0;
+        }
+        long[] overheads = recent.stream()
+                .mapToLong(execution -> Math.max(0, Duration.between(execution.getStartedAt(),
+                        execution.getFinishedAt()).toMillis() - execution.getTotalDurationMillis()))
+                .sorted()
+                .toArray();
+        return overheads[overheads.length / 2];
+    }
+
+    private static TestStatsDto toDto(TestStats stats) {
+        int decided = stats.getPasses() + stats.getFailures();
+        return TestStatsDto.builder()
+                .id(stats.getTestId())
+                .displayName(stats.getDisplayName())
+                .className(stats.getClassName())
+                .runs(stats.getRuns())
+                .passes(stats.getPasses())
+                .failures(stats.getFailures())
+                .skips(stats.getSkips())
+                .passRate(decided > 0 ? stats.getPasses() * 100.0 / decided : 0)
+                .flips(stats.getFlips())
+                .recentStatuses(stats.getRecentStatuses().chars()
+                        .mapToObj(c -> TestStats.status((char) c))
+                        .toList())
+                .recentFlips(stats.getRecentFlips())
+                .recentPassRate(stats.recentPassRate())
+                .flakiness(stats.flakiness())
+                .lastStatus(TestStats.status(stats.getLastStatus()))
+                .lastRunAt(stats.getLastRunAt())
+                .lastFailureAt(stats.getLastFailureAt())
+                .lastFailureExecutionId(stats.getLastFailureExecutionId())
+                .duration(stats.durationStats())
+                .build();
+    }
+}
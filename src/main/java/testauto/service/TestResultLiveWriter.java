@@ -0,0 +1,115 @@
+package testauto.service;
+
+import lombok.extern.slf4j.Slf4j;
+import testauto.domain.TestExecution;
+import testauto.domain.TestResultRecord;
+import testauto.domain.TestStatus;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 실행 하나의 결과를 러너 이벤트 단위로 받아 작은 배치로 저장
+ * - batchSize 만큼 모이거나 flushIntervalMillis 가 지나면 저장 (주기 flush 는 호출자가 flushIfDue 로 구동)
+ * - 저장은 write-behind 저널에 추가만 하고 바로 반환 (DB 반영 / 진행 상황 이벤트는 TestResultPersistenceService)
+ * - 결과 행 저장과 c_test_execution 카운터 증분은 DB 에서 같은 트랜잭션
+ * - 넘긴 test_id 를 기억해서 실행 종료 후 최종 결과 트리와 비교할 때 중복 저장을 막는다
+ */
+@Slf4j
+class TestResultLiveWriter {
+
+    private final String executionId;
+    private final TestResultPersistenceService persistenceService;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+
+    private final List<TestResultRecord> pending = new ArrayList<>();
+    private final Set<String> testIds = new HashSet<>();
+    private final Set<String> persistedTestIds = new HashSet<>();
+    private long lastFlushAt = System.currentTimeMillis();
+    private int persistedTests;
+
+    TestResultLiveWriter(String executionId, TestResultPersistenceService persistenceService, int batchSize,
+                         long flushIntervalMillis) {
+        this.executionId = executionId;
+        this.persistenceService = persistenceService;
+        this.batchSize = Math.max(batchSize, 1);
+        this.flushIntervalMillis = flushIntervalMillis;
+    }
+
+    /**
+     * @param test 실제 테스트(메서드/호출) 결과면 true - 카운터는 이것만 센다
+     */
+    synchronized void accept(TestResultRecord record, boolean test) {
+        pending.add(record);
+        if (test) {
+            testIds.add(record.getTestId());
+        }
+        if (pending.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    synchronized void flushIfDue() {
+        if (!pending.isEmpty() && System.currentTimeMillis() - lastFlushAt >= flushIntervalMillis) {
+            flush();
+        }
+    }
+
+    /**
+     * 남은 결과를 저널로 넘긴다
+     */
+    synchronized void flush() {
+        lastFlushAt = System.currentTimeMillis();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<TestResultRecord> batch = new ArrayList<>(pending);
+        TestExecution delta = counterDelta(batch);
+        persistenceService.appendBatch(executionId, batch, delta);
+        pending.clear();
+        for (TestResultRecord record : batch) {
+            persistedTestIds.add(record.getTestId());
+        }
+        persistedTests += delta.getTotalTests();
+        log.debug("Queued {} live results for execution {} ({} tests so far)", batch.size(), executionId, persistedTests);
+    }
+
+    synchronized boolean isPersisted(String testId) {
+        return persistedTestIds.contains(testId);
+    }
+
+    synchronized int persistedTests() {
+        return persistedTests;
+    }
+
+    private TestExecution counterDelta(List<TestResultRecord> batch) {
+        int total = 0, success = 0, failed = 0, skipped = 0;
+        long duration = 0;
+        for (TestResultRecord record : batch) {
+            if (!testIds.contains(record.getTestId())) {
+                continue;
+            }
+            total++;
+            duration += record.getDurationMillis();
+            if (record.getStatus() == TestStatus.SUCCESS) {
+                success++;
+            } else if (record.getStatus() == TestStatus.FAILED) {
+                failed++;
+            } else if (record.getStatus() == TestStatus.SKIPPED) {
+                skipped++;
+            }
+        }
+        return TestExecution.builder()
+                .executionId(executionId)
+                .totalTests(total)
+                .successCount(success)
+                .failedCount(failed)
+                .skippedCount(skipped)
+                .totalDurationMillis(duration)
+                .build();
+    }
+}
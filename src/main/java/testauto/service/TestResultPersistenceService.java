@@ -0,0 +1,314 @@
+package testauto.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.stereotype.Service;
+import testauto.domain.TestExecution;
+import testauto.domain.TestExecutionChangedEvent;
+import testauto.domain.TestResultRecord;
+import testauto.repository.TestExecutionRepository;
+import testauto.repository.TestLastStatusCache;
+import testauto.repository.TestResultJournal;
+import testauto.repository.TestResultJournal.Entry;
+import testauto.repository.TestResultJournal.ExecutionLine;
+import testauto.repository.TestResultJournal.ResultLine;
+import testauto.repository.TestResultJournal.Type;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * 실행 / 결과 저장 write-behind
+ * - 실행 시작은 요청 스레드에서 바로 DB 에 기록 (응답으로 받은 실행 id 를 곧바로 조회 / 재실행할 수 있도록)
+ *   DB 에 닿지 않거나 drain 이 일시 오류로 밀려 있는 동안에는 저널로 넘긴다
+ * - 결과 / 종료는 호출자 (러너 이벤트 스레드) 가 저널 (TestResultJournal) 에 추가만 하고 바로 반환 - DB 지연/장애를 기다리지 않는다
+ * - drain 스레드 하나가 저널 순서대로 DB 에 반영 - 실패하면 같은 항목을 backoff 하며 재시도 (뒤 항목은 대기, 순서 유지)
+ *   연결 장애 / 타임아웃 / 교착 등 일시적 오류만 계속 재시도, 그 밖의 오류 (데이터 오류, 실행 행 없음 등) 는 max-attempts 후 dead-letter 로 넘긴다
+ * - 반영 후 마지막 상태 캐시 갱신 / 일별 집계 / 변경 이벤트 발행 (화면은 DB 에 반영된 뒤에 갱신)
+ * - 기동 시 남은 저널을 먼저 재생 - 이미 반영된 항목은 c_test_execution.journal_seq 비교로 건너뛴다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TestResultPersistenceService {
+
+    private final TestResultJournal journal;
+    private final TestExecutionRepository executionRepository;
+    private final TestLastStatusCache lastStatusCache;
+    private final TestStatsRollupService statsRollupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${testcode.result-journal.retry-initial-millis:500}")
+    private long retryInitialMillis;
+
+    @Value("${testcode.result-journal.retry-max-millis:30000}")
+    private long retryMaxMillis;
+
+    @Value("${testcode.result-journal.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${testcode.result-journal.shutdown-drain-millis:5000}")
+    private long shutdownDrainMillis;
+
+    private final BlockingQueue<Entry> queue = new LinkedBlockingQueue<>();
+    // 저널로 넘긴 실행 시작 (DB 반영 전) - 반영 전에도 실행 조회 / 재실행이 되도록
+    private final Map<String, TestExecution> pendingStarts = new ConcurrentHashMap<>();
+    private volatile boolean running = true;
+    private volatile boolean applying;
+    // drain 이 일시 오류로 재시도 중 - 실행 시작도 DB 를 기다리지 않고 저널로
+    private volatile boolean databaseUnavailable;
+    private Thread drainThread;
+
+    @PostConstruct
+    public void init() {
+        try {
+            for (Entry entry : journal.open()) {
+                if (entry.type() == Type.START) {
+                    pendingStarts.put(entry.executionId(), entry.execution().toExecution(entry.executionId()));
+                }
+                queue.add(entry);
+            }
+        } catch (IOException e) {
+            log.error("Result journal unavailable, results are kept in memory only until written: {}", e.getMessage());
+        }
+        Gauge.builder("testauto.result.journal.pending", queue, BlockingQueue::size)
+                .description("Journal entries not yet written to the database")
+                .register(meterRegistry);
+
+        drainThread = new Thread(this::drain, "result-journal-drain");
+        drainThread.setDaemon(true);
+        drainThread.start();
+    }
+
+    /**
+     * 남은 항목을 잠시 기다렸다가 종료 - 못 쓴 항목은 저널에 남아 다음 기동 때 반영
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + shutdownDrainMillis;
+        while ((!queue.isEmpty() || applying) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        running = false;
+        drainThread.interrupt();
+        drainThread.join(1000);
+        if (!queue.isEmpty()) {
+            log.warn("{} result journal entries left for replay on next start", queue.size());
+        }
+        journal.close();
+    }
+
+    /**
+     * 실행 시작 - DB 에 바로 기록하고, 일시 오류면 저널로 (반영될 때까지는 조회되지 않는다)
+     */
+    public void start(TestExecution execution) {
+        String executionId = execution.getExecutionId();
+        if (!databaseUnavailable) {
+            try {
+                executionRepository.saveExecution(execution);
+                publish(executionId, TestExecutionChangedEvent.Type.SUBMITTED);
+                return;
+            } catch (RuntimeException e) {
+                if (!isTransient(e)) {
+                    throw e;
+                }
+                log.warn("Execution {} start not written ({}), deferring to result journal", executionId, e.getMessage());
+            }
+        }
+        pendingStarts.put(executionId, execution);
+        append(Type.START, executionId, ExecutionLine.of(execution), null);
+    }
+
+    /**
+     * 저널에만 있는 (DB 반영 전) 실행 시작
+     */
+    public Optional<TestExecution> findPendingStart(String executionId) {
+        return Optional.ofNullable(pendingStarts.get(executionId));
+    }
+
+    /**
+     * 실행 중 결과 배치 + 카운터 증분
+     */
+    public void appendBatch(String executionId, List<TestResultRecord> results, TestExecution counterDelta) {
+        append(Type.BATCH, executionId, ExecutionLine.of(counterDelta), toLines(results));
+    }
+
+    /**
+     * 정상 종료 - 실행 중 저장되지 않은 결과 + 최종 카운터
+     */
+    public void complete(TestExecution execution, List<TestResultRecord> results) {
+        append(Type.COMPLETE, execution.getExecutionId(), ExecutionLine.of(execution), toLines(results));
+    }
+
+    /**
+     * 실패 종료 - 그때까지 저장된 결과와 카운터는 유지
+     */
+    public void fail(String executionId, LocalDateTime finishedAt) {
+        append(Type.FAIL, executionId, ExecutionLine.of(TestExecution.builder()
+                .executionId(executionId)
+                .finishedAt(finishedAt)
+                .status("FAILED")
+                .build()), null);
+    }
+
+    /**
+     * DB 에 아직 반영되지 않은 항목 수
+     */
+    public int pending() {
+        return queue.size() + (applying ? 1 : 0);
+    }
+
+    /**
+     * 큐 순서가 저널 seq 순서와 같도록 추가와 큐 삽입을 한 락에서
+     */
+    private synchronized void append(Type type, String executionId, ExecutionLine execution, List<ResultLine> results) {
+        queue.add(journal.append(type, executionId, execution, results));
+    }
+
+    private void drain() {
+        while (running) {
+            Entry entry;
+            try {
+                entry = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            applying = true;
+            try {
+                if (!applyWithRetry(entry)) {
+                    return;
+                }
+                journal.markApplied(entry.seq());
+                if (entry.type() == Type.START) {
+                    pendingStarts.remove(entry.executionId());
+                }
+            } finally {
+                applying = false;
+            }
+        }
+    }
+
+    /**
+     * @return 종료 요청으로 중단했으면 false (항목은 저널에 남아 있다)
+     */
+    private boolean applyWithRetry(Entry entry) {
+        long backoff = retryInitialMillis;
+        int attempts = 0;
+        while (true) {
+            attempts++;
+            try {
+                apply(entry);
+                databaseUnavailable = false;
+                if (attempts > 1) {
+                    log.info("Result journal entry {} ({} {}) written after {} attempts",
+                            entry.seq(), entry.type(), entry.executionId(), attempts);
+                }
+                return true;
+            } catch (Exception e) {
+                if (isTransient(e)) {
+                    // 연결 장애 / 타임아웃 등은 DB 가 돌아올 때까지 재시도 - 같은 경고를 매번 남기지 않도록 처음과 backoff 최대치에서만
+                    databaseUnavailable = true;
+                    if (attempts == 1 || backoff >= retryMaxMillis) {
+                        log.warn("Result journal entry {} ({} {}) failed (attempt {}), {} pending: {}",
+                                entry.seq(), entry.type(), entry.executionId(), attempts, queue.size() + 1, e.getMessage());
+                    }
+                } else if (attempts >= maxAttempts) {
+                    log.error("Giving up result journal entry {} ({} {}) after {} attempts: {}",
+                            entry.seq(), entry.type(), entry.executionId(), attempts, e.toString());
+                    journal.deadLetter(entry, e.toString());
+                    return true;
+                } else {
+                    log.warn("Result journal entry {} ({} {}) failed, retrying: {}",
+                            entry.seq(), entry.type(), entry.executionId(), e.toString());
+                }
+            }
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            backoff = Math.min(backoff * 2, retryMaxMillis);
+        }
+    }
+
+    /**
+     * DB 가 돌아오면 성공할 오류인지 (연결 장애, 잠금 / 교착 / 쿼리 타임아웃)
+     */
+    private static boolean isTransient(Exception e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotGetJdbcConnectionException;
+    }
+
+    private void apply(Entry entry) {
+        long seq = entry.seq();
+        String executionId = entry.executionId();
+        switch (entry.type()) {
+            case START -> {
+                executionRepository.saveExecution(entry.execution().toExecution(executionId), seq);
+                publish(executionId, TestExecutionChangedEvent.Type.SUBMITTED);
+            }
+            case BATCH -> {
+                List<TestResultRecord> records = entry.resultRecords();
+                requireApplied(executionRepository.saveResultBatch(executionId, records,
+                        entry.execution().toExecution(executionId), seq), entry);
+                lastStatusCache.record(records);
+                publish(executionId, TestExecutionChangedEvent.Type.PROGRESSED);
+            }
+            case COMPLETE -> {
+                List<TestResultRecord> records = entry.resultRecords();
+                requireApplied(executionRepository.completeExecution(
+                        entry.execution().toExecution(executionId), records, seq), entry);
+                lastStatusCache.record(records);
+                statsRollupService.rollUp(executionId);
+                publish(executionId, TestExecutionChangedEvent.Type.FINISHED);
+            }
+            case FAIL -> {
+                requireApplied(executionRepository.finishExecution(
+                        executionId, entry.execution().finishedAt(), "FAILED", seq), entry);
+                statsRollupService.rollUp(executionId);
+                publish(executionId, TestExecutionChangedEvent.Type.FINISHED);
+            }
+        }
+    }
+
+    /**
+     * 반영되지 않은 이유가 이미 반영한 seq (저널 재생) 가 아니라 실행 행이 없어서라면 실패로 처리 (재시도 후 dead-letter)
+     */
+    private void requireApplied(boolean applied, Entry entry) {
+        if (!applied && executionRepository.findExecutionById(entry.executionId()).isEmpty()) {
+            throw new IllegalStateException("Execution " + entry.executionId() + " not found for journal entry "
+                    + entry.seq() + " (" + entry.type() + ")");
+        }
+    }
+
+    private void publish(String executionId, TestExecutionChangedEvent.Type type) {
+        try {
+            eventPublisher.publishEvent(new TestExecutionChangedEvent(executionId, type));
+        } catch (Exception e) {
+            log.warn("Failed to publish {} event for execution {}: {}", type, executionId, e.getMessage());
+        }
+    }
+
+    private static List<ResultLine> toLines(List<TestResultRecord> results) {
+        return results.stream().map(ResultLine::of).toList();
+    }
+}
@@ -0,0 +1,295 @@
+package testauto.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import testauto.domain.TestExecution;
+import testauto.domain.TestResultRecord;
+import testauto.repository.TestBlobStore;
+import testauto.repository.TestExecutionRepository;
+import testauto.repository.TestResultArchive;
+import testauto.repository.TestResultArchive.Archive;
+import testauto.repository.TestResultJournal.ExecutionLine;
+import testauto.repository.TestResultJournal.ResultLine;
+import testauto.repository.TestRetentionRepository;
+import testauto.repository.TestRetentionRepository.PurgeCandidate;
+import testauto.repository.TestRetentionRepository.ResultKey;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 실행 결과 보관 정책 (c_test_result 크기 제한)
+ * - full-days 이내: 전체 결과 보관
+ * - full-days 이후: 전체 결과를 보관 파일 (TestResultArchive) 로 내보낸 뒤 실패 결과와 그 상위 노드만 남긴다 (요약은 실행 행 카운터)
+ * - purge-days 이후: 보관 파일만 남기고 실행 행까지 삭제 (일별 집계 / 테스트별 요약은 유지)
+ * - 보관 파일에서 언제든 전체 결과로 복원 - 복원한 실행은 full-days 동안 다시 정리하지 않는다
+ * - 결과 행을 지운 뒤 더 이상 가리키는 결과가 없는 본문 블롭 (c_test_blob) 도 삭제
+ * - 매일 한 번 (cron) 백그라운드로, 실행 batch-size 건씩 / 결과 delete-chunk-size 행씩 나눠 지우고
+ *   묶음 사이마다 pause-millis 쉬며 max-run-minutes 가 지나면 다음 회차로 넘긴다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TestRetentionService {
+
+    private final TestRetentionRepository retentionRepository;
+    private final TestExecutionRepository executionRepository;
+    private final TestResultArchive archive;
+    private final TestBlobStore blobStore;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${testcode.retention.enabled:true}")
+    private boolean enabled;
+
+    @Value("${testcode.retention.full-days:30}")
+    private int fullDays;
+
+    @Value("${testcode.retention.purge-days:365}")
+    private int purgeDays;
+
+    @Value("${testcode.retention.batch-size:20}")
+    private int batchSize;
+
+    @Value("${testcode.retention.delete-chunk-size:1000}")
+    private int deleteChunkSize;
+
+    @Value("${testcode.retention.pause-millis:200}")
+    private long pauseMillis;
+
+    @Value("${testcode.retention.max-run-minutes:60}")
+    private long maxRunMinutes;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    // 같은 실행을 정리하면서 동시에 복원하지 않도록
+    private final Object executionLock = new Object();
+
+    private Counter compactedCounter;
+    private Counter purgedCounter;
+    private Counter deletedRowsCounter;
+    private Counter deletedBlobsCounter;
+
+    @PostConstruct
+    public void init() {
+        compactedCounter = Counter.builder("testauto.retention.compacted")
+                .description("Executions reduced to summary and failures")
+                .register(meterRegistry);
+        purgedCounter = Counter.builder("testauto.retention.purged")
+                .description("Executions deleted after archiving")
+                .register(meterRegistry);
+        deletedRowsCounter = Counter.builder("testauto.retention.deleted.rows")
+                .description("c_test_result rows deleted by retention")
+                .register(meterRegistry);
+        deletedBlobsCounter = Counter.builder("testauto.retention.deleted.blobs")
+                .description("Unreferenced c_test_blob rows deleted by retention")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${testcode.retention.cron:0 30 3 * * *}")
+    public void runScheduled() {
+        if (enabled) {
+            run();
+        }
+    }
+
+    /**
+     * 한 회차 실행 - 이미 실행 중이면 건너뛴다
+     */
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Retention job already running, skipped");
+            return;
+        }
+        long start = System.currentTimeMillis();
+        long deadline = start + maxRunMinutes * 60_000;
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime fullCutoff = now.minusDays(fullDays);
+        LocalDateTime purgeCutoff = now.minusDays(Math.max(purgeDays, fullDays));
+        int purged = 0;
+        int compacted = 0;
+        int blobs = 0;
+        try {
+            // 삭제 대상을 먼저 - 곧 지울 실행을 굳이 요약하지 않도록
+            while (System.currentTimeMillis() < deadline) {
+                List<PurgeCandidate> candidates = retentionRepository.findPurgeCandidates(purgeCutoff, fullCutoff, batchSize);
+                for (PurgeCandidate candidate : candidates) {
+                    if (System.currentTimeMillis() >= deadline) {
+                        break;
+                    }
+                    purge(candidate, deadline);
+                    purged++;
+                }
+                if (candidates.size() < batchSize) {
+                    break;
+                }
+            }
+            while (System.currentTimeMillis() < deadline) {
+                List<String> candidates = retentionRepository.findCompactionCandidates(fullCutoff, batchSize);
+                for (String executionId : candidates) {
+                    if (System.currentTimeMillis() >= deadline) {
+                        break;
+                    }
+                    compact(executionId, deadline);
+                    compacted++;
+                }
+                if (candidates.size() < batchSize) {
+                    break;
+                }
+            }
+            blobs = deleteUnreferencedBlobs(deadline);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("Retention job stopped after {} purged / {} compacted executions: {}",
+                    purged, compacted, e.getMessage());
+            return;
+        } finally {
+            running.set(false);
+        }
+        if (purged + compacted + blobs > 0 || System.currentTimeMillis() >= deadline) {
+            log.info("Retention job: {} executions purged, {} compacted, {} blobs deleted in {} ms{}", purged, compacted, blobs,
+                    System.currentTimeMillis() - start,
+                    System.currentTimeMillis() >= deadline ? " (time budget reached, continuing next run)" : "");
+        }
+    }
+
+    /**
+     * 보관 파일에서 전체 결과 복원
+     *
+     * @return 보관 파일이 없으면 false
+     */
+    public boolean restore(String executionId) throws IOException {
+        Optional<Archive> archived = archive.read(executionId);
+        if (archived.isEmpty()) {
+            return false;
+        }
+        Archive content = archived.get();
+        TestExecution execution = content.execution().toExecution(executionId);
+        List<TestResultRecord> results = content.results().stream()
+                .map(line -> line.toRecord(executionId))
+                .toList();
+        synchronized (executionLock) {
+            retentionRepository.restore(execution, results);
+        }
+        return true;
+    }
+
+    private void compact(String executionId, long deadline) throws IOException, InterruptedException {
+        synchronized (executionLock) {
+            archiveFull(executionId);
+            List<Long> ids = removableResultIds(retentionRepository.findResultKeys(executionId));
+            deleteInChunks(ids, deadline);
+            retentionRepository.markCompacted(executionId);
+        }
+        compactedCounter.increment();
+        log.debug("Compacted execution {}", executionId);
+    }
+
+    private void purge(PurgeCandidate candidate, long deadline) throws IOException, InterruptedException {
+        String executionId = candidate.executionId();
+        synchronized (executionLock) {
+            if (!candidate.compacted() || !archive.exists(executionId)) {
+                archiveFull(executionId);
+            }
+            deleteInChunks(retentionRepository.findResultIds(executionId), deadline);
+            retentionRepository.deleteExecution(executionId);
+        }
+        purgedCounter.increment();
+        log.debug("Purged execution {}", executionId);
+    }
+
+    /**
+     * 지우기 전에 전체 결과 (본문 포함) 를 보관 파일로 - 이미 있으면 그대로 둔다
+     */
+    private void archiveFull(String executionId) throws IOException {
+        TestExecution execution = executionRepository.findExecutionById(executionId)
+                .orElseThrow(() -> new IllegalStateException("Execution not found: " + executionId));
+        if (execution.isCompacted()) {
+            // 요약만 남은 실행인데 보관 파일이 없으면 되살릴 수 없으므로 남은 것이라도 보관
+            log.warn("Archive missing for compacted execution {}, archiving remaining results only", executionId);
+        }
+        List<ResultLine> results = executionRepository.findResultsByExecutionId(executionId).stream()
+                .map(ResultLine::of)
+                .toList();
+        archive.write(executionId, ExecutionLine.of(execution), results);
+    }
+
+    /**
+     * 가리키는 결과가 없는 블롭을 delete-chunk-size 개씩 삭제 (묶음 사이 pause-millis, 남으면 다음 회차로)
+     */
+    private int deleteUnreferencedBlobs(long deadline) throws InterruptedException {
+        int deleted = 0;
+        String after = null;
+        while (System.currentTimeMillis() < deadline) {
+            List<String> hashes = blobStore.findUnreferenced(after, deleteChunkSize);
+            if (hashes.isEmpty()) {
+                break;
+            }
+            int count = blobStore.deleteUnreferenced(hashes);
+            deleted += count;
+            deletedBlobsCounter.increment(count);
+            if (hashes.size() < deleteChunkSize) {
+                break;
+            }
+            after = hashes.get(hashes.size() - 1);
+            if (pauseMillis > 0) {
+                Thread.sleep(pauseMillis);
+            }
+        }
+        return deleted;
+    }
+
+    private void deleteInChunks(List<Long> ids, long deadline) throws InterruptedException {
+        // 한 실행은 끝까지 지운다 (중간에 멈추면 실패만 남긴 상태 표시가 어긋나므로) - 시간 제한은 실행 단위로만
+        for (int from = 0; from < ids.size(); from += deleteChunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + deleteChunkSize, ids.size()));
+            deletedRowsCounter.increment(retentionRepository.deleteResults(chunk));
+            if (pauseMillis > 0 && from + deleteChunkSize < ids.size()) {
+                Thread.sleep(pauseMillis);
+            }
+        }
+        if (pauseMillis > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(pauseMillis);
+        }
+    }
+
+    /**
+     * 실패 결과와 그 상위 노드 (클래스 / 컨테이너) 를 뺀 나머지 결과 id
+     */
+    static List<Long> removableResultIds(List<ResultKey> keys) {
+        Map<String, ResultKey> byTestId = new HashMap<>(keys.size() * 2);
+        for (ResultKey key : keys) {
+            byTestId.put(key.testId(), key);
+        }
+        Set<Long> keep = new HashSet<>();
+        for (ResultKey key : keys) {
+            if (!"FAILED".equals(key.status())) {
+                continue;
+            }
+            ResultKey node = key;
+            while (node != null && keep.add(node.id())) {
+                node = node.parentTestId() != null ? byTestId.get(node.parentTestId()) : null;
+            }
+        }
+        List<Long> removable = new ArrayList<>(keys.size() - keep.size());
+        for (ResultKey key : keys) {
+            if (!keep.contains(key.id())) {
+                removable.add(key.id());
+            }
+        }
+        return removable;
+    }
+}
@@ -0,0 +1,332 @@
+package testauto.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import testauto.domain.TestCatalogChangedEvent;
+import testauto.domain.TestNode;
+import testauto.dto.TestSearchHitDto;
+import testauto.repository.TestCatalogCache;
+import testauto.repository.TestCatalogSnapshot;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 테스트 카탈로그 검색 - 메모리 역색인 (term -> 노드별 가중치)
+ * - 색인 대상: 클래스 이름 (camelCase 분해 포함), 패키지, displayName, 메서드 이름, @Tag
+ * - 한글은 공백 단위 단어 외에 2-gram 으로도 색인하여 부분 검색 지원
+ * - 카탈로그가 바뀌면 바뀐 노드만 색인에서 빼고 다시 넣는다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TestSearchService {
+
+    private static final float CLASS_WEIGHT = 3.0f;
+    private static final float METHOD_WEIGHT = 3.0f;
+    private static final float DISPLAY_NAME_WEIGHT = 2.0f;
+    private static final float TAG_WEIGHT = 2.0f;
+    private static final float PACKAGE_WEIGHT = 0.5f;
+
+    private static final float PREFIX_FACTOR = 0.6f;
+    private static final float FUZZY_FACTOR = 0.4f;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    private final TestCatalogCache catalogCache;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Map<Integer, Float>> postings = new TreeMap<>();
+    private final Map<String, IndexedDoc> docsByUniqueId = new HashMap<>();
+    private final Map<Integer, IndexedDoc> docsById = new HashMap<>();
+    private int nextDocId;
+    // search() 가 락 없이 먼저 비교하므로 volatile (교체는 쓰기 락 안에서만)
+    private volatile TestCatalogSnapshot indexedSnapshot;
+
+    /**
+     * 검색어와 관련도가 높은 순으로 노드를 반환
+     */
+    public List<TestSearchHitDto> search(String query, int limit) {
+        List<String> terms = new ArrayList<>(tokenize(query));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        TestCatalogSnapshot snapshot = catalogCache.snapshot();
+        if (snapshot != indexedSnapshot) {
+            sync(snapshot);
+        }
+
+        lock.readLock().lock();
+        try {
+            // docId -> [누적 점수, 일치한 검색어 수]
+            Map<Integer, float[]> scores = new HashMap<>();
+            for (String term : terms) {
+                Map<Integer, Float> best = matchTerm(term);
+                best.forEach((docId, weight) -> {
+                    float[] acc = scores.computeIfAbsent(docId, k -> new float[2]);
+                    acc[0] += weight;
+                    acc[1] += 1;
+                });
+            }
+
+            // 검색어를 더 많이 포함한 노드를 우선 (부분 일치는 제곱으로 감점)
+            List<Map.Entry<Integer, Float>> ranked = new ArrayList<>(scores.size());
+            scores.forEach((docId, acc) -> {
+                float coverage = acc[1] / terms.size();
+                ranked.add(Map.entry(docId, acc[0] * coverage * coverage));
+            });
+            ranked.sort(Map.Entry.<Integer, Float>comparingByValue().reversed());
+
+            List<TestSearchHitDto> hits = new ArrayList<>(Math.min(limit, ranked.size()));
+            for (Map.Entry<Integer, Float> entry : ranked) {
+                if (hits.size() >= limit) {
+                    break;
+                }
+                TestNode node = docsById.get(entry.getKey()).node();
+                hits.add(TestSearchHitDto.builder()
+                        .uniqueId(node.getUniqueId())
+                        .className(TestNode.extractTopLevelClass(node.getUniqueId()))
+                        .displayName(node.getDisplayName())
+                        .type(node.getType())
+                        .score(entry.getValue())
+                        .build());
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onCatalogChanged(TestCatalogChangedEvent event) {
+        sync(event.current());
+    }
+
+    /**
+     * 색인을 주어진 스냅샷에 맞춘다 - 이전에 색인한 스냅샷과의 차이만 반영
+     */
+    private void sync(TestCatalogSnapshot snapshot) {
+        lock.writeLock().lock();
+        try {
+            if (snapshot == indexedSnapshot) {
+                return;
+            }
+            long start = System.currentTimeMillis();
+            Collection<TestNode> previous = indexedSnapshot != null ? indexedSnapshot.findAll() : List.of();
+            TestCatalogDiff diff = TestCatalogDiff.between(previous, snapshot.findAll());
+
+            for (String uniqueId : diff.removedUniqueIds()) {
+                removeDoc(uniqueId);
+            }
+            for (TestNode node : diff.changed()) {
+                removeDoc(node.getUniqueId());
+                addDoc(node);
+            }
+            for (TestNode node : diff.added()) {
+                addDoc(node);
+            }
+            indexedSnapshot = snapshot;
+
+            log.info("Search index synced to generation {}: {} added, {} changed, {} removed ({} terms, {} ms)",
+                    snapshot.getGeneration(), diff.added().size(), diff.changed().size(),
+                    diff.removedUniqueIds().size(), postings.size(), System.currentTimeMillis() - start);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addDoc(TestNode node) {
+        Map<String, Float> terms = new HashMap<>();
+        mergeTerms(terms, tokenize(node.getDisplayName()), DISPLAY_NAME_WEIGHT);
+        mergeTerms(terms, tokenize(node.getTags()), TAG_WEIGHT);
+        mergeTerms(terms, tokenize(extractMethodName(node.getUniqueId())), METHOD_WEIGHT);
+
+        String className = node.getClassName();
+        if (className != null) {
+            int lastDot = className.lastIndexOf('.');
+            mergeTerms(terms, tokenize(className.substring(lastDot + 1)), CLASS_WEIGHT);
+            if (lastDot > 0) {
+                mergeTerms(terms, tokenize(className.substring(0, lastDot)), PACKAGE_WEIGHT);
+            }
+        }
+        if (terms.isEmpty()) {
+            return;
+        }
+
+        int docId = nextDocId++;
+        IndexedDoc doc = new IndexedDoc(docId, node, terms.keySet());
+        docsByUniqueId.put(node.getUniqueId(), doc);
+        docsById.put(docId, doc);
+        terms.forEach((term, weight) -> postings.computeIfAbsent(term, k -> new HashMap<>()).put(docId, weight));
+    }
+
+    private void removeDoc(String uniqueId) {
+        IndexedDoc doc = docsByUniqueId.remove(uniqueId);
+        if (doc == null) {
+            return;
+        }
+        docsById.remove(doc.docId());
+        for (String term : doc.terms()) {
+            Map<Integer, Float> docs = postings.get(term);
+            if (docs != null) {
+                docs.remove(doc.docId());
+                if (docs.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    /**
+     * 검색어 하나에 대한 노드별 최고 가중치 - 정확히 일치 > 접두어 일치 > 오타 1글자 허용 순
+     */
+    private Map<Integer, Float> matchTerm(String term) {
+        Map<Integer, Float> best = new HashMap<>();
+        Map<Integer, Float> exact = postings.get(term);
+        if (exact != null) {
+            exact.forEach((docId, weight) -> best.merge(docId, weight, Math::max));
+        }
+
+        if (term.length() >= 2) {
+            int expansions = 0;
+            for (Map.Entry<String, Map<Integer, Float>> entry
+                    : postings.subMap(term, false, term + Character.MAX_VALUE, false).entrySet()) {
+                if (++expansions > MAX_PREFIX_EXPANSIONS) {
+                    break;
+                }
+                entry.getValue().forEach((docId, weight) -> best.merge(docId, weight * PREFIX_FACTOR, Math::max));
+            }
+        }
+
+        if (best.isEmpty() && term.length() >= 4) {
+            String first = term.substring(0, 1);
+            for (Map.Entry<String, Map<Integer, Float>> entry
+                    : postings.subMap(first, true, first + Character.MAX_VALUE, false).entrySet()) {
+                if (withinOneEdit(term, entry.getKey())) {
+                    entry.getValue().forEach((docId, weight) -> best.merge(docId, weight * FUZZY_FACTOR, Math::max));
+                }
+            }
+        }
+        return best;
+    }
+
+    private static void mergeTerms(Map<String, Float> terms, Set<String> tokens, float weight) {
+        for (String token : tokens) {
+            terms.merge(token, weight, Math::max);
+        }
+    }
+
+    /**
+     * 단어 단위 분리 + camelCase/숫자 경계 분리 + 한글 2-gram (순서 유지, 중복 제거)
+     */
+    static LinkedHashSet<String> tokenize(String text) {
+        LinkedHashSet<String> tokens = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        StringBuilder word = new StringBuilder();
+        text.codePoints().forEach(cp -> {
+            if (Character.isLetterOrDigit(cp)) {
+                word.appendCodePoint(cp);
+            } else if (!word.isEmpty()) {
+                addWordTokens(word.toString(), tokens);
+                word.setLength(0);
+            }
+        });
+        if (!word.isEmpty()) {
+            addWordTokens(word.toString(), tokens);
+        }
+        return tokens;
+    }
+
+    private static void addWordTokens(String word, Set<String> tokens) {
+        tokens.add(word.toLowerCase(Locale.ROOT));
+
+        List<String> parts = splitCamelCase(word);
+        if (parts.size() > 1) {
+            for (String part : parts) {
+                tokens.add(part.toLowerCase(Locale.ROOT));
+            }
+        }
+
+        for (String part : parts) {
+            if (isHangul(part.codePointAt(0)) && part.length() > 2) {
+                for (int i = 0; i + 2 <= part.length(); i++) {
+                    tokens.add(part.substring(i, i + 2));
+                }
+            }
+        }
+    }
+
+    private static List<String> splitCamelCase(String word) {
+        List<String> parts = new ArrayList<>();
+        int start = 0;
+        for (int i = 1; i < word.length(); i++) {
+            char prev = word.charAt(i - 1);
+            char cur = word.charAt(i);
+            boolean next = i + 1 < word.length() && Character.isLowerCase(word.charAt(i + 1));
+            boolean boundary = (Character.isLowerCase(prev) && Character.isUpperCase(cur))
+                    || (Character.isUpperCase(prev) && Character.isUpperCase(cur) && next)
+                    || (Character.isDigit(prev) != Character.isDigit(cur))
+                    || (isHangul(prev) != isHangul(cur));
+            if (boundary) {
+                parts.add(word.substring(start, i));
+                start = i;
+            }
+        }
+        parts.add(word.substring(start));
+        return parts;
+    }
+
+    private static boolean isHangul(int codePoint) {
+        return Character.UnicodeScript.of(codePoint) == Character.UnicodeScript.HANGUL;
+    }
+
+    /**
+     * 삽입 / 삭제 / 치환 한 번으로 같아지는지 (같은 문자열은 false - 정확히 일치하는 검색어는 따로 처리)
+     */
+    static boolean withinOneEdit(String a, String b) {
+        int lengthDiff = a.length() - b.length();
+        if (Math.abs(lengthDiff) > 1 || a.equals(b)) {
+            return false;
+        }
+        int i = 0, j = 0, edits = 0;
+        while (i < a.length() && j < b.length()) {
+            if (a.charAt(i) == b.charAt(j)) {
+                i++;
+                j++;
+                continue;
+            }
+            if (++edits > 1) {
+                return false;
+            }
+            if (lengthDiff > 0) {
+                i++;
+            } else if (lengthDiff < 0) {
+                j++;
+            } else {
+                i++;
+                j++;
+            }
+        }
+        return edits + (a.length() - i) + (b.length() - j) <= 1;
+    }
+
+    private static String extractMethodName(String uniqueId) {
+        int methodStart = uniqueId.lastIndexOf("[method:");
+        if (methodStart == -1) {
+            return null;
+        }
+        int methodEnd = uniqueId.indexOf("(", methodStart);
+        if (methodEnd == -1) {
+            methodEnd = uniqueId.indexOf("]", methodStart);
+        }
+        return methodEnd == -1 ? null : uniqueId.substring(methodStart + 8, methodEnd);
+    }
+
+    private record IndexedDoc(int docId, TestNode node, Set<String> terms) {}
+}
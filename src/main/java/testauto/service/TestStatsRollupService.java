@@ -0,0 +1,127 @@
+package testauto.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import testauto.repository.TestDailyStatsRollup;
+import testauto.repository.TestExecutionClassRepository;
+import testauto.repository.TestExecutionClassRepository.PendingExecution;
+
+import java.util.List;
+
+/**
+ * 대시보드 일별 집계 / 테스트별 이력 유지
+ * - 실행이 끝나면 (COMPLETED / FAILED) 바로 반영
+ * - 반영에 실패했거나 테이블 도입 전 이력은 기동 시 백필 (rolled_up = 0 인 끝난 실행, 요청 클래스 행이 없는 실행)
+ * - 테스트별 요약은 읽고 고쳐 쓰는 방식이라 반영은 한 번에 하나씩 (백필과 실시간 반영 모두 같은 락)
+ * - 여러 인스턴스가 같은 날짜의 첫 집계 행을 동시에 MERGE 하면 중복 키로 실패하므로 실행 단위로 다시 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TestStatsRollupService {
+
+    private static final int BACKFILL_BATCH_SIZE = 500;
+    private static final int MAX_ROLL_UP_ATTEMPTS = 3;
+
+    private final TestDailyStatsRollup dailyStatsRollup;
+    private final TestExecutionClassRepository classRepository;
+
+    private final Object rollUpLock = new Object();
+
+    /**
+     * 끝난 실행 하나를 집계에 반영 - 실패해도 실행 처리는 계속 (다음 기동 시 백필)
+     */
+    public void rollUp(String executionId) {
+        try {
+            rollUpSerialized(executionId);
+        } catch (Exception e) {
+            log.warn("Failed to roll up execution {} into daily stats: {}", executionId, e.getMessage());
+        }
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long start = System.currentTimeMillis();
+        int rolledUp = 0;
+        try {
+            while (true) {
+                List<String> pending = dailyStatsRollup.findPendingExecutionIds(BACKFILL_BATCH_SIZE);
+                int before = rolledUp;
+                for (String executionId : pending) {
+                    if (rollUpSerialized(executionId)) {
+                        rolledUp++;
+                    }
+                }
+                // 한 건도 반영하지 못했으면 (동시에 다른 곳에서 처리 중) 종료
+                if (pending.size() < BACKFILL_BATCH_SIZE || rolledUp == before) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Daily stats backfill stopped after {} executions: {}", rolledUp, e.getMessage());
+            return;
+        }
+        if (rolledUp > 0) {
+            log.info("Daily stats backfill: {} executions rolled up in {} ms", rolledUp, System.currentTimeMillis() - start);
+        }
+        backfillExecutionClasses();
+    }
+
+    /**
+     * 요청 클래스 행이 없는 실행 (c_test_execution_class 도입 전) - class_names 를 한 번 나눠 추가, 끝난 실행은 결과로 갱신
+     * 추가와 결과 갱신은 rollUp 과 같은 락 안에서 (같은 실행을 동시에 집계하면서 클래스 행을 갱신하지 않도록)
+     */
+    private void backfillExecutionClasses() {
+        long start = System.currentTimeMillis();
+        int filled = 0;
+        try {
+            PendingExecution last = null;
+            while (true) {
+                List<PendingExecution> pending = classRepository.findExecutionsWithoutClasses(last, BACKFILL_BATCH_SIZE);
+                for (PendingExecution execution : pending) {
+                    if (!execution.classNames().isEmpty()) {
+                        synchronized (rollUpLock) {
+                            classRepository.insert(execution.executionId(), execution.startedAt(), execution.classNames());
+                            dailyStatsRollup.finishExecutionClasses(execution.executionId());
+                        }
+                        filled++;
+                    }
+                    last = execution;
+                }
+                if (pending.size() < BACKFILL_BATCH_SIZE) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Execution class backfill stopped after {} executions: {}", filled, e.getMessage());
+            return;
+        }
+        if (filled > 0) {
+            log.info("Execution class backfill: {} executions in {} ms", filled, System.currentTimeMillis() - start);
+        }
+    }
+
+    private boolean rollUpSerialized(String executionId) {
+        synchronized (rollUpLock) {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return dailyStatsRollup.rollUp(executionId);
+                } catch (DuplicateKeyException e) {
+                    // 다른 인스턴스가 같은 날짜 / 클래스 집계 행을 먼저 INSERT (MERGE 의 SQL0803N)
+                    // 트랜잭션 전체가 롤백됐으므로 다시 하면 그 행에 MATCHED 로 더해진다
+                    if (attempt >= MAX_ROLL_UP_ATTEMPTS) {
+                        throw e;
+                    }
+                    log.debug("Concurrent daily stats insert while rolling up {}, retrying ({}/{})",
+                            executionId, attempt, MAX_ROLL_UP_ATTEMPTS);
+                }
+            }
+        }
+    }
+}
@@ -1,7 +1,15 @@
 package testauto.service;
 
 import testauto.dto.TreeNodeDto;
+import testauto.dto.TreePageDto;
 
 public interface TestTreeService {
     TreeNodeDto buildTree();
+
+    /**
+     * 패키지 직속 자식을 페이지 단위로 조회 (자식의 children 은 비워서 반환)
+     *
+     * @param path 패키지 풀 네임, null 이면 루트 패키지
+     */
+    TreePageDto getChildren(String path, int offset, int limit);
 }
@@ -1,96 +1,259 @@
 package testauto.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import testauto.domain.TestNode;
+import testauto.domain.TestStatus;
 import testauto.dto.TreeNodeDto;
-import testauto.repository.TestNodeRepository;
+import testauto.dto.TreePageDto;
+import testauto.repository.TestCatalogCache;
+import testauto.repository.TestCatalogSnapshot;
+import testauto.repository.TestLastStatusCache;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * 카탈로그 스냅샷으로 패키지 트리 생성
+ * - 패키지 세그먼트를 해시 트라이에 한 번에 쌓아 올린 뒤 DTO 로 변환 (자식 탐색이 O(1))
+ * - 변환하면서 패키지/클래스별 테스트 수와 마지막 실행 성공/실패 수를 함께 집계
+ * - 만든 트리는 스냅샷/결과 캐시 버전이 바뀔 때까지 재사용 (단계별 조회도 같은 트리에서 잘라서 반환)
+ */
 @Service
 @RequiredArgsConstructor
 public class TestTreeServiceImpl implements TestTreeService {
 
     private final String ENGINE_ROOT_ID = "[engine:junit-jupiter]";
-    private final String BASE_PACKAGE = "testauto.testcode";
-    private final String BASE_PACKAGE_LEAF = "testcode";
+    private static final int MAX_PAGE_SIZE = 500;
 
-    private final TestNodeRepository testNodeRepository;
+    private final TestCatalogCache catalogCache;
+    private final TestLastStatusCache lastStatusCache;
+
+    @Value("${testcode.root-package}")
+    private String rootPackage;
+
+    private final AtomicReference<TreeIndex> currentIndex = new AtomicReference<>();
 
     @Override
     public TreeNodeDto buildTree() {
-        List<TestNode> directChildren = testNodeRepository.findByParentId(ENGINE_ROOT_ID);
-
-        List<TestNode> classNodes = new ArrayList<>();
-        for (TestNode node : directChildren) {
-            if (!node.getType().equals("CONTAINER")) continue;
-            if (node.getClassName() == null) continue;
-            if (!node.getClassName().startsWith(BASE_PACKAGE)) continue;
+        return index().root();
+    }
 
-            classNodes.add(node);
+    @Override
+    public TreePageDto getChildren(String path, int offset, int limit) {
+        TreeIndex index = index();
+        String key = (path == null || path.isBlank()) ? rootPackage : path;
+        TreeNodeDto parent = index.packages().get(key);
+        if (parent == null) {
+            throw new IllegalArgumentException("Unknown package: " + key);
         }
 
-        TreeNodeDto root = TreeNodeDto.builder()
-                .name(BASE_PACKAGE_LEAF)
-                .type(TreeNodeDto.NodeType.PACKAGE)
+        List<TreeNodeDto> children = index.shallowChildren().get(key);
+        int from = Math.min(Math.max(offset, 0), children.size());
+        int to = Math.min(from + Math.min(Math.max(limit, 0), MAX_PAGE_SIZE), children.size());
+        return TreePageDto.builder()
+                .name(parent.getName())
+                .path(key)
+                .offset(from)
+                .limit(to - from)
+                .total(children.size())
+                .children(children.subList(from, to))
                 .build();
+    }
 
-        for (TestNode classNode : classNodes) {
-            addClassToTree(root, classNode);
+    private TreeIndex index() {
+        TestCatalogSnapshot snapshot = catalogCache.snapshot();
+        long statusVersion = lastStatusCache.version();
+        TreeIndex index = currentIndex.get();
+        if (index == null || index.snapshot() != snapshot || index.statusVersion() != statusVersion) {
+            index = TreeIndex.of(snapshot, statusVersion, build(snapshot));
+            currentIndex.set(index);
         }
-        return root;
+        return index;
     }
 
-    private void addClassToTree(TreeNodeDto root, TestNode classNode) {
+    private TreeNodeDto build(TestCatalogSnapshot snapshot) {
+        String prefix = rootPackage + ".";
+
+        TrieNode root = new TrieNode(rootPackage.substring(rootPackage.lastIndexOf('.') + 1), rootPackage, null);
+        for (TestNode node : snapshot.findByParentId(ENGINE_ROOT_ID)) {
+            if (!node.getType().equals("CONTAINER")) continue;
+            if (node.getClassName() == null) continue;
+            if (!node.getClassName().startsWith(prefix)) continue;
+
+            addClass(root, node, prefix.length(), snapshot);
+        }
+        return root.toDto();
+    }
+
+    /**
+     * 루트 패키지 이후 세그먼트를 따라 내려가며 패키지 노드를 만들고 클래스를 매단다
+     */
+    private void addClass(TrieNode root, TestNode classNode, int offset, TestCatalogSnapshot snapshot) {
         String className = classNode.getClassName();
+        TrieNode current = root;
 
-        String[] tokens = className.split("\\.");
+        int start = offset;
+        int dot;
+        while ((dot = className.indexOf('.', start)) != -1) {
+            current = current.packageChild(className.substring(start, dot), className.substring(0, dot));
+            start = dot + 1;
+        }
+
+        TrieNode classTrie = new TrieNode(className.substring(start), null, classNode);
+        countTests(classTrie, classNode.getUniqueId(), snapshot);
+        current.children.add(classTrie);
+    }
 
-        int startIndex = -1;
-        for (int i = 0; i < tokens.length; i++) {
-            if (BASE_PACKAGE_LEAF.equals(tokens[i])) {
-                startIndex = i;
-                break;
+    /**
+     * 클래스 하위 (nested class 포함) 테스트 수와 마지막 결과 집계
+     * - 파라미터/다이나믹 테스트는 실행 전에는 호출 단위가 없으므로 템플릿 컨테이너 하나를 테스트 하나로 센다
+     */
+    private void countTests(TrieNode classTrie, String classUniqueId, TestCatalogSnapshot snapshot) {
+        Deque<String> pending = new ArrayDeque<>();
+        pending.push(classUniqueId);
+        while (!pending.isEmpty()) {
+            for (TestNode child : snapshot.findByParentId(pending.pop())) {
+                if (isCountedTest(child)) {
+                    classTrie.testCount++;
+                    TestStatus status = lastStatusCache.statusOf(child.getUniqueId());
+                    if (status == TestStatus.SUCCESS) {
+                        classTrie.passedCount++;
+                    } else if (status == TestStatus.FAILED) {
+                        classTrie.failedCount++;
+                    }
+                } else {
+                    pending.push(child.getUniqueId());
+                }
             }
         }
-        if (startIndex == -1 || startIndex >= tokens.length - 1) {
-            return;
+    }
+
+    private boolean isCountedTest(TestNode node) {
+        if ("TEST".equals(node.getType())) {
+            return true;
         }
-        TreeNodeDto current = root;
-
-        for (int i = startIndex + 1; i < tokens.length - 1; i++) {
-            String segment = tokens[i];
-            TreeNodeDto next = null;
-            for (TreeNodeDto child : current.getChildren()) {
-                if ("PACKAGE".equals(child.getType()) && segment.equals(child.getName())) {
-                    next = child;
-                    break;
-                }
+        String uniqueId = node.getUniqueId();
+        return uniqueId.endsWith(")]")
+                && (uniqueId.contains("/[test-template:") || uniqueId.contains("/[test-factory:"));
+    }
+
+    /**
+     * 트리 구성용 가변 노드 - 패키지는 이름으로 해시 조회, 자식 순서는 추가된 순서 유지
+     */
+    private static final class TrieNode {
+        private final String name;
+        private final String path;          // 클래스면 null
+        private final TestNode classNode;   // 패키지면 null
+        private final List<TrieNode> children = new ArrayList<>();
+        private Map<String, TrieNode> packages;
+        private int testCount;
+        private int passedCount;
+        private int failedCount;
+
+        private TrieNode(String name, String path, TestNode classNode) {
+            this.name = name;
+            this.path = path;
+            this.classNode = classNode;
+        }
+
+        private TrieNode packageChild(String segment, String childPath) {
+            if (packages == null) {
+                packages = new HashMap<>();
             }
+            TrieNode child = packages.get(segment);
+            if (child == null) {
+                child = new TrieNode(segment, childPath, null);
+                packages.put(segment, child);
+                children.add(child);
+            }
+            return child;
+        }
 
-            if (next == null) {
-                next = TreeNodeDto.builder()
-                        .name(segment)
-                        .type(TreeNodeDto.NodeType.PACKAGE)
-                        .build();
-                current.getChildren().add(next);
+        /**
+         * 후위 순회로 DTO 변환 - 패키지 집계는 자식 집계의 합
+         */
+        private TreeNodeDto toDto() {
+            List<TreeNodeDto> childDtos = new ArrayList<>(children.size());
+            for (TrieNode child : children) {
+                TreeNodeDto dto = child.toDto();
+                if (classNode == null) {
+                    testCount += dto.getTestCount();
+                    passedCount += dto.getPassedCount();
+                    failedCount += dto.getFailedCount();
+                }
+                childDtos.add(dto);
             }
 
-            current = next;
+            TreeNodeDto.TreeNodeDtoBuilder builder = TreeNodeDto.builder()
+                    .name(name)
+                    .testCount(testCount)
+                    .passedCount(passedCount)
+                    .failedCount(failedCount)
+                    .children(childDtos);
+            if (classNode == null) {
+                return builder.type(TreeNodeDto.NodeType.PACKAGE).path(path).build();
+            }
+            return builder.type(TreeNodeDto.NodeType.CLASS)
+                    .uniqueId(classNode.getUniqueId())
+                    .parentUniqueId(classNode.getParentUniqueId())
+                    .className(classNode.getClassName())
+                    .build();
         }
+    }
 
-        String simpleClassName = tokens[tokens.length - 1];
-
-        TreeNodeDto classDto = TreeNodeDto.builder()
-                .name(simpleClassName)
-                .type(TreeNodeDto.NodeType.CLASS)
-                .uniqueId(classNode.getUniqueId())
-                .parentUniqueId(classNode.getParentUniqueId())
-                .className(classNode.getClassName())
-                .build();
+    /**
+     * 완성된 트리 + 패키지별 조회 인덱스
+     *
+     * @param packages        패키지 풀 네임 -> 노드
+     * @param shallowChildren 패키지 풀 네임 -> 직속 자식 (children 을 뺀 사본)
+     */
+    private record TreeIndex(
+            TestCatalogSnapshot snapshot,
+            long statusVersion,
+            TreeNodeDto root,
+            Map<String, TreeNodeDto> packages,
+            Map<String, List<TreeNodeDto>> shallowChildren
+    ) {
+        private static TreeIndex of(TestCatalogSnapshot snapshot, long statusVersion, TreeNodeDto root) {
+            Map<String, TreeNodeDto> packages = new HashMap<>();
+            Map<String, List<TreeNodeDto>> shallowChildren = new HashMap<>();
+            Deque<TreeNodeDto> pending = new ArrayDeque<>();
+            pending.push(root);
+            while (!pending.isEmpty()) {
+                TreeNodeDto node = pending.pop();
+                List<TreeNodeDto> shallow = new ArrayList<>(node.getChildren().size());
+                for (TreeNodeDto child : node.getChildren()) {
+                    shallow.add(shallowCopy(child));
+                    if (child.getPath() != null) {
+                        pending.push(child);
+                    }
+                }
+                packages.put(node.getPath(), node);
+                shallowChildren.put(node.getPath(), List.copyOf(shallow));
+            }
+            return new TreeIndex(snapshot, statusVersion, root, packages, shallowChildren);
+        }
 
-        current.getChildren().add(classDto);
+        private static TreeNodeDto shallowCopy(TreeNodeDto node) {
+            return TreeNodeDto.builder()
+                    .name(node.getName())
+                    .path(node.getPath())
+                    .uniqueId(node.getUniqueId())
+                    .parentUniqueId(node.getParentUniqueId())
+                    .className(node.getClassName())
+                    .type(TreeNodeDto.NodeType.valueOf(node.getType()))
+                    .testCount(node.getTestCount())
+                    .passedCount(node.getPassedCount())
+                    .failedCount(node.getFailedCount())
+                    .childCount(node.getChildCount())
+                    .build();
+        }
     }
 }
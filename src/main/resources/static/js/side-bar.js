@@ -6,7 +6,10 @@ document.addEventListener('DOMContentLoaded', () => {
     let selectedExecutionId = null;
     let dashboardCache = null;
     let dashboardPollingInterval = null;
+    let dashboardEtag = null; // 마지막으로 받은 대시보드 스냅샷 ETag (같으면 304)
+    let eventStreamConnected = false; // SSE 연결 중이면 폴링하지 않는다
     let selectedClassForSummary = null;
+    let selectedTreeClass = null;
 
     const runButton = document.getElementById('runButton');
     const refreshButton = document.getElementById('refreshButton');
@@ -24,6 +27,7 @@ document.addEventListener('DOMContentLoaded', () => {
 
     // 초기 대시보드 로드
     loadDashboard();
+    connectEventStream();
 
     /* ===== 헤더 네비게이션 ===== */
     const headerNavButtons = document.querySelectorAll('.header-nav-button');
@@ -63,8 +67,7 @@ document.addEventListener('DOMContentLoaded', () => {
         }
 
         // 현재 선택된 클래스 확인
-        const selectedNode = document.querySelector('.class-node.selected');
-        const selectedClassName = selectedNode ? selectedNode.dataset.class : null;
+        const selectedClassName = selectedTreeClass;
 
         // test-results 뷰로 전환시
         if (viewName === 'test-results') {
@@ -93,11 +96,7 @@ document.addEventListener('DOMContentLoaded', () => {
     /* ===== 대시보드 로드 ===== */
     async function loadDashboard() {
         try {
-            const response = await fetch('/api/tests/dashboard', {
-                cache: 'no-store'
-            });
-            const data = await response.json();
-            dashboardCache = data;
+            const data = await fetchDashboard();
             renderDashboard(data);
         } catch (error) {
             console.error('Failed to load dashboard:', error);
@@ -110,6 +109,19 @@ document.addEventListener('DOMContentLoaded', () => {
         }
     }
 
+    // 스냅샷이 바뀌지 않았으면 (304) 캐시된 데이터를 그대로 반환
+    async function fetchDashboard() {
+        const headers = dashboardCache && dashboardEtag ? { 'If-None-Match': dashboardEtag } : {};
+        const response = await fetch('/api/tests/dashboard', { cache: 'no-store', headers });
+        if (response.status === 304) {
+            return dashboardCache;
+        }
+        if (!response.ok) throw new Error(`HTTP ${response.status}`);
+        dashboardEtag = response.headers.get('ETag');
+        dashboardCache = await response.json();
+        return dashboardCache;
+    }
+
     function renderDashboard(data) {
         const { todayStats, recentExecutions, totalTestClasses } = data;
         const successRate = todayStats.successRate.toFixed(1);
@@ -125,21 +137,14 @@ document.addEventListener('DOMContentLoaded', () => {
                 const dateStr = exec.startedAt ? formatDateTime(exec.startedAt) : '-';
                 const requesterName = exec.requesterName || exec.requesterIp || '-';
 
-                // 클래스명 포맷팅
-                const classNames = exec.classNames ? exec.classNames.split(',').filter(c => c.trim()) : [];
-                let classText = '-';
-                if (classNames.length === 1) {
-                    classText = classNames[0].split('.').pop();
-                } else if (classNames.length > 1) {
-                    classText = `${classNames[0].split('.').pop()} 외 ${classNames.length - 1}개`;
-                }
+                const { classText, classTitle } = formatExecutionClasses(exec);
 
                 const durationStr = formatDuration(exec.totalDurationMillis);
 
                 return `
                     <div class="recent-exec-item ${statusClass}" onclick="selectExecution('${exec.executionId}'); switchView('test-results');">
                         <div class="recent-exec-status ${statusClass}">${statusText}</div>
-                        <div class="recent-exec-class" title="${escapeHtml(exec.classNames || '')}">${escapeHtml(classText)}</div>
+                        <div class="recent-exec-class" title="${escapeHtml(classTitle)}">${escapeHtml(classText)}</div>
                         <div class="recent-exec-totals">${exec.totalTests}</div>
                         <div class="recent-exec-successes">${exec.successCount}</div>
                         <div class="recent-exec-failures">${exec.failedCount}</div>
@@ -352,13 +357,16 @@ document.addEventListener('DOMContentLoaded', () => {
         });
     }
 
-    // Dashboard 자동 업데이트 (RUNNING 상태 감지)
+    // Dashboard 자동 업데이트 (RUNNING 상태 감지) - SSE 를 쓸 수 없을 때만
     function startDashboardPollingIfNeeded(recentExecutions) {
         // 기존 폴링 중지
         if (dashboardPollingInterval) {
             clearInterval(dashboardPollingInterval);
             dashboardPollingInterval = null;
         }
+        if (eventStreamConnected) {
+            return;
+        }
 
         // RUNNING 상태가 있는지 확인
         const hasRunning = recentExecutions && recentExecutions.some(exec => exec.status === 'RUNNING');
@@ -373,10 +381,11 @@ document.addEventListener('DOMContentLoaded', () => {
                 }
 
                 try {
-                    const response = await fetch('/api/tests/dashboard');
-                    const data = await response.json();
-                    dashboardCache = data;
-                    renderDashboard(data);
+                    const previous = dashboardCache;
+                    const data = await fetchDashboard();
+                    if (data !== previous) {
+                        renderDashboard(data);
+                    }
                 } catch (error) {
                     console.error('Failed to poll dashboard:', error);
                 }
@@ -384,6 +393,121 @@ document.addEventListener('DOMContentLoaded', () => {
         }
     }
 
+    /* ===== 실시간 이벤트 (SSE) ===== */
+    // 실행 / 테스트 진행 / 대시보드 변경을 /api/tests/events 로 받는다
+    // 끊기면 브라우저가 Last-Event-ID 로 재연결해서 놓친 이벤트를 다시 받는다
+    const runningTestCounts = new Map(); // executionId -> 끝난 테스트 수
+    let dashboardRefreshTimer = null;
+    let executionDetailRefreshTimer = null;
+
+    function connectEventStream() {
+        if (!window.EventSource) return;
+
+        const source = new EventSource('/api/tests/events');
+        source.onopen = () => {
+            eventStreamConnected = true;
+            startDashboardPollingIfNeeded(null);
+        };
+        source.addEventListener('execution', e => onExecutionEvent(JSON.parse(e.data)));
+        source.addEventListener('test', e => onTestEvent(JSON.parse(e.data)));
+        source.addEventListener('dashboard', () => scheduleDashboardRefresh());
+        source.addEventListener('reset', () => {
+            // 놓친 이벤트를 이어 받을 수 없음 (버퍼 초과 / 서버 재기동) - 화면 데이터 전체 재조회
+            runningTestCounts.clear();
+            scheduleDashboardRefresh();
+            if (currentView === 'test-results' && executionListCache) {
+                loadTestResults();
+            } else {
+                executionListCache = null;
+            }
+        });
+        source.onerror = () => {
+            eventStreamConnected = false;
+            // 재연결을 포기한 경우에만 폴링으로 전환
+            if (source.readyState === EventSource.CLOSED) {
+                startDashboardPollingIfNeeded(dashboardCache ? dashboardCache.recentExecutions : null);
+            }
+        };
+    }
+
+    function onExecutionEvent({ type, execution }) {
+        const executionId = execution.executionId;
+        if (type === 'FINISHED') {
+            runningTestCounts.delete(executionId);
+        }
+
+        const index = executionListCache ? executionListCache.findIndex(e => e.executionId === executionId) : -1;
+        if (index >= 0) {
+            const previous = executionListCache[index];
+            const merged = { ...previous, ...execution, requesterName: execution.requesterName || previous.requesterName };
+            executionListCache[index] = merged;
+            replaceExecutionItem(merged);
+        }
+
+        if (executionId === selectedExecutionId && currentView === 'test-results') {
+            scheduleExecutionDetailRefresh(type === 'FINISHED');
+        }
+    }
+
+    function onTestEvent(event) {
+        const count = (runningTestCounts.get(event.executionId) || 0) + 1;
+        runningTestCounts.set(event.executionId, count);
+
+        const statusText = document.querySelector(
+            `.execution-item[data-execution-id="${event.executionId}"] .execution-item-status-text`);
+        if (statusText) {
+            statusText.textContent = `수행중... ${count}`;
+        }
+    }
+
+    function replaceExecutionItem(exec) {
+        const item = document.querySelector(`.execution-item[data-execution-id="${exec.executionId}"]`);
+        if (!item) return;
+        const selected = item.classList.contains('selected');
+        item.insertAdjacentHTML('afterend', renderExecutionItem(exec));
+        const replaced = item.nextElementSibling;
+        item.remove();
+        if (selected) {
+            replaced.classList.add('selected');
+        }
+    }
+
+    // 연달아 오는 변경은 한 번의 조건부 조회로 묶는다
+    function scheduleDashboardRefresh() {
+        if (currentView !== 'dashboard') {
+            // 다음에 대시보드로 전환할 때 다시 조회
+            dashboardCache = null;
+            return;
+        }
+        if (dashboardRefreshTimer) return;
+        dashboardRefreshTimer = setTimeout(async () => {
+            dashboardRefreshTimer = null;
+            try {
+                const previous = dashboardCache;
+                const data = await fetchDashboard();
+                if (data !== previous) {
+                    renderDashboard(data);
+                }
+            } catch (error) {
+                console.error('Failed to refresh dashboard:', error);
+            }
+        }, 500);
+    }
+
+    // 선택된 실행의 결과는 진행 중이면 2초에 한 번, 끝나면 바로 다시 조회
+    function scheduleExecutionDetailRefresh(immediate) {
+        if (executionDetailRefreshTimer) {
+            if (!immediate) return;
+            clearTimeout(executionDetailRefreshTimer);
+        }
+        executionDetailRefreshTimer = setTimeout(() => {
+            executionDetailRefreshTimer = null;
+            if (selectedExecutionId) {
+                selectExecution(selectedExecutionId, true);
+            }
+        }, immediate ? 0 : 2000);
+    }
+
     // 네비게이션 버튼 클릭 이벤트
     headerNavButtons.forEach(btn => {
         btn.addEventListener('click', () => {
@@ -391,48 +515,223 @@ document.addEventListener('DOMContentLoaded', () => {
         });
     });
 
-    /* ===== 접기/펼치기 (하위 노드) ===== */
-    document.querySelectorAll('.tree-node').forEach(nodeEl => {
-        const hasChildren = nodeEl.dataset.hasChildren === 'true';
-        if (!hasChildren) {
+    /* ===== 테스트 트리 (단계별 조회 + 가상 스크롤) ===== */
+    // 펼친 패키지만 /api/tests/tree/children 로 가져오고, 화면에 보이는 행만 DOM 으로 그린다
+    const TREE_ROW_HEIGHT = 26;
+    const TREE_PAGE_SIZE = 200;
+    const TREE_OVERSCAN = 10;
+
+    const treeViewport = document.getElementById('tree-viewport');
+    const treeSpacer = document.getElementById('tree-spacer');
+    const treeRowsEl = document.getElementById('tree-rows');
+
+    const packageStates = new Map();   // path -> { children, total, loading }
+    const expandedPaths = new Set();
+    let treeRootPath = null;
+    let treeRows = [];                 // 펼침 상태 기준으로 평탄화한 행 목록
+    let searchRows = null;             // 검색 중이면 검색 결과 행
+    let treeRenderScheduled = false;
+
+    async function loadTreeChildren(path) {
+        const state = packageStates.get(path) || { children: [], total: null, loading: false };
+        if (state.loading || (state.total !== null && state.children.length >= state.total)) {
             return;
         }
+        state.loading = true;
+        state.error = false;
+        packageStates.set(path, state);
 
-        nodeEl.addEventListener('click', (e) => {
-            if (e.target.classList.contains('class-checkbox')) {
-                return;
+        try {
+            const params = new URLSearchParams({ offset: state.children.length, limit: TREE_PAGE_SIZE });
+            if (path) params.set('path', path);
+            const response = await fetch(`/api/tests/tree/children?${params}`);
+            const page = await response.json();
+
+            if (path === null) {
+                treeRootPath = page.path;
+                packageStates.delete(null);
+                packageStates.set(page.path, state);
             }
+            state.children.push(...page.children);
+            state.total = page.total;
+        } catch (error) {
+            console.error('Failed to load tree children:', error);
+            state.error = true;
+        } finally {
+            state.loading = false;
+            flattenTree();
+        }
+    }
 
-            const li = nodeEl.parentElement;
-            const children = li.querySelector(':scope > .tree-children');
-            if (!children) return;
+    function flattenTree() {
+        const rows = [];
+        const visit = (path, depth) => {
+            const state = packageStates.get(path);
+            if (!state || state.total === null) {
+                rows.push({ pending: path, depth });
+                return;
+            }
+            for (const node of state.children) {
+                rows.push({ node, depth });
+                if (node.type === 'PACKAGE' && expandedPaths.has(node.path)) {
+                    visit(node.path, depth + 1);
+                }
+            }
+            if (state.children.length < state.total) {
+                rows.push({ pending: path, depth });
+            }
+        };
+        if (treeRootPath !== null) {
+            visit(treeRootPath, 0);
+        }
+        treeRows = rows;
+        renderTreeRows();
+    }
 
-            const isHidden = children.style.display === 'none';
-            children.style.display = isHidden ? 'block' : 'none';
+    function currentTreeRows() {
+        return searchRows || treeRows;
+    }
 
-            const toggle = nodeEl.querySelector('.tree-node-toggle');
-            if (toggle) {
-                toggle.textContent = isHidden ? '▼' : '▶';
+    function renderTreeRows() {
+        const rows = currentTreeRows();
+        treeSpacer.style.height = `${rows.length * TREE_ROW_HEIGHT}px`;
+
+        const start = Math.max(0, Math.floor(treeViewport.scrollTop / TREE_ROW_HEIGHT) - TREE_OVERSCAN);
+        const end = Math.min(rows.length,
+            Math.ceil((treeViewport.scrollTop + treeViewport.clientHeight) / TREE_ROW_HEIGHT) + TREE_OVERSCAN);
+
+        let html = '';
+        for (let i = start; i < end; i++) {
+            html += renderTreeRow(rows[i], i);
+            // 아직 못 가져온 페이지가 화면에 들어오면 이어서 조회
+            const pendingState = packageStates.get(rows[i].pending);
+            if (rows[i].pending !== undefined && !searchRows && !(pendingState && pendingState.error)) {
+                loadTreeChildren(rows[i].pending);
             }
+        }
+        treeRowsEl.style.transform = `translateY(${start * TREE_ROW_HEIGHT}px)`;
+        treeRowsEl.innerHTML = html;
+    }
+
+    function scheduleTreeRender() {
+        if (treeRenderScheduled) return;
+        treeRenderScheduled = true;
+        requestAnimationFrame(() => {
+            treeRenderScheduled = false;
+            renderTreeRows();
         });
-    });
+    }
 
-    /* ===== 체크박스 이벤트 ===== */
-    document.querySelectorAll('.class-checkbox').forEach(checkbox => {
-        checkbox.addEventListener('change', function(e) {
+    function renderTreeRow(row, index) {
+        const indent = `padding-left: ${6 + row.depth * 16}px`;
+        if (row.pending !== undefined) {
+            const state = packageStates.get(row.pending);
+            const text = state && state.error ? 'Failed to load' : 'Loading...';
+            return `<div class="tree-node tree-node-pending" style="${indent}">${text}</div>`;
+        }
+
+        const node = row.node;
+        const isClass = node.type === 'CLASS';
+        const hasChildren = !isClass && node.childCount > 0;
+        const expanded = hasChildren && expandedPaths.has(node.path);
+
+        let classes = 'tree-node';
+        if (isClass) {
+            classes += ' is-class class-node';
+            if (node.className === selectedTreeClass) classes += ' selected';
+        } else {
+            classes += hasChildren ? ' is-package' : ' is-leaf';
+        }
+
+        const checkbox = isClass
+            ? `<input type="checkbox" class="class-checkbox" data-class="${escapeHtml(node.className)}"${selectedClasses.has(node.className) ? ' checked' : ''}>`
+            : '';
+        const icon = isClass
+            ? '<img src="/icons/class-dark.svg" alt="C" title="Test Class">'
+            : (hasChildren ? '<img src="/icons/folder-dark.svg" alt="📁" title="Package">' : '');
+
+        let badge = '';
+        if (node.testCount > 0) {
+            const badgeClass = node.failedCount > 0 ? ' has-failed'
+                : (node.passedCount === node.testCount ? ' all-passed' : '');
+            const badgeText = node.failedCount > 0 ? `${node.failedCount}/${node.testCount}` : `${node.testCount}`;
+            badge = `<span class="tree-node-count${badgeClass}"
+                           title="테스트 ${node.testCount} · 성공 ${node.passedCount} · 실패 ${node.failedCount}">${badgeText}</span>`;
+        }
+
+        return `
+            <div class="${classes}" style="${indent}" data-index="${index}"${isClass ? ` data-class="${escapeHtml(node.className)}"` : ''}>
+                ${checkbox}
+                <span class="tree-node-toggle">${hasChildren ? (expanded ? '▼' : '▶') : ''}</span>
+                <span class="tree-node-icon">${icon}</span>
+                <span class="tree-node-label" title="${escapeHtml(isClass ? node.className : node.path)}">${escapeHtml(node.name)}</span>
+                ${badge}
+            </div>
+        `;
+    }
+
+    treeViewport.addEventListener('scroll', scheduleTreeRender);
+    window.addEventListener('resize', scheduleTreeRender);
+
+    /* ===== 접기/펼치기, 클래스 선택 (이벤트 위임) ===== */
+    treeRowsEl.addEventListener('click', function(e) {
+        if (e.target.classList.contains('class-checkbox')) {
             e.stopPropagation();
-            const className = this.dataset.class || this.closest('.class-node').dataset.class;
-            if (this.checked) {
-                selectedClasses.add(className);
+            return;
+        }
+        const nodeEl = e.target.closest('.tree-node[data-index]');
+        if (!nodeEl) return;
+
+        const row = currentTreeRows()[Number(nodeEl.dataset.index)];
+        if (!row || !row.node) return;
+        const node = row.node;
+
+        if (node.type === 'PACKAGE') {
+            if (node.childCount === 0) return;
+            if (expandedPaths.has(node.path)) {
+                expandedPaths.delete(node.path);
             } else {
-                selectedClasses.delete(className);
+                expandedPaths.add(node.path);
+                if (!packageStates.has(node.path)) {
+                    loadTreeChildren(node.path);
+                }
             }
-            updateRunButton();
-        });
+            flattenTree();
+            return;
+        }
 
-        checkbox.addEventListener('click', function(e) {
-            e.stopPropagation();
-        });
+        const className = node.className;
+        if (selectedTreeClass === className) {
+            // 이미 선택된 걸 다시 클릭 → 선택 해제
+            selectedTreeClass = null;
+            renderTreeRows();
+            if (currentView === 'dashboard') {
+                clearTestSummary();
+            } else {
+                clearTestInfo();
+            }
+        } else {
+            // 새로 선택
+            selectedTreeClass = className;
+            renderTreeRows();
+            if (currentView === 'dashboard') {
+                showTestSummary(className);
+            } else {
+                showClassDetail(className);
+            }
+        }
+    });
+
+    /* ===== 체크박스 이벤트 ===== */
+    treeRowsEl.addEventListener('change', function(e) {
+        if (!e.target.classList.contains('class-checkbox')) return;
+        const className = e.target.dataset.class;
+        if (e.target.checked) {
+            selectedClasses.add(className);
+        } else {
+            selectedClasses.delete(className);
+        }
+        updateRunButton();
     });
 
     function updateRunButton() {
@@ -442,37 +741,7 @@ document.addEventListener('DOMContentLoaded', () => {
             : 'Run Selected Tests';
     }
 
-    /* ===== 클래스 클릭 이벤트 ===== */
-    document.querySelectorAll('.class-node').forEach(node => {
-        node.addEventListener('click', function(e) {
-            if (e.target.type === 'checkbox') return;
-
-            const isAlreadySelected = this.classList.contains('selected');
-            const className = this.dataset.class;
-
-            // 모든 선택 해제
-            document.querySelectorAll('.class-node').forEach(n => n.classList.remove('selected'));
-
-            if (isAlreadySelected) {
-                // 이미 선택된 걸 다시 클릭 → 선택 해제
-                if (currentView === 'dashboard') {
-                    clearTestSummary();
-                } else {
-                    clearTestInfo();
-                }
-            } else {
-                // 새로 선택
-                this.classList.add('selected');
-                if (className) {
-                    if (currentView === 'dashboard') {
-                        showTestSummary(className);
-                    } else {
-                        showClassDetail(className);
-                    }
-                }
-            }
-        });
-    });
+    loadTreeChildren(null);
 
     /* ===== 클래스명으로 Results 필터링 ===== */
     async function filterByClassName(className) {
@@ -482,18 +751,14 @@ document.addEventListener('DOMContentLoaded', () => {
         filterState.ip = '';
         filterState.status = '';
 
-        if (!executionListCache) {
-            await loadTestResults();
-        } else {
-            renderExecutionListView(executionListCache);
-        }
+        await loadTestResults();
     }
 
     /* ===== 클래스명 필터 초기화 ===== */
     async function clearClassNameFilter() {
         filterState.className = '';
         if (executionListCache) {
-            renderExecutionListView(executionListCache);
+            await loadTestResults();
         }
     }
 
@@ -648,9 +913,7 @@ document.addEventListener('DOMContentLoaded', () => {
     /* ===== 선택 초기화 ===== */
     function clearSelection() {
         selectedClasses.clear();
-        document.querySelectorAll('.class-checkbox').forEach(cb => {
-            cb.checked = false;
-        });
+        renderTreeRows();
         updateRunButton();
     }
 
@@ -792,7 +1055,7 @@ document.addEventListener('DOMContentLoaded', () => {
                     executionId: result.executionId,
                     startedAt: new Date().toISOString(),
                     status: 'RUNNING',
-                    classNames: classNames.join(','),
+                    classes: classNames.map(className => ({ className, status: 'RUNNING' })),
                     totalTests: 0,
                     successCount: 0,
                     failedCount: 0,
@@ -835,11 +1098,11 @@ document.addEventListener('DOMContentLoaded', () => {
                 filterState.dateTo = dates.today;
             }
 
-            const response = await fetch('/api/tests/executions?limit=50');
-            const executions = await response.json();
-            executionListCache = executions;
+            const page = await fetchExecutionPage(null);
+            executionListCache = page.items;
+            executionNextCursor = page.nextCursor;
 
-            renderExecutionListView(executions);
+            renderExecutionListView(executionListCache);
         } catch (error) {
             console.error('Failed to load execution list:', error);
             testResultsContent.innerHTML = `
@@ -851,6 +1114,53 @@ document.addEventListener('DOMContentLoaded', () => {
         }
     }
 
+    // 필터는 서버에서 적용하고, 목록은 키셋 커서로 이어서 받는다
+    const EXECUTION_PAGE_SIZE = 50;
+    let executionNextCursor = null;
+
+    async function fetchExecutionPage(cursor) {
+        const params = new URLSearchParams({ limit: EXECUTION_PAGE_SIZE });
+        if (cursor) params.set('cursor', cursor);
+        if (filterState.dateFrom) params.set('from', filterState.dateFrom);
+        if (filterState.dateTo) params.set('to', filterState.dateTo);
+        if (filterState.requesterName) params.set('requester', filterState.requesterName);
+        if (filterState.className) params.set('className', filterState.className);
+        if (filterState.status) params.set('status', filterState.status);
+
+        const response = await fetch(`/api/tests/executions?${params}`);
+        if (!response.ok) throw new Error(`HTTP ${response.status}`);
+        return response.json();
+    }
+
+    async function loadMoreExecutions(button) {
+        if (!executionNextCursor) return;
+        button.disabled = true;
+        try {
+            const page = await fetchExecutionPage(executionNextCursor);
+            executionListCache = [...(executionListCache || []), ...page.items];
+            executionNextCursor = page.nextCursor;
+
+            const list = document.getElementById('executionList');
+            button.remove();
+            list.insertAdjacentHTML('beforeend', page.items.map(exec => renderExecutionItem(exec)).join('') + renderLoadMoreButton());
+            updateExecutionCount();
+        } catch (error) {
+            console.error('Failed to load more executions:', error);
+            button.disabled = false;
+        }
+    }
+
+    function renderLoadMoreButton() {
+        return executionNextCursor
+            ? '<button class="execution-load-more-btn" id="executionLoadMoreBtn">더 보기</button>'
+            : '';
+    }
+
+    function updateExecutionCount() {
+        const count = document.getElementById('executionCount');
+        if (count) count.textContent = `History (${executionListCache.length}${executionNextCursor ? '+' : ''})`;
+    }
+
     // 필터 상태
     let filterState = {
         dateFrom: '',
@@ -889,10 +1199,8 @@ document.addEventListener('DOMContentLoaded', () => {
     }
 
     function renderExecutionListView(executions) {
-        const filteredExecutions = applyFilters(executions);
-
-        const listItemsHtml = filteredExecutions.length > 0
-            ? filteredExecutions.map(exec => renderExecutionItem(exec)).join('')
+        const listItemsHtml = executions.length > 0
+            ? executions.map(exec => renderExecutionItem(exec)).join('') + renderLoadMoreButton()
             : `<div class="execution-list-empty">
                    <div class="execution-list-empty-icon">📋</div>
                    <p>No test executions found</p>
@@ -913,11 +1221,11 @@ document.addEventListener('DOMContentLoaded', () => {
                 <div class="filter-row">
                     <div class="filter-group">
                         <label class="filter-label">요청자</label>
-                        <input type="text" class="filter-input" id="filterRequesterName" placeholder="요청자명" value="${filterState.requesterName}">
+                        <input type="text" class="filter-input" id="filterRequesterName" placeholder="요청자명 또는 IP" value="${filterState.requesterName}">
                     </div>
                     <div class="filter-group">
                         <label class="filter-label">클래스명</label>
-                        <input type="text" class="filter-input" id="filterClassName" placeholder="클래스명 검색" value="${filterState.className}">
+                        <input type="text" class="filter-input" id="filterClassName" placeholder="패키지.클래스명 (앞부분)" value="${filterState.className}">
                     </div>
                     <div class="filter-group">
                         <label class="filter-label">상태</label>
@@ -935,7 +1243,7 @@ document.addEventListener('DOMContentLoaded', () => {
             <div class="execution-list-container">
                 <div class="execution-list-panel" id="executionListPanel">
                     <div class="execution-list-header">
-                        <span>History (${filteredExecutions.length})</span>
+                        <span id="executionCount">History (${executions.length}${executionNextCursor ? '+' : ''})</span>
                         <button class="execution-refresh-btn" id="executionRefreshBtn" title="새로고침">↻</button>
                     </div>
                     <div class="execution-list" id="executionList">
@@ -958,17 +1266,22 @@ document.addEventListener('DOMContentLoaded', () => {
         // 필터 이벤트 바인딩
         bindFilterEvents();
 
-        // 실행 항목 클릭 이벤트
-        document.querySelectorAll('.execution-item').forEach(item => {
-            item.addEventListener('click', () => {
-                const executionId = item.dataset.executionId;
-                selectExecution(executionId);
-            });
+        // 실행 항목 클릭 / 더 보기 (이어 붙인 항목도 처리되도록 위임)
+        document.getElementById('executionList').addEventListener('click', (e) => {
+            const loadMore = e.target.closest('#executionLoadMoreBtn');
+            if (loadMore) {
+                loadMoreExecutions(loadMore);
+                return;
+            }
+            const item = e.target.closest('.execution-item');
+            if (item) {
+                selectExecution(item.dataset.executionId);
+            }
         });
 
         // 가장 최근 실행 자동 선택
-        if (filteredExecutions.length > 0) {
-            selectExecution(filteredExecutions[0].executionId);
+        if (executions.length > 0) {
+            selectExecution(executions[0].executionId);
         }
     }
 
@@ -989,7 +1302,7 @@ document.addEventListener('DOMContentLoaded', () => {
             filterState.requesterName = filterRequesterName.value;
             filterState.className = filterClassName.value;
             filterState.status = filterStatus.value;
-            renderExecutionListView(executionListCache);
+            loadTestResults();
         });
 
         // Enter 키로 검색
@@ -1005,7 +1318,7 @@ document.addEventListener('DOMContentLoaded', () => {
         filterClearBtn.addEventListener('click', async () => {
             const dates = await fetchServerDates();
             filterState = { dateFrom: dates.weekAgo, dateTo: dates.today, requesterName: '', className: '', status: '' };
-            renderExecutionListView(executionListCache);
+            loadTestResults();
         });
 
         // 새로고침 버튼
@@ -1054,40 +1367,6 @@ document.addEventListener('DOMContentLoaded', () => {
         }
     }
 
-    function applyFilters(executions) {
-        return executions.filter(exec => {
-            // 날짜 범위 필터
-            const execDate = exec.startedAt ? exec.startedAt.split('T')[0] : '';
-            if (filterState.dateFrom && execDate < filterState.dateFrom) return false;
-            if (filterState.dateTo && execDate > filterState.dateTo) return false;
-
-            // 요청자명 필터
-            if (filterState.requesterName) {
-                const name = exec.requesterName || '';
-                if (!name.toLowerCase().includes(filterState.requesterName.toLowerCase())) return false;
-            }
-
-            // 클래스명 필터
-            if (filterState.className) {
-                const classNames = exec.classNames || '';
-                if (!classNames.toLowerCase().includes(filterState.className.toLowerCase())) return false;
-            }
-
-            // 상태 필터
-            if (filterState.status) {
-                if (filterState.status === 'RUNNING') {
-                    if (exec.status !== 'RUNNING') return false;
-                } else if (filterState.status === 'SUCCESS') {
-                    if (exec.status === 'RUNNING' || exec.failedCount > 0) return false;
-                } else if (filterState.status === 'FAILED') {
-                    if (exec.status === 'RUNNING' || exec.failedCount === 0) return false;
-                }
-            }
-
-            return true;
-        });
-    }
-
     function renderExecutionItem(exec) {
         const isRunning = exec.status === 'RUNNING';
         const statusClass = isRunning ? 'running' :
@@ -1100,33 +1379,44 @@ document.addEventListener('DOMContentLoaded', () => {
         const requesterName = exec.requesterName || exec.requesterIp || '-';
 
         // 클래스명 포맷팅 (예: "ClassA 외 4개")
-        const classNames = exec.classNames ? exec.classNames.split(',').filter(c => c.trim()) : [];
-        let classText = '-';
-        if (classNames.length === 1) {
-            classText = classNames[0].split('.').pop(); // 패키지 제거하고 클래스명만
-        } else if (classNames.length > 1) {
-            const firstName = classNames[0].split('.').pop();
-            classText = `${firstName} 외 ${classNames.length - 1}개`;
-        }
+        const { classText, classTitle } = formatExecutionClasses(exec);
 
-        const statusText = isRunning ? '수행중...' :
+        const runningCount = Math.max(exec.totalTests || 0, runningTestCounts.get(exec.executionId) || 0);
+        const progressText = isRunning && exec.percentComplete != null ? ` ${exec.percentComplete}%` : '';
+        const statusText = isRunning ? (runningCount > 0 ? `수행중... ${runningCount}${progressText}` : `수행중...${progressText}`) :
                           exec.failedCount > 0 ? `실패 ${exec.failedCount}` : '성공';
+        const etaTitle = isRunning && exec.estimatedFinishAt ? `예상 종료 ${formatDateTime(exec.estimatedFinishAt)}` : '';
 
         return `
             <div class="${itemClass}" data-execution-id="${exec.executionId}">
                 <div class="execution-item-status ${statusClass}"></div>
                 <div class="execution-item-info">
-                    <div class="execution-item-class" title="${escapeHtml(exec.classNames || '')}">${escapeHtml(classText)}</div>
+                    <div class="execution-item-class" title="${escapeHtml(classTitle)}">${escapeHtml(classText)}</div>
                     <div class="execution-item-requester">${escapeHtml(requesterName)}</div>
                 </div>
                 <div class="execution-item-meta">
-                    <div class="execution-item-status-text">${statusText}</div>
+                    <div class="execution-item-status-text" title="${etaTitle}">${statusText}</div>
                     <div class="execution-item-time">${dateStr}</div>
                 </div>
             </div>
         `;
     }
 
+    // 요청 클래스 (exec.classes - 서버의 c_test_execution_class 행) 표시 텍스트 / 툴팁
+    function formatExecutionClasses(exec) {
+        const classes = exec.classes || [];
+        let classText = '-';
+        if (classes.length === 1) {
+            classText = classes[0].className.split('.').pop(); // 패키지 제거하고 클래스명만
+        } else if (classes.length > 1) {
+            classText = `${classes[0].className.split('.').pop()} 외 ${classes.length - 1}개`;
+        }
+        const classTitle = classes
+            .map(c => c.status && c.status !== 'RUNNING' ? `${c.className} (${c.status})` : c.className)
+            .join('\n');
+        return { classText, classTitle };
+    }
+
     function formatDateTime(dateTimeStr) {
         if (!dateTimeStr) return '-';
         const dt = new Date(dateTimeStr);
@@ -1147,7 +1437,10 @@ document.addEventListener('DOMContentLoaded', () => {
         return `${seconds}s ${ms}ms`;
     }
 
-    async function selectExecution(executionId) {
+    /**
+     * @param silent true 면 로딩 표시 없이 결과만 다시 그린다 (실시간 이벤트로 갱신할 때)
+     */
+    async function selectExecution(executionId, silent = false) {
         selectedExecutionId = executionId;
 
         // 선택 상태 업데이트
@@ -1165,7 +1458,7 @@ document.addEventListener('DOMContentLoaded', () => {
         if (!detailBody) return;
 
         // 헤더에 재실행 버튼 추가
-        if (detailHeader) {
+        if (detailHeader && !silent) {
             detailHeader.innerHTML = `
                 <span>Details</span>
                 <button class="rerun-btn" onclick="rerunExecution('${executionId}')" title="Rerun this execution">
@@ -1174,12 +1467,14 @@ document.addEventListener('DOMContentLoaded', () => {
             `;
         }
 
-        detailBody.innerHTML = `
-            <div class="execution-detail-empty">
-                <div class="execution-detail-empty-icon">&#x23F3;</div>
-                <p>Loading...</p>
-            </div>
-        `;
+        if (!silent) {
+            detailBody.innerHTML = `
+                <div class="execution-detail-empty">
+                    <div class="execution-detail-empty-icon">&#x23F3;</div>
+                    <p>Loading...</p>
+                </div>
+            `;
+        }
 
         try {
             const response = await fetch(`/api/tests/executions/${executionId}/results`);
@@ -1192,8 +1487,17 @@ document.addEventListener('DOMContentLoaded', () => {
             const testClasses = filterAndGroupByClass(results);
             const classResultsHtml = renderClassResults(testClasses);
 
+            // 보관 기간이 지난 실행 - 요약은 실행 카운터, 결과는 실패만 남아 있다
+            const compactedHtml = data.compacted ? `
+                <div class="compacted-banner">
+                    <span>보관 기간이 지나 실패한 테스트만 남아 있습니다.</span>
+                    <button class="rerun-btn" onclick="restoreExecution('${executionId}', this)">전체 결과 복원</button>
+                </div>
+            ` : '';
+
             detailBody.innerHTML = `
                 <div class="execution-detail-content">
+                    ${compactedHtml}
                     <div class="test-summary">
                         <div class="summary-item">
                             <span class="summary-value">${summary.total}</span>
@@ -1372,23 +1676,36 @@ document.addEventListener('DOMContentLoaded', () => {
     window.loadDashboard = loadDashboard;
     window.refreshDashboard = function() {
         dashboardCache = null;
+        dashboardEtag = null;
         loadDashboard();
     };
 
     // 재실행 함수
+    // 보관 파일에서 전체 결과 복원 후 다시 그린다
+    window.restoreExecution = async function(executionId, button) {
+        if (button) button.disabled = true;
+        try {
+            const response = await fetch(`/api/tests/executions/${executionId}/restore`, { method: 'POST' });
+            if (!response.ok) {
+                alert(response.status === 404 ? '보관 파일이 없습니다.' : '복원에 실패했습니다.');
+                if (button) button.disabled = false;
+                return;
+            }
+            await selectExecution(executionId, true);
+        } catch (error) {
+            console.error('Failed to restore execution:', error);
+            alert('복원에 실패했습니다.');
+            if (button) button.disabled = false;
+        }
+    };
+
     window.rerunExecution = async function(executionId) {
         const execution = executionListCache?.find(e => e.executionId === executionId);
-        if (!execution || !execution.classNames) {
+        if (!execution || !execution.classes || execution.classes.length === 0) {
             alert('Cannot rerun: execution data not found');
             return;
         }
 
-        const classNames = execution.classNames.split(',').filter(c => c.trim());
-        if (classNames.length === 0) {
-            alert('Cannot rerun: no classes found');
-            return;
-        }
-
         // 확인 다이얼로그
         if (!confirm('재실행 하시겠습니까?')) {
             return;
@@ -1402,11 +1719,12 @@ document.addEventListener('DOMContentLoaded', () => {
         }
 
         try {
-            const response = await fetch('/api/tests/run', {
-                method: 'POST',
-                headers: { 'Content-Type': 'application/json' },
-                body: JSON.stringify({ classNames })
-            });
+            // 클래스 묶음은 서버가 원래 실행의 요청 클래스 행으로 다시 만든다
+            const response = await fetch(`/api/tests/executions/${executionId}/rerun`, { method: 'POST' });
+            if (response.status === 404) {
+                alert('Cannot rerun: no classes found');
+                return;
+            }
 
             const result = await response.json();
 
@@ -1415,7 +1733,7 @@ document.addEventListener('DOMContentLoaded', () => {
                     executionId: result.executionId,
                     startedAt: new Date().toISOString(),
                     status: 'RUNNING',
-                    classNames: classNames.join(','),
+                    classes: execution.classes.map(c => ({ className: c.className, status: 'RUNNING' })),
                     totalTests: 0,
                     successCount: 0,
                     failedCount: 0,
@@ -1450,12 +1768,10 @@ document.addEventListener('DOMContentLoaded', () => {
             ? `<ul class="result-children">${result.children.map(child => renderTestResult(child)).join('')}</ul>`
             : '';
 
-        const errorHtml = result.errorMessage
-            ? `<div class="result-error">${escapeHtml(result.errorMessage)}</div>`
-            : '';
-
-        const stdoutHtml = result.stdout
-            ? `<div class="result-stdout"><strong>Output:</strong><pre>${escapeHtml(result.stdout)}</pre></div>`
+        // 에러 메시지 / stdout 은 목록에 없으므로 펼칠 때 /results/{resultId} 로 가져온다
+        const detailHtml = result.hasDetails
+            ? `<button class="result-detail-toggle" data-result-id="${result.resultId}">상세 보기</button>
+               <div class="result-detail" hidden></div>`
             : '';
 
         const nestedBadge = isNestedClass ? '<span class="nested-class-badge">Nested</span>' : '';
@@ -1466,13 +1782,55 @@ document.addEventListener('DOMContentLoaded', () => {
                     <span class="result-name">${icon} ${nestedBadge} ${escapeHtml(result.displayName)}</span>
                     <span class="result-duration">${result.durationMillis}ms</span>
                 </div>
-                ${errorHtml}
-                ${stdoutHtml}
+                ${detailHtml}
                 ${childrenHtml}
             </li>
         `;
     }
 
+    function renderResultDetail(detail) {
+        const errorHtml = detail.errorMessage
+            ? `<div class="result-error">${escapeHtml(detail.errorMessage)}</div>`
+            : '';
+        const stackTraceHtml = detail.stackTrace
+            ? `<div class="result-error"><pre>${escapeHtml(detail.stackTrace)}</pre></div>`
+            : '';
+        const stdoutHtml = detail.stdout
+            ? `<div class="result-stdout"><strong>Output:</strong><pre>${escapeHtml(detail.stdout)}</pre></div>`
+            : '';
+        return errorHtml + stackTraceHtml + stdoutHtml;
+    }
+
+    // 결과 상세 펼치기/접기 (한 번 받은 상세는 다시 요청하지 않음)
+    document.addEventListener('click', async (e) => {
+        const toggle = e.target.closest('.result-detail-toggle');
+        if (!toggle || !selectedExecutionId) return;
+
+        const detail = toggle.nextElementSibling;
+        if (!detail.hidden) {
+            detail.hidden = true;
+            toggle.textContent = '상세 보기';
+            return;
+        }
+
+        if (!detail.dataset.loaded) {
+            toggle.disabled = true;
+            try {
+                const response = await fetch(`/api/tests/executions/${selectedExecutionId}/results/${toggle.dataset.resultId}`);
+                if (!response.ok) throw new Error(`HTTP ${response.status}`);
+                detail.innerHTML = renderResultDetail(await response.json());
+                detail.dataset.loaded = 'true';
+            } catch (error) {
+                console.error('Failed to load result detail:', error);
+                detail.innerHTML = '<div class="result-error">Failed to load detail</div>';
+            } finally {
+                toggle.disabled = false;
+            }
+        }
+        detail.hidden = false;
+        toggle.textContent = '상세 닫기';
+    });
+
     function escapeHtml(text) {
         const div = document.createElement('div');
         div.textContent = text;
@@ -1480,67 +1838,141 @@ document.addEventListener('DOMContentLoaded', () => {
     }
 
     /* ===== 검색 ===== */
+    // 트리는 일부만 로드되어 있으므로 서버 검색 결과를 클래스 단위 평면 목록으로 보여준다
     const searchInput = document.getElementById('test-search');
+    let searchTimer = null;
+    let searchSeq = 0;
 
-    function filterNode(liElement, keyword) {
-        const labelEl = liElement.querySelector(':scope > .tree-node .tree-node-label');
-        const childrenUl = liElement.querySelector(':scope > .tree-children');
-
-        let selfMatch = false;
-        if (labelEl) {
-            const text = labelEl.textContent.toLowerCase();
-            selfMatch = text.includes(keyword);
-        }
-
-        let childMatch = false;
-        if (childrenUl) {
-            const childLis = childrenUl.querySelectorAll(':scope > li');
-            childLis.forEach(childLi => {
-                const visible = filterNode(childLi, keyword);
-                if (visible) childMatch = true;
-            });
-        }
-
-        const visible = keyword === '' || selfMatch || childMatch;
-        liElement.style.display = visible ? '' : 'none';
-
-        if (childrenUl && visible && keyword !== '') {
-            childrenUl.style.display = 'block';
+    searchInput.addEventListener('input', function () {
+        const keyword = this.value.trim();
+        clearTimeout(searchTimer);
+
+        if (keyword === '') {
+            searchSeq++;
+            searchRows = null;
+            treeViewport.scrollTop = 0;
+            renderTreeRows();
+            return;
         }
 
-        return visible;
-    }
-
-    searchInput.addEventListener('input', function () {
-        const keyword = this.value.toLowerCase();
-        const topLevelLis = document.querySelectorAll('.tree-root > li');
-        topLevelLis.forEach(li => filterNode(li, keyword));
+        searchTimer = setTimeout(async () => {
+            const seq = ++searchSeq;
+            try {
+                const response = await fetch(`/api/tests/search?${new URLSearchParams({ q: keyword, limit: 100 })}`);
+                const data = await response.json();
+                if (seq !== searchSeq) return;
+
+                const seen = new Set();
+                searchRows = [];
+                for (const hit of data.hits || []) {
+                    if (!hit.className || seen.has(hit.className)) continue;
+                    seen.add(hit.className);
+                    searchRows.push({
+                        depth: 0,
+                        node: {
+                            type: 'CLASS',
+                            name: hit.className.split('.').pop(),
+                            className: hit.className
+                        }
+                    });
+                }
+                treeViewport.scrollTop = 0;
+                renderTreeRows();
+            } catch (error) {
+                console.error('Failed to search tests:', error);
+            }
+        }, 200);
     });
 
     /* ===== 테스트 목록 새로고침 ===== */
+    // 새로고침은 job 으로 제출되고, 진행 단계는 SSE (실패 시 폴링) 로 받아 표시한다
+    const refreshProgress = document.getElementById('refreshProgress');
+    const REFRESH_PHASE_LABELS = {
+        GIT_PULL: 'Pulling...',
+        COMPILE: 'Compiling...',
+        DISCOVER: 'Discovering...',
+        PERSIST: 'Saving...'
+    };
+
     refreshButton.addEventListener('click', async function() {
         refreshButton.classList.add('loading');
+        refreshProgress.textContent = 'Queued...';
 
         try {
             const response = await fetch('/api/tests/refresh', {
                 method: 'POST'
             });
-            const data = await response.json();
-
-            if (data.status === 'SUCCESS') {
-                // 페이지 새로고침으로 트리 업데이트
-                window.location.reload();
-            } else {
-                alert('Failed to refresh test catalog');
+            if (!response.ok) {
+                throw new Error(`HTTP ${response.status}`);
             }
+            const data = await response.json();
+            watchRefreshJob(data.jobId);
         } catch (error) {
             console.error('Failed to refresh:', error);
-            alert('Failed to refresh test catalog');
-        } finally {
-            refreshButton.classList.remove('loading');
+            finishRefresh(null);
         }
     });
 
+    function watchRefreshJob(jobId) {
+        if (!window.EventSource) {
+            pollRefreshJob(jobId);
+            return;
+        }
+
+        const source = new EventSource(`/api/tests/refresh/jobs/${jobId}/events`);
+        source.addEventListener('progress', e => showRefreshProgress(JSON.parse(e.data)));
+        source.addEventListener('done', e => {
+            source.close();
+            finishRefresh(JSON.parse(e.data));
+        });
+        source.onerror = () => {
+            // 프록시 등으로 스트림이 끊기면 폴링으로 계속 확인
+            source.close();
+            pollRefreshJob(jobId);
+        };
+    }
+
+    async function pollRefreshJob(jobId) {
+        try {
+            const response = await fetch(`/api/tests/refresh/jobs/${jobId}`);
+            if (!response.ok) {
+                throw new Error(`HTTP ${response.status}`);
+            }
+            const job = await response.json();
+            if (job.state === 'SUCCEEDED' || job.state === 'FAILED') {
+                finishRefresh(job);
+                return;
+            }
+            showRefreshProgress(job);
+            setTimeout(() => pollRefreshJob(jobId), 1000);
+        } catch (error) {
+            console.error('Failed to check refresh job:', error);
+            finishRefresh(null);
+        }
+    }
+
+    function showRefreshProgress(job) {
+        refreshProgress.textContent = REFRESH_PHASE_LABELS[job.phase] || 'Queued...';
+    }
+
+    function finishRefresh(job) {
+        refreshButton.classList.remove('loading');
+        refreshProgress.textContent = '';
+
+        if (job && job.state === 'SUCCEEDED') {
+            reloadTree();
+        } else {
+            alert('Failed to refresh test catalog' + (job && job.error ? `: ${job.error}` : ''));
+        }
+    }
+
+    // 펼쳐 둔 패키지는 그대로 두고 로드된 단계만 비워서 다시 조회
+    function reloadTree() {
+        packageStates.clear();
+        treeRootPath = null;
+        loadTreeChildren(null);
+    }
+
     /* ===== 사이드바 리사이즈 ===== */
     const sidebar = document.getElementById('sidebar');
     const resizer = document.getElementById('sidebar-resizer');
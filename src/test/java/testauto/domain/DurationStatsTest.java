@@ -0,0 +1,56 @@
+package testauto.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DurationStatsTest {
+
+    @Test
+    void of() {
+        DurationStats stats = DurationStats.of("100,300,200,400,1000");
+
+        assertEquals(5, stats.samples());
+        assertEquals(400, stats.meanMillis());
+        assertEquals(300, stats.p50Millis());
+        assertEquals(1000, stats.p95Millis());
+        assertEquals(List.of(100L, 300L, 200L, 400L, 1000L), stats.recentMillis());
+    }
+
+    @Test
+    void ofSingleSample() {
+        DurationStats stats = DurationStats.of("50");
+
+        assertEquals(50, stats.p50Millis());
+        assertEquals(50, stats.p95Millis());
+    }
+
+    @Test
+    void ofEmpty() {
+        assertEquals(DurationStats.EMPTY, DurationStats.of(null));
+        assertEquals(DurationStats.EMPTY, DurationStats.of(""));
+    }
+
+    @Test
+    void appendKeepsWindow() {
+        String recent = null;
+        for (int i = 1; i <= 25; i++) {
+            recent = DurationStats.append(recent, i * 10L);
+        }
+
+        DurationStats stats = DurationStats.of(recent);
+        assertEquals(DurationStats.WINDOW, stats.samples());
+        assertEquals(250, stats.recentMillis().get(0));
+        assertEquals(60, stats.recentMillis().get(DurationStats.WINDOW - 1));
+        assertEquals(155, stats.meanMillis());
+        assertEquals(150, stats.p50Millis());
+        assertEquals(240, stats.p95Millis());
+    }
+
+    @Test
+    void appendClampsNegative() {
+        assertEquals("0,5,6", DurationStats.append("5,6", -3));
+    }
+}
@@ -0,0 +1,23 @@
+package testauto.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExecutionClassTest {
+
+    @Test
+    void splitKeepsRequestOrder() {
+        assertEquals(List.of("a.LoginTest", "a.CheckoutTest", "a.LoginTest$Nested"),
+                ExecutionClass.split(" a.LoginTest, a.CheckoutTest ,,a.LoginTest$Nested, a.LoginTest"));
+    }
+
+    @Test
+    void splitBlank() {
+        assertTrue(ExecutionClass.split(null).isEmpty());
+        assertTrue(ExecutionClass.split(" ").isEmpty());
+        assertTrue(ExecutionClass.split(" , ").isEmpty());
+    }
+}
@@ -0,0 +1,24 @@
+package testauto.domain;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestNodeTest {
+
+    private static final String ENGINE = "[engine:junit-jupiter]";
+
+    @Test
+    void extractTestClass() {
+        String nested = ENGINE + "/[class:a.OuterTest]/[nested-class:Inner]/[nested-class:Deep]/[method:ok()]";
+        assertEquals("a.OuterTest", TestNode.extractTopLevelClass(nested));
+        assertEquals("a.OuterTest$Inner$Deep", TestNode.extractTestClass(nested));
+
+        String staticNested = ENGINE + "/[class:a.OuterTest$Static]/[method:ok()]";
+        assertEquals("a.OuterTest$Static", TestNode.extractTopLevelClass(staticNested));
+        assertEquals("a.OuterTest$Static", TestNode.extractTestClass(staticNested));
+
+        assertEquals("a.LoginTest", TestNode.extractTestClass(ENGINE + "/[class:a.LoginTest]/[method:ok()]"));
+        assertNull(TestNode.extractTestClass(ENGINE));
+    }
+}
@@ -0,0 +1,71 @@
+package testauto.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestStatsTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    @Test
+    void record() {
+        TestStats stats = TestStats.builder().testId("t").build();
+
+        stats.record('S', 100, T0.plusHours(1), "e1");
+        stats.record('F', 200, T0.plusHours(2), "e2");
+        stats.record('S', 300, T0.plusHours(3), "e3");
+
+        assertEquals(3, stats.getRuns());
+        assertEquals(2, stats.getPasses());
+        assertEquals(1, stats.getFailures());
+        assertEquals(2, stats.getFlips());
+        assertEquals("SFS", stats.getRecentStatuses());
+        assertEquals(2, stats.getRecentFlips());
+        assertEquals('S', stats.getLastStatus());
+        assertEquals(T0.plusHours(3), stats.getLastRunAt());
+        assertEquals(T0.plusHours(2), stats.getLastFailureAt());
+        assertEquals("e2", stats.getLastFailureExecutionId());
+        assertEquals("300,200,100", stats.getRecentDurations());
+        assertEquals(1.0, stats.flakiness());
+    }
+
+    @Test
+    void recordOutOfOrderOnlyCounts() {
+        TestStats stats = TestStats.builder().testId("t").build();
+
+        stats.record('S', 100, T0.plusHours(2), "e2");
+        // 먼저 시작한 실행이 늦게 끝남 - 누적 횟수 / 마지막 실패만 반영
+        stats.record('F', 200, T0.plusHours(1), "e1");
+
+        assertEquals(2, stats.getRuns());
+        assertEquals(1, stats.getFailures());
+        assertEquals(0, stats.getFlips());
+        assertEquals("S", stats.getRecentStatuses());
+        assertEquals('S', stats.getLastStatus());
+        assertEquals(T0.plusHours(2), stats.getLastRunAt());
+        assertEquals(T0.plusHours(1), stats.getLastFailureAt());
+        assertEquals("e1", stats.getLastFailureExecutionId());
+        assertEquals("100", stats.getRecentDurations());
+        assertEquals(0.0, stats.flakiness());
+    }
+
+    @Test
+    void flakinessIgnoresSkips() {
+        TestStats stats = TestStats.builder().testId("t").build();
+        LocalDateTime runAt = T0;
+        for (char status : "SSSKF".toCharArray()) {
+            runAt = runAt.plusHours(1);
+            stats.record(status, 10, runAt, "e");
+        }
+
+        assertEquals("FKSSS", stats.getRecentStatuses());
+        assertEquals(1, stats.getFlips());
+        assertEquals(1, stats.getSkips());
+        assertEquals(1.0 / 3, stats.flakiness(), 1e-9);
+        assertEquals(75.0, stats.recentPassRate(), 1e-9);
+        assertEquals("10,10,10,10", stats.getRecentDurations());
+    }
+}
@@ -0,0 +1,68 @@
+package testauto.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TestBlobStoreTest {
+
+    private static final String LONG_BODY = "java.lang.AssertionError: expected <1> but was <2>";
+
+    private JdbcTemplate jdbcTemplate;
+    private TestBlobStore blobStore;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        blobStore = new TestBlobStore(jdbcTemplate);
+        ReflectionTestUtils.setField(blobStore, "minChars", 10);
+    }
+
+    @Test
+    void storeAllSkipsShortValuesAndKnownHashes() {
+        Map<String, String> hashes = blobStore.storeAll(Arrays.asList("short", LONG_BODY, LONG_BODY, null));
+
+        assertEquals(1, hashes.size());
+        assertEquals(64, hashes.get(LONG_BODY).length());
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), argThat(list -> list.size() == 1), eq(1), any());
+
+        // 이미 저장된 해시는 다시 보내지 않는다
+        assertEquals(hashes, blobStore.storeAll(List.of(LONG_BODY)));
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+    }
+
+    @Test
+    void deleteUnreferencedForgetsHashes() {
+        String hash = blobStore.storeAll(List.of(LONG_BODY)).get(LONG_BODY);
+
+        blobStore.deleteUnreferenced(List.of(hash));
+        blobStore.storeAll(List.of(LONG_BODY));
+
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+    }
+
+    @Test
+    void concurrentInsertCountsAsStored() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any()))
+                .thenThrow(new DuplicateKeyException("SQL0803N"));
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                .thenThrow(new DuplicateKeyException("SQL0803N"));
+
+        assertEquals(1, blobStore.storeAll(List.of(LONG_BODY)).size());
+        verify(jdbcTemplate, times(1)).update(anyString(), any(PreparedStatementSetter.class));
+
+        blobStore.storeAll(List.of(LONG_BODY));
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyCollection(), anyInt(), any());
+    }
+}
@@ -0,0 +1,95 @@
+package testauto.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import testauto.domain.TestNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestCatalogSnapshotFileTest {
+
+    @TempDir
+    Path dir;
+
+    private Path file;
+    private TestCatalogSnapshotFile snapshotFile;
+
+    @BeforeEach
+    void setUp() {
+        file = dir.resolve("catalog.snapshot");
+        snapshotFile = new TestCatalogSnapshotFile();
+        ReflectionTestUtils.setField(snapshotFile, "snapshotFile", file.toString());
+    }
+
+    @Test
+    void roundTrip() {
+        List<TestNode> nodes = List.of(
+                node("[engine:junit-jupiter]/[class:a.LoginTest]", "[engine:junit-jupiter]", "LoginTest", "CONTAINER", null),
+                node("[engine:junit-jupiter]/[class:a.LoginTest]/[method:ok()]",
+                        "[engine:junit-jupiter]/[class:a.LoginTest]", "로그인 성공", "TEST", "smoke,login"),
+                node("[engine:junit-jupiter]/[class:a.LoginTest]/[method:fail()]",
+                        "[engine:junit-jupiter]/[class:a.LoginTest]", "fail()", "TEST", null));
+        snapshotFile.write(TestCatalogSnapshot.of(7, nodes));
+
+        Optional<TestCatalogSnapshot> read = snapshotFile.read(7);
+
+        assertTrue(read.isPresent());
+        assertEquals(7, read.get().getGeneration());
+        // 부모가 카탈로그에 없는 노드 (엔진 루트) / null 태그 / 한글 표시 이름까지 그대로
+        assertEquals(nodes.toString(), read.get().findAll().toString());
+    }
+
+    @Test
+    void readOtherGeneration() {
+        snapshotFile.write(TestCatalogSnapshot.of(7, List.of(
+                node("[class:a.LoginTest]", null, "LoginTest", "CONTAINER", null))));
+
+        assertTrue(snapshotFile.read(8).isEmpty());
+    }
+
+    @Test
+    void readRejectsChecksumMismatch() throws IOException {
+        snapshotFile.write(TestCatalogSnapshot.of(7, List.of(
+                node("[class:a.LoginTest]", null, "LoginTest", "CONTAINER", null))));
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 0x01; // 문자열 바이트 한 비트
+        Files.write(file, bytes);
+
+        assertTrue(snapshotFile.read(7).isEmpty());
+    }
+
+    @Test
+    void readRejectsHeaderCorruption() throws IOException {
+        snapshotFile.write(TestCatalogSnapshot.of(7, List.of(
+                node("[class:a.LoginTest]", null, "LoginTest", "CONTAINER", null))));
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[8] = 8; // 세대 7 -> 8 (little endian 하위 바이트)
+        Files.write(file, bytes);
+
+        assertTrue(snapshotFile.read(8).isEmpty());
+    }
+
+    @Test
+    void readMissingFile() {
+        assertTrue(snapshotFile.read(7).isEmpty());
+    }
+
+    private static TestNode node(String uniqueId, String parentUniqueId, String displayName, String type, String tags) {
+        return TestNode.builder()
+                .uniqueId(uniqueId)
+                .parentUniqueId(parentUniqueId)
+                .displayName(displayName)
+                .className("a.LoginTest")
+                .type(type)
+                .tags(tags)
+                .build();
+    }
+}
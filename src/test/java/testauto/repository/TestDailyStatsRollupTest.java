@@ -0,0 +1,69 @@
+package testauto.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import testauto.repository.TestDailyStatsRollup.ResultRow;
+import testauto.repository.TestExecutionClassRepository.ClassResult;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TestDailyStatsRollupTest {
+
+    private static final String ENGINE = "[engine:junit-jupiter]";
+    private static final String OUTER = ENGINE + "/[class:a.OuterTest]";
+    private static final String INNER = OUTER + "/[nested-class:Inner]";
+
+    @Test
+    void rollUpSameExecutionOnce() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        UnboundedJdbcTemplateProvider unboundedJdbc = mock(UnboundedJdbcTemplateProvider.class);
+        TestHistoryRepository historyRepository = mock(TestHistoryRepository.class);
+        TestExecutionClassRepository classRepository = mock(TestExecutionClassRepository.class);
+        when(unboundedJdbc.get()).thenReturn(mock(JdbcTemplate.class));
+        // rolled_up 0 -> 1 은 처음 한 번만 성공 (두 번째는 이미 1 이라 0 행)
+        when(jdbcTemplate.update(contains("SET rolled_up = 1"), eq("e1"))).thenReturn(1, 0);
+        when(jdbcTemplate.queryForMap(contains("SELECT started_at, status"), eq("e1"))).thenReturn(Map.of(
+                "started_at", Timestamp.valueOf(LocalDateTime.of(2024, 1, 15, 10, 30)),
+                "status", "COMPLETED"));
+
+        TestDailyStatsRollup rollup =
+                new TestDailyStatsRollup(jdbcTemplate, unboundedJdbc, historyRepository, classRepository);
+
+        assertTrue(rollup.rollUp("e1"));
+        assertFalse(rollup.rollUp("e1"));
+
+        verify(jdbcTemplate, times(1)).update(contains("MERGE INTO bng000a.c_test_daily_stats"), eq("e1"));
+        verify(historyRepository, times(1)).record(eq("e1"), any(), anyList());
+        verify(classRepository, times(1)).finish(eq("e1"), eq("COMPLETED"), anyMap());
+    }
+
+    @Test
+    void classResultsCountNestedTestsInOuterClass() {
+        List<ResultRow> tests = List.of(
+                row(OUTER + "/[method:ok()]", "SUCCESS", 10),
+                row(INNER + "/[method:ok()]", "SUCCESS", 20),
+                row(INNER + "/[method:fail()]", "FAILED", 30),
+                row(INNER + "/[nested-class:Deep]/[method:skip()]", "SKIPPED", 0),
+                row(ENGINE + "/[class:a.OuterTest$Static]/[method:ok()]", "SUCCESS", 5));
+
+        Map<String, ClassResult> results = TestDailyStatsRollup.classResults(tests);
+
+        assertEquals(new ClassResult(4, 1, 1, 60), results.get("a.OuterTest"));
+        assertEquals(new ClassResult(3, 1, 1, 50), results.get("a.OuterTest$Inner"));
+        assertEquals(new ClassResult(1, 0, 1, 0), results.get("a.OuterTest$Inner$Deep"));
+        // static 중첩 클래스는 별도 클래스 - 바깥 클래스 합계에 더하지 않는다
+        assertEquals(new ClassResult(1, 0, 0, 5), results.get("a.OuterTest$Static"));
+        assertEquals(4, results.size());
+    }
+
+    private static ResultRow row(String testId, String status, long durationMillis) {
+        return new ResultRow(testId, testId.substring(0, testId.lastIndexOf('/')), testId, status, durationMillis);
+    }
+}
@@ -0,0 +1,109 @@
+package testauto.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import testauto.domain.TestExecution;
+import testauto.domain.TestResultRecord;
+import testauto.domain.TestStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * c_test_result INSERT 벤치마크 (로컬 DB 전용)
+ * - TESTCODE_RESULT_INSERT_BENCHMARK_ROWS 환경 변수를 지정했을 때만 실행 (평소 테스트에서는 건너뜀)
+ * - chunk 크기 x (배치 / 다중 행) 조합마다 임시 실행을 만들어 INSERT 하고 rows/s 를 로그로 남긴 뒤 삭제
+ * - JDBC 와 저장소 빈만 올린다 (설정된 DB2 그대로, 조합마다 커밋 - 테스트 트랜잭션으로 묶지 않음)
+ * - INSERT 가 실패하면 그대로 테스트 실패 (임시 실행은 지운다)
+ *
+ * 실행 예: TESTCODE_RESULT_INSERT_BENCHMARK_ROWS=20000 ./gradlew test --tests '*TestResultInsertBenchmark'
+ */
+@Slf4j
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TestExecutionDbRepository.class, TestExecutionClassRepository.class, TestResultBulkWriter.class,
+        TestBlobStore.class, UnboundedJdbcTemplateProvider.class, SimpleMeterRegistry.class})
+@EnabledIfEnvironmentVariable(named = "TESTCODE_RESULT_INSERT_BENCHMARK_ROWS", matches = "\\d+")
+class TestResultInsertBenchmark {
+
+    private static final int[] CHUNK_SIZES = {100, 500, 1000};
+
+    @Autowired
+    private TestExecutionRepository executionRepository;
+
+    @Autowired
+    private TestResultBulkWriter resultBulkWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${testcode.result-insert.benchmark.rows}")
+    private int rows;
+
+    // 실패 결과 비율 (스택 트레이스가 커서 스트리밍 LOB 경로를 타는 행)
+    @Value("${testcode.result-insert.benchmark.failure-ratio:0.1}")
+    private double failureRatio;
+
+    @Test
+    void insertThroughput() {
+        log.info("Result insert benchmark: {} rows per run, failure ratio {}", rows, failureRatio);
+        for (boolean multiRow : new boolean[]{false, true}) {
+            for (int chunkSize : CHUNK_SIZES) {
+                String executionId = UUID.randomUUID().toString();
+                try {
+                    executionRepository.saveExecution(TestExecution.builder()
+                            .executionId(executionId)
+                            .startedAt(LocalDateTime.now())
+                            .classNames("benchmark")
+                            .status("RUNNING")
+                            .build());
+                    TestResultBulkWriter.WriteStats stats =
+                            resultBulkWriter.write(sampleResults(executionId), chunkSize, multiRow);
+                    log.info("Result insert benchmark [{} chunk={}]: {} rows in {} ms, {} rows/s",
+                            multiRow ? "multi-row" : "batch", chunkSize, stats.rows(),
+                            stats.elapsedNanos() / 1_000_000, Math.round(stats.rowsPerSecond()));
+                } finally {
+                    // c_test_result 는 FK ON DELETE CASCADE
+                    jdbcTemplate.update("DELETE FROM bng000a.c_test_execution WHERE execution_id = ?", executionId);
+                }
+            }
+        }
+    }
+
+    private List<TestResultRecord> sampleResults(String executionId) {
+        String classId = "[engine:junit-jupiter]/[class:benchmark.SampleTest]";
+        String stackTrace = "java.lang.AssertionError: expected <1> but was <2>\n"
+                + "\tat benchmark.SampleTest.method(SampleTest.java:42)\n".repeat(200);
+        int failureEvery = failureRatio > 0 ? Math.max((int) Math.round(1 / failureRatio), 1) : Integer.MAX_VALUE;
+
+        List<TestResultRecord> results = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            boolean failed = i % failureEvery == 0;
+            results.add(TestResultRecord.builder()
+                    .executionId(executionId)
+                    .testId(classId + "/[method:test" + i + "()]")
+                    .parentTestId(classId)
+                    .displayName("test" + i + "()")
+                    .status(failed ? TestStatus.FAILED : TestStatus.SUCCESS)
+                    .durationMillis(i % 50)
+                    .errorMessage(failed ? "expected <1> but was <2>" : null)
+                    .stackTrace(failed ? stackTrace : null)
+                    .stdout("line " + i)
+                    .build());
+        }
+        return results;
+    }
+}
@@ -0,0 +1,105 @@
+package testauto.repository;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import testauto.domain.TestStatus;
+import testauto.repository.TestResultJournal.Entry;
+import testauto.repository.TestResultJournal.ExecutionLine;
+import testauto.repository.TestResultJournal.ResultLine;
+import testauto.repository.TestResultJournal.Type;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestResultJournalTest {
+
+    private static final LocalDateTime STARTED_AT = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void replay() throws IOException {
+        TestResultJournal journal = journal(8 * 1024 * 1024);
+        assertTrue(journal.open().isEmpty());
+        Entry start = journal.append(Type.START, "e1", execution("RUNNING"), null);
+        Entry batch = journal.append(Type.BATCH, "e1", execution(null), List.of(
+                new ResultLine("[class:a.LoginTest]/[method:ok()]", "[class:a.LoginTest]", "로그인 성공",
+                        TestStatus.SUCCESS, 120, null, null, "stdout\n두 번째 줄"),
+                new ResultLine("[class:a.LoginTest]/[method:fail()]", "[class:a.LoginTest]", "fail()",
+                        TestStatus.FAILED, 30, "expected: <1>", "at a.LoginTest.fail", null)));
+        journal.close();
+
+        TestResultJournal reopened = journal(8 * 1024 * 1024);
+        List<Entry> replayed = reopened.open();
+
+        assertEquals(List.of(start, batch), replayed);
+        // 재기동 후에도 seq 는 이전 항목보다 크다
+        assertTrue(reopened.append(Type.FAIL, "e1", execution("FAILED"), null).seq() > batch.seq());
+        reopened.close();
+    }
+
+    @Test
+    void replaySkipsCorruptLines() throws IOException {
+        TestResultJournal journal = journal(8 * 1024 * 1024);
+        journal.open();
+        Entry start = journal.append(Type.START, "e1", execution("RUNNING"), null);
+        journal.close();
+
+        Path segment = segments().get(0);
+        String valid = Files.readString(segment, StandardCharsets.UTF_8);
+        String tampered = valid.replace("\"e1\"", "\"e2\"");
+        Files.writeString(segment, tampered + "0000zzzz {\"seq\":" + "\n" + valid.substring(0, valid.length() / 2),
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        TestResultJournal reopened = journal(8 * 1024 * 1024);
+        assertEquals(List.of(start), reopened.open());
+        reopened.close();
+    }
+
+    @Test
+    void markAppliedDeletesAppliedSegments() throws IOException {
+        TestResultJournal journal = journal(1); // 항목마다 새 세그먼트
+        journal.open();
+        journal.append(Type.START, "e1", execution("RUNNING"), null);
+        Entry last = journal.append(Type.FAIL, "e1", execution("FAILED"), null);
+        assertEquals(3, segments().size());
+
+        journal.markApplied(last.seq());
+
+        assertEquals(1, segments().size()); // 이어서 쓸 빈 세그먼트만
+        journal.close();
+        TestResultJournal reopened = journal(1);
+        assertTrue(reopened.open().isEmpty());
+        reopened.close();
+    }
+
+    private TestResultJournal journal(long segmentMaxBytes) {
+        TestResultJournal journal = new TestResultJournal(JsonMapper.builder().findAndAddModules().build());
+        ReflectionTestUtils.setField(journal, "dir", dir.toString());
+        ReflectionTestUtils.setField(journal, "segmentMaxBytes", segmentMaxBytes);
+        ReflectionTestUtils.setField(journal, "fsync", false);
+        return journal;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("journal-")).sorted().toList();
+        }
+    }
+
+    private static ExecutionLine execution(String status) {
+        return new ExecutionLine(STARTED_AT, "FAILED".equals(status) ? STARTED_AT.plusMinutes(1) : null,
+                2, 1, 1, 0, 150, "127.0.0.1", "a.LoginTest", status, 60_000L);
+    }
+}
@@ -0,0 +1,39 @@
+package testauto.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageCursorTest {
+
+    @Test
+    void roundTrip() {
+        LocalDateTime startedAt = LocalDateTime.of(2026, 1, 1, 9, 30, 15, 123_000_000);
+
+        String cursor = PageCursor.encode(startedAt, "0b6f3c1e-5a7d-4f7e-9d0a-2c1b8e4f6a90");
+
+        assertFalse(cursor.contains("=") || cursor.contains("+") || cursor.contains("/"));
+        assertEquals(new PageCursor(startedAt, "0b6f3c1e-5a7d-4f7e-9d0a-2c1b8e4f6a90"), PageCursor.decode(cursor));
+    }
+
+    @Test
+    void decodeBlankIsFirstPage() {
+        assertEquals(new PageCursor(null, null), PageCursor.decode(null));
+        assertEquals(new PageCursor(null, null), PageCursor.decode(" "));
+    }
+
+    @Test
+    void decodeInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("not base64!"));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode(encode("2026-01-01T09:00")));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode(encode("yesterday|e1")));
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,58 @@
+package testauto.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PayloadTest {
+
+    @Test
+    void smallBodyIsNotCompressed() throws IOException {
+        Payload payload = Payload.of("{\"name\":\"testcode\"}".getBytes(StandardCharsets.UTF_8));
+
+        assertNull(payload.gzip());
+        assertFalse(payload.useGzip("gzip, deflate"));
+    }
+
+    @Test
+    void largeBodyIsCompressed() throws IOException {
+        byte[] json = ("[" + "{\"name\":\"testcode\"},".repeat(200) + "{}]").getBytes(StandardCharsets.UTF_8);
+        Payload payload = Payload.of(json);
+
+        assertTrue(payload.useGzip("gzip, deflate, br"));
+        assertFalse(payload.useGzip("br"));
+        assertFalse(payload.useGzip(null));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(payload.gzip()))) {
+            assertArrayEquals(json, in.readAllBytes());
+        }
+    }
+
+    @Test
+    void etagDiffersPerRepresentation() throws IOException {
+        Payload payload = Payload.of("{}".getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(payload.etag(), payload.etag(false));
+        assertNotEquals(payload.etag(false), payload.etag(true));
+        assertTrue(payload.etag(true).startsWith("\"") && payload.etag(true).endsWith("-gzip\""));
+        // 같은 본문이면 같은 ETag
+        assertEquals(payload.etag(), Payload.of("{}".getBytes(StandardCharsets.UTF_8)).etag());
+    }
+
+    @Test
+    void matchesEitherRepresentation() throws IOException {
+        Payload payload = Payload.of("{}".getBytes(StandardCharsets.UTF_8));
+
+        assertTrue(payload.matches(payload.etag(false)));
+        assertTrue(payload.matches(payload.etag(true)));
+        assertTrue(payload.matches("\"other\", W/" + payload.etag(false)));
+        assertTrue(payload.matches("*"));
+        assertFalse(payload.matches("\"other\""));
+        assertFalse(payload.matches(null));
+        assertFalse(payload.matches(" "));
+    }
+}
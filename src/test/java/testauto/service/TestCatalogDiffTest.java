@@ -0,0 +1,70 @@
+package testauto.service;
+
+import org.junit.jupiter.api.Test;
+import testauto.domain.TestNode;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestCatalogDiffTest {
+
+    @Test
+    void between() {
+        List<TestNode> current = List.of(
+                node("[class:a.LoginTest]", null, "LoginTest", null),
+                node("[class:a.LoginTest]/[method:ok()]", "[class:a.LoginTest]", "ok()", null),
+                node("[class:a.LoginTest]/[method:old()]", "[class:a.LoginTest]", "old()", null));
+        List<TestNode> discovered = List.of(
+                node("[class:a.LoginTest]", null, "LoginTest", null),
+                node("[class:a.LoginTest]/[method:ok()]", "[class:a.LoginTest]", "ok()", "smoke"),
+                node("[class:a.LoginTest]/[method:new()]", "[class:a.LoginTest]", "new()", null));
+
+        TestCatalogDiff diff = TestCatalogDiff.between(current, discovered);
+
+        assertEquals(List.of("[class:a.LoginTest]/[method:new()]"), uniqueIds(diff.added()));
+        assertEquals(List.of("[class:a.LoginTest]/[method:ok()]"), uniqueIds(diff.changed()));
+        assertEquals(List.of("[class:a.LoginTest]/[method:old()]"), diff.removedUniqueIds());
+        assertEquals(1, diff.unchangedCount());
+        assertFalse(diff.isEmpty());
+        assertEquals(List.of("[class:a.LoginTest]/[method:new()]", "[class:a.LoginTest]/[method:ok()]"),
+                uniqueIds(diff.upserts()));
+    }
+
+    @Test
+    void betweenSameNodesIsEmpty() {
+        List<TestNode> nodes = List.of(
+                node("[class:a.LoginTest]", null, "LoginTest", null),
+                node("[class:a.LoginTest]/[method:ok()]", "[class:a.LoginTest]", "ok()", "smoke"));
+
+        TestCatalogDiff diff = TestCatalogDiff.between(nodes, nodes);
+
+        assertTrue(diff.isEmpty());
+        assertEquals(2, diff.unchangedCount());
+    }
+
+    @Test
+    void betweenIgnoresDuplicateDiscoveredNodes() {
+        TestNode added = node("[class:a.LoginTest]", null, "LoginTest", null);
+
+        TestCatalogDiff diff = TestCatalogDiff.between(List.of(), List.of(added, added));
+
+        assertEquals(1, diff.added().size());
+        assertTrue(diff.removedUniqueIds().isEmpty());
+    }
+
+    private static TestNode node(String uniqueId, String parentUniqueId, String displayName, String tags) {
+        return TestNode.builder()
+                .uniqueId(uniqueId)
+                .parentUniqueId(parentUniqueId)
+                .displayName(displayName)
+                .className("a.LoginTest")
+                .type(parentUniqueId == null ? "CONTAINER" : "TEST")
+                .tags(tags)
+                .build();
+    }
+
+    private static List<String> uniqueIds(List<TestNode> nodes) {
+        return nodes.stream().map(TestNode::getUniqueId).toList();
+    }
+}
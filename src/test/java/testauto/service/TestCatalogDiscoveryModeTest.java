@@ -0,0 +1,77 @@
+package testauto.service;
+
+import org.junit.jupiter.api.Test;
+import testauto.domain.TestNode;
+import testauto.repository.TestCatalogSnapshot;
+import testauto.service.TestCatalogServiceImpl.DiscoveryMode;
+import testauto.service.TestClassFingerprintService.ClassChanges;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestCatalogDiscoveryModeTest {
+
+    private static final TestCatalogSnapshot CURRENT = TestCatalogSnapshot.of(1, List.of(
+            container("a.BaseTest"), method("a.BaseTest", "shared()"),
+            container("a.LoginTest"), method("a.LoginTest", "ok()")));
+
+    @Test
+    void fullWithoutBaseline() {
+        assertEquals(DiscoveryMode.FULL, TestCatalogServiceImpl.discoveryMode(CURRENT, null));
+    }
+
+    @Test
+    void noneWithoutChanges() {
+        assertEquals(DiscoveryMode.NONE,
+                TestCatalogServiceImpl.discoveryMode(CURRENT, changes(List.of(), Set.of(), Set.of())));
+    }
+
+    @Test
+    void incrementalForChangedLeafClass() {
+        assertEquals(DiscoveryMode.INCREMENTAL,
+                TestCatalogServiceImpl.discoveryMode(CURRENT, changes(List.of("a.LoginTest"), Set.of(), Set.of())));
+    }
+
+    @Test
+    void incrementalForAddedClass() {
+        assertEquals(DiscoveryMode.INCREMENTAL,
+                TestCatalogServiceImpl.discoveryMode(CURRENT, changes(List.of("a.NewTest"), Set.of("a.NewTest"), Set.of())));
+    }
+
+    @Test
+    void fullWhenChangedClassIsExtended() {
+        // 자기 테스트가 있는 클래스라도 다른 테스트 클래스가 상속하면 하위 클래스도 다시 발견해야 한다
+        assertEquals(DiscoveryMode.FULL, TestCatalogServiceImpl.discoveryMode(CURRENT,
+                changes(List.of("a.BaseTest"), Set.of(), Set.of("a.BaseTest"))));
+    }
+
+    @Test
+    void fullWhenChangedClassHasNoContainer() {
+        assertEquals(DiscoveryMode.FULL, TestCatalogServiceImpl.discoveryMode(CURRENT,
+                changes(List.of("a.TestSupport"), Set.of(), Set.of())));
+    }
+
+    private static ClassChanges changes(List<String> changed, Set<String> added, Set<String> extended) {
+        return new ClassChanges(changed, Set.of(), added, extended);
+    }
+
+    private static TestNode container(String className) {
+        return TestNode.builder()
+                .uniqueId("[engine:junit-jupiter]/[class:" + className + "]")
+                .parentUniqueId("[engine:junit-jupiter]")
+                .className(className)
+                .type("CONTAINER")
+                .build();
+    }
+
+    private static TestNode method(String className, String method) {
+        return TestNode.builder()
+                .uniqueId("[engine:junit-jupiter]/[class:" + className + "]/[method:" + method + "]")
+                .parentUniqueId("[engine:junit-jupiter]/[class:" + className + "]")
+                .className(className)
+                .type("TEST")
+                .build();
+    }
+}
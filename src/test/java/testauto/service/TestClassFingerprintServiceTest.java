@@ -0,0 +1,67 @@
+package testauto.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestClassFingerprintServiceTest {
+
+    @Test
+    void supertypes() throws IOException {
+        assertEquals(List.of(Base.class.getName(), "java.lang.Comparable", "java.io.Serializable"),
+                TestClassFingerprintService.supertypes(classFile(Sub.class)));
+        assertEquals(List.of("java.lang.Object", "java.lang.Runnable"),
+                TestClassFingerprintService.supertypes(classFile(Base.class)));
+    }
+
+    @Test
+    void changesSinceMarksExtendedClasses() {
+        TestClassFingerprintService service = new TestClassFingerprintService();
+        service.commit(1, Map.of("a.BaseTest", "h1", "a.LoginTest", "h2", "a.CheckoutTest", "h3"));
+
+        TestClassFingerprintService.ClassChanges changes = service.changesSince(1, new TestClassFingerprintService.ClassScan(
+                Map.of("a.BaseTest", "h1'", "a.LoginTest", "h2", "a.CheckoutTest", "h3'"),
+                Map.of("a.LoginTest", Set.of("a.BaseTest"))));
+
+        assertEquals(List.of("a.BaseTest", "a.CheckoutTest"), changes.changedClasses());
+        assertEquals(Set.of("a.BaseTest"), changes.extendedClasses());
+        assertTrue(changes.addedClasses().isEmpty());
+        assertTrue(changes.removedClasses().isEmpty());
+    }
+
+    @Test
+    void changesSinceOtherGeneration() {
+        TestClassFingerprintService service = new TestClassFingerprintService();
+        service.commit(1, Map.of("a.LoginTest", "h1"));
+
+        assertNull(service.changesSince(2, new TestClassFingerprintService.ClassScan(Map.of("a.LoginTest", "h1"), Map.of())));
+    }
+
+    private static byte[] classFile(Class<?> type) throws IOException {
+        String name = type.getName().substring(type.getName().lastIndexOf('.') + 1) + ".class";
+        try (InputStream in = type.getResourceAsStream(name)) {
+            return in.readAllBytes();
+        }
+    }
+
+    abstract static class Base implements Runnable {
+    }
+
+    static class Sub extends Base implements Comparable<Sub>, Serializable {
+        @Override
+        public void run() {
+        }
+
+        @Override
+        public int compareTo(Sub other) {
+            return 0;
+        }
+    }
+}
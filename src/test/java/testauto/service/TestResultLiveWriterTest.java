@@ -0,0 +1,69 @@
+package testauto.service;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import testauto.domain.TestExecution;
+import testauto.domain.TestResultRecord;
+import testauto.domain.TestStatus;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class TestResultLiveWriterTest {
+
+    private static final String CLASS_ID = "[engine:junit-jupiter]/[class:a.LoginTest]";
+
+    @Test
+    void flushesFullBatchWithTestCountersOnly() {
+        TestResultPersistenceService persistenceService = mock(TestResultPersistenceService.class);
+        TestResultLiveWriter writer = new TestResultLiveWriter("e1", persistenceService, 3, 60_000);
+
+        writer.accept(record(CLASS_ID + "/[method:ok()]", TestStatus.SUCCESS, 10), true);
+        writer.accept(record(CLASS_ID + "/[method:fail()]", TestStatus.FAILED, 20), true);
+        verifyNoInteractions(persistenceService);
+
+        // 클래스 컨테이너 결과는 함께 저장하지만 카운터에는 넣지 않는다
+        writer.accept(record(CLASS_ID, TestStatus.FAILED, 30), false);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TestResultRecord>> batch = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<TestExecution> delta = ArgumentCaptor.forClass(TestExecution.class);
+        verify(persistenceService).appendBatch(eq("e1"), batch.capture(), delta.capture());
+        assertEquals(3, batch.getValue().size());
+        assertEquals(2, delta.getValue().getTotalTests());
+        assertEquals(1, delta.getValue().getSuccessCount());
+        assertEquals(1, delta.getValue().getFailedCount());
+        assertEquals(30, delta.getValue().getTotalDurationMillis());
+
+        assertEquals(2, writer.persistedTests());
+        assertTrue(writer.isPersisted(CLASS_ID + "/[method:ok()]"));
+        assertTrue(writer.isPersisted(CLASS_ID));
+    }
+
+    @Test
+    void flushIfDueWaitsForInterval() {
+        TestResultPersistenceService persistenceService = mock(TestResultPersistenceService.class);
+        TestResultLiveWriter writer = new TestResultLiveWriter("e1", persistenceService, 100, 60_000);
+
+        writer.accept(record(CLASS_ID + "/[method:ok()]", TestStatus.SUCCESS, 10), true);
+        writer.flushIfDue();
+        verifyNoInteractions(persistenceService);
+        assertFalse(writer.isPersisted(CLASS_ID + "/[method:ok()]"));
+
+        writer.flush();
+        verify(persistenceService).appendBatch(eq("e1"), anyList(), any(TestExecution.class));
+        assertTrue(writer.isPersisted(CLASS_ID + "/[method:ok()]"));
+    }
+
+    private static TestResultRecord record(String testId, TestStatus status, long durationMillis) {
+        return TestResultRecord.builder()
+                .executionId("e1")
+                .testId(testId)
+                .status(status)
+                .durationMillis(durationMillis)
+                .build();
+    }
+}
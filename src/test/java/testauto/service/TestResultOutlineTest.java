@@ -0,0 +1,57 @@
+package testauto.service;
+
+import org.junit.jupiter.api.Test;
+import testauto.domain.TestResultRecord;
+import testauto.domain.TestStatus;
+import testauto.dto.TestResultNodeDto;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestResultOutlineTest {
+
+    private static final String ENGINE = "[engine:junit-jupiter]";
+    private static final String LOGIN = ENGINE + "/[class:a.LoginTest]";
+
+    @Test
+    void outlineTreeNestsByParentTestId() {
+        List<TestResultNodeDto> roots = TestExecutionServiceImpl.outlineTree(List.of(
+                record(1, ENGINE, null, TestStatus.FAILED, false),
+                record(2, LOGIN, ENGINE, TestStatus.FAILED, false),
+                record(3, LOGIN + "/[method:ok()]", LOGIN, TestStatus.SUCCESS, false),
+                record(4, LOGIN + "/[method:fail()]", LOGIN, TestStatus.FAILED, true)));
+
+        assertEquals(1, roots.size());
+        TestResultNodeDto login = roots.get(0).getChildren().get(0);
+        assertEquals(LOGIN, login.getId());
+        assertEquals(List.of(3L, 4L), login.getChildren().stream().map(TestResultNodeDto::getResultId).toList());
+        TestResultNodeDto fail = login.getChildren().get(1);
+        assertEquals("FAILED", fail.getStatus());
+        assertTrue(fail.isHasDetails());
+    }
+
+    @Test
+    void outlineTreeKeepsOrphansAsRoots() {
+        // 부모 결과 행이 없는 행 (중간에 끊긴 실행) 은 루트로
+        List<TestResultNodeDto> roots = TestExecutionServiceImpl.outlineTree(List.of(
+                record(1, LOGIN + "/[method:ok()]", LOGIN, TestStatus.SUCCESS, false),
+                record(2, LOGIN + "/[method:fail()]", LOGIN, TestStatus.FAILED, true)));
+
+        assertEquals(List.of(1L, 2L), roots.stream().map(TestResultNodeDto::getResultId).toList());
+        assertTrue(roots.get(0).getChildren().isEmpty());
+    }
+
+    private static TestResultRecord record(long id, String testId, String parentTestId, TestStatus status,
+                                           boolean hasDetails) {
+        return TestResultRecord.builder()
+                .id(id)
+                .testId(testId)
+                .parentTestId(parentTestId)
+                .displayName(testId)
+                .status(status)
+                .durationMillis(id)
+                .hasDetails(hasDetails)
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package testauto.service;
+
+import org.junit.jupiter.api.Test;
+import testauto.repository.TestRetentionRepository.ResultKey;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestRetentionServiceTest {
+
+    private static final String ENGINE = "[engine:junit-jupiter]";
+    private static final String LOGIN = ENGINE + "/[class:a.LoginTest]";
+    private static final String CHECKOUT = ENGINE + "/[class:a.CheckoutTest]";
+
+    @Test
+    void removableResultIdsKeepsFailuresAndAncestors() {
+        List<ResultKey> keys = List.of(
+                new ResultKey(1, ENGINE, null, "FAILED"),
+                new ResultKey(2, LOGIN, ENGINE, "FAILED"),
+                new ResultKey(3, LOGIN + "/[method:ok()]", LOGIN, "SUCCESS"),
+                new ResultKey(4, LOGIN + "/[method:fail()]", LOGIN, "FAILED"),
+                new ResultKey(5, CHECKOUT, ENGINE, "SUCCESS"),
+                new ResultKey(6, CHECKOUT + "/[method:ok()]", CHECKOUT, "SUCCESS"),
+                new ResultKey(7, CHECKOUT + "/[method:skip()]", CHECKOUT, "SKIPPED"));
+
+        assertEquals(List.of(3L, 5L, 6L, 7L), TestRetentionService.removableResultIds(keys));
+    }
+
+    @Test
+    void removableResultIdsWithoutFailures() {
+        List<ResultKey> keys = List.of(
+                new ResultKey(1, LOGIN, null, "SUCCESS"),
+                new ResultKey(2, LOGIN + "/[method:ok()]", LOGIN, "SUCCESS"));
+
+        assertEquals(List.of(1L, 2L), TestRetentionService.removableResultIds(keys));
+    }
+
+    @Test
+    void removableResultIdsKeepsFailureWithMissingParent() {
+        // 부모 결과 행이 없는 실패 (중간에 끊긴 실행) 도 그대로 남긴다
+        List<ResultKey> keys = List.of(
+                new ResultKey(1, LOGIN + "/[method:fail()]", LOGIN, "FAILED"),
+                new ResultKey(2, LOGIN + "/[method:ok()]", LOGIN, "SUCCESS"));
+
+        assertEquals(List.of(2L), TestRetentionService.removableResultIds(keys));
+    }
+}
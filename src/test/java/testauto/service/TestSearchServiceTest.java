@@ -0,0 +1,40 @@
+package testauto.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestSearchServiceTest {
+
+    @Test
+    void tokenizeSplitsCamelCaseAndDigits() {
+        assertEquals(List.of("loginwithhttpserver2fa", "login", "with", "http", "server", "2", "fa"),
+                List.copyOf(TestSearchService.tokenize("loginWithHTTPServer2Fa")));
+        assertEquals(List.of("checkout", "v2", "v", "2", "flow"),
+                List.copyOf(TestSearchService.tokenize("checkout_v2-flow")));
+    }
+
+    @Test
+    void tokenizeAddsHangulBigrams() {
+        assertEquals(List.of("로그인", "로그", "그인", "성공", "테스트", "테스", "스트"),
+                List.copyOf(TestSearchService.tokenize("로그인 성공 테스트")));
+    }
+
+    @Test
+    void tokenizeBlank() {
+        assertTrue(TestSearchService.tokenize(null).isEmpty());
+        assertTrue(TestSearchService.tokenize("  ").isEmpty());
+    }
+
+    @Test
+    void withinOneEdit() {
+        assertTrue(TestSearchService.withinOneEdit("login", "logn"));
+        assertTrue(TestSearchService.withinOneEdit("login", "logins"));
+        assertTrue(TestSearchService.withinOneEdit("login", "lagin"));
+        assertFalse(TestSearchService.withinOneEdit("login", "login"));
+        assertFalse(TestSearchService.withinOneEdit("login", "lgoin"));
+        assertFalse(TestSearchService.withinOneEdit("login", "lag"));
+    }
+}